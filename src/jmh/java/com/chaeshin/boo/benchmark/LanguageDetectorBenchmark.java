@@ -0,0 +1,65 @@
+package com.chaeshin.boo.benchmark;
+
+import com.chaeshin.boo.domain.LangCode;
+import com.chaeshin.boo.utils.translator.LanguageDetector;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 로컬 언어 감지 1회 평균 시간 측정. DeepL 감지 호출(수십~수백 ms)을 대신하려면 1 ms 보다 충분히 빨라야 한다. (./gradlew jmh)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LanguageDetectorBenchmark {
+
+    private LanguageDetector detector;
+    private String[] texts;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        detector = new LanguageDetector();
+        texts = texts().toArray(new String[0]);
+    }
+
+    /*samples.tsv 의 리뷰 문장을 돌아가며 감지*/
+    @Benchmark
+    public LangCode detect() {
+        String text = texts[next];
+        next = next + 1 == texts.length ? 0 : next + 1;
+        return detector.detect(text);
+    }
+
+    private static List<String> texts() throws IOException {
+        List<String> texts = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                LanguageDetectorBenchmark.class.getResourceAsStream("/langdetect/samples.tsv"), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank() && !line.startsWith("#")) {
+                    texts.add(line.split("\t", 2)[1]);
+                }
+            }
+        }
+        return texts;
+    }
+}
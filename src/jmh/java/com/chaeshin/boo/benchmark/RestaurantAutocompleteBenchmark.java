@@ -0,0 +1,92 @@
+package com.chaeshin.boo.benchmark;
+
+import com.chaeshin.boo.service.restaurant.search.PrefixTrie;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+/**
+ * 10만 개 식당 이름에 대해 여러 사용자가 동시에 한 글자씩 입력할 때의 자동완성 지연시간 측정. (./gradlew jmh)
+ * <br></br>
+ * 스레드마다 임의의 이름을 골라 한 글자씩 늘려가며 조회한다. 결과는 p50/p99 등 백분위로 나온다.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(16)
+public class RestaurantAutocompleteBenchmark {
+
+    private static final int SIZE = 100_000;
+    private static final String[] SYLLABLES = {
+            "맛", "집", "국", "밥", "찌", "개", "김", "치", "분", "식", "초", "밥", "라", "멘", "카", "페",
+            "돈", "까", "스", "떡", "볶", "이", "순", "대", "냉", "면", "족", "발", "보", "쌈", "피", "자"};
+
+    /*모든 스레드가 같이 조회하는 트라이*/
+    @State(Scope.Benchmark)
+    public static class Catalog {
+        private String[] names;
+        private PrefixTrie<Integer> trie;
+
+        @Setup
+        public void setUp() {
+            Random random = new Random(42);
+            names = new String[SIZE];
+            PrefixTrie.Builder<Integer> builder = new PrefixTrie.Builder<>(10, Comparator.<Integer>naturalOrder());
+            for (int i = 0; i < SIZE; i++) {
+                names[i] = randomName(random);
+                builder.add(i, names[i]);
+            }
+            trie = builder.build();
+        }
+    }
+
+    /*스레드별로 입력 중인 이름과 지금까지 입력한 글자 수*/
+    @State(Scope.Thread)
+    public static class Typing {
+        private Random random;
+        private String name = "";
+        private int length;
+
+        @Setup
+        public void setUp(ThreadParams threadParams) {
+            random = new Random(threadParams.getThreadIndex());
+        }
+
+        String nextPrefix(String[] names) {
+            if (length == name.length()) {
+                name = names[random.nextInt(names.length)];
+                length = 0;
+            }
+            return name.substring(0, ++length);
+        }
+    }
+
+    @Benchmark
+    public List<Integer> suggest(Catalog catalog, Typing typing) {
+        return catalog.trie.suggest(typing.nextPrefix(catalog.names), 10);
+    }
+
+    private static String randomName(Random random) {
+        int length = 2 + random.nextInt(5);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return sb.toString();
+    }
+}
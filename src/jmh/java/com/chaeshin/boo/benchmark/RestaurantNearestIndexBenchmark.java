@@ -0,0 +1,69 @@
+package com.chaeshin.boo.benchmark;
+
+import com.chaeshin.boo.service.restaurant.geo.KdTree;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 10만 개 좌표에 대한 KD-트리 k-최근접 조회 지연시간 측정. 결과는 p50/p99 등 백분위로 나온다. (./gradlew jmh)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RestaurantNearestIndexBenchmark {
+
+    private static final int SIZE = 100_000;
+    private static final int QUERIES = 1 << 16; // 미리 만들어 둔 조회 좌표 수
+
+    private KdTree tree;
+    private int[] categories;
+    private double[] queryLatitudes;
+    private double[] queryLongitudes;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        double[] latitudes = new double[SIZE];
+        double[] longitudes = new double[SIZE];
+        categories = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            latitudes[i] = 37.6 + (random.nextDouble() - 0.5) * 0.2;
+            longitudes[i] = 127.05 + (random.nextDouble() - 0.5) * 0.2;
+            categories[i] = random.nextInt(10);
+        }
+        tree = KdTree.build(latitudes, longitudes);
+
+        queryLatitudes = new double[QUERIES];
+        queryLongitudes = new double[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queryLatitudes[i] = 37.6 + (random.nextDouble() - 0.5) * 0.2;
+            queryLongitudes[i] = 127.05 + (random.nextDouble() - 0.5) * 0.2;
+        }
+    }
+
+    @Benchmark
+    public KdTree.Result nearest() {
+        int i = next++ & (QUERIES - 1);
+        return tree.nearest(queryLatitudes[i], queryLongitudes[i], 10, null);
+    }
+
+    @Benchmark
+    public KdTree.Result nearestWithCategoryFilter() {
+        int i = next++ & (QUERIES - 1);
+        return tree.nearest(queryLatitudes[i], queryLongitudes[i], 10, o -> categories[o] == 3);
+    }
+}
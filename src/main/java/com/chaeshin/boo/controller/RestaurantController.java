@@ -1,10 +1,17 @@
 package com.chaeshin.boo.controller;
 
+import com.chaeshin.boo.domain.restaurant.Category;
 import com.chaeshin.boo.exception.ExpiredTokenException;
 import com.chaeshin.boo.exception.TokenNotFoundException;
 import com.chaeshin.boo.service.restaurant.RestaurantService;
+import com.chaeshin.boo.service.restaurant.catalog.MapSnapshot;
+import com.chaeshin.boo.service.restaurant.dto.AutocompleteDto;
+import com.chaeshin.boo.service.restaurant.dto.MapClusterDto;
+import com.chaeshin.boo.service.restaurant.dto.MapDeltaDto;
 import com.chaeshin.boo.service.restaurant.dto.MapInfoDto;
 import com.chaeshin.boo.service.restaurant.dto.MenuDto;
+import com.chaeshin.boo.service.restaurant.dto.NearestRestaurantDto;
+import com.chaeshin.boo.service.restaurant.dto.RankedRestaurantDto;
 import com.chaeshin.boo.service.restaurant.dto.RestaurantInfoDto;
 import com.chaeshin.boo.service.restaurant.dto.RestaurantSearchDto;
 import com.chaeshin.boo.utils.geocoding.GeoCoding;
@@ -13,11 +20,13 @@ import com.chaeshin.boo.utils.ResponseDto;
 import com.chaeshin.boo.utils.geocoding.CoordinateDto;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -30,16 +39,137 @@ public class RestaurantController {
     private final JwtProvider jwtProvider;
     private final GeoCoding geoCoding;
 
+    private static final String CATALOG_VERSION_HEADER = "X-Catalog-Version"; // 전체 응답의 버전. 변경분 동기화의 기준
+
+    /**
+     * 모든 식당의 위경도 조회.
+     * <br></br>
+     * 카탈로그 버전별로 미리 직렬화/압축된 응답을 내려주며, 클라이언트가 현재 버전의 ETag 를 보내면 본문 없이 304 로 응답한다.
+     */
     @GetMapping("/location/")
-    public ResponseEntity<ResponseDto<LinkedList<MapInfoDto>>> getLocation(
-            HttpServletRequest request) {
+    public ResponseEntity<byte[]> getLocation(
+            HttpServletRequest request,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        try {jwtProvider.validateToken(request);}
+        catch (ExpiredTokenException e) {throw e;}
+        catch (TokenNotFoundException e) {throw e;}
+
+        try {
+            MapSnapshot snapshot = restaurantService.getMapSnapshot();
+            boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+
+            if (snapshot.matches(ifNoneMatch)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(snapshot.etag(gzip))
+                        .build();
+            }
+
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .eTag(snapshot.etag(gzip))
+                    .header(CATALOG_VERSION_HEADER, snapshot.getVersionToken())
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .contentType(MediaType.APPLICATION_JSON);
+            if (gzip) {
+                return response.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                        .body(snapshot.getGzippedJson());
+            }
+            return response.body(snapshot.getJson());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * 변경분 동기화. since 버전 이후 생성/평점 변경/삭제된 식당만 반환한다.
+     * since 는 X-Catalog-Version 이나 이전 응답의 version 토큰이며, 다른 인스턴스의 토큰이면 전체 재동기화를 요구한다.
+     */
+    @GetMapping("/location/changes/")
+    public ResponseEntity<ResponseDto<MapDeltaDto>> getLocationChanges(
+            HttpServletRequest request, @RequestParam("since") String since) {
+        try {jwtProvider.validateToken(request);}
+        catch (ExpiredTokenException e) {throw e;}
+        catch (TokenNotFoundException e) {throw e;}
+
+        try {
+            return new ResponseEntity<>(
+                    restaurantService.getRestaurantChanges(since),
+                    HttpStatus.OK);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/location/bounds/")
+    public ResponseEntity<ResponseDto<List<MapInfoDto>>> getLocationWithin(
+            HttpServletRequest request,
+            @RequestParam("min_lat") double minLatitude, @RequestParam("min_lng") double minLongitude,
+            @RequestParam("max_lat") double maxLatitude, @RequestParam("max_lng") double maxLongitude) {
+        try {jwtProvider.validateToken(request);}
+        catch (ExpiredTokenException e) {throw e;}
+        catch (TokenNotFoundException e) {throw e;}
+
+        try {
+            return new ResponseEntity<>(
+                    restaurantService.getRestaurantsWithin(minLatitude, minLongitude, maxLatitude, maxLongitude),
+                    HttpStatus.OK);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/location/clusters/")
+    public ResponseEntity<ResponseDto<List<MapClusterDto>>> getLocationClusters(
+            HttpServletRequest request, @RequestParam("zoom") int zoom,
+            @RequestParam("min_lat") double minLatitude, @RequestParam("min_lng") double minLongitude,
+            @RequestParam("max_lat") double maxLatitude, @RequestParam("max_lng") double maxLongitude) {
         try {jwtProvider.validateToken(request);}
         catch (ExpiredTokenException e) {throw e;}
         catch (TokenNotFoundException e) {throw e;}
 
         try {
             return new ResponseEntity<>(
-                    restaurantService.getAllRestaurants(),
+                    restaurantService.getRestaurantClusters(zoom, minLatitude, minLongitude, maxLatitude, maxLongitude),
+                    HttpStatus.OK);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/nearest/")
+    public ResponseEntity<ResponseDto<List<NearestRestaurantDto>>> getNearest(
+            HttpServletRequest request,
+            @RequestParam("lat") double latitude, @RequestParam("lng") double longitude,
+            @RequestParam(value = "k", defaultValue = "10") int k,
+            @RequestParam(value = "category", required = false) Category category,
+            @RequestParam(value = "min_score", required = false) Double minScore) {
+        try {jwtProvider.validateToken(request);}
+        catch (ExpiredTokenException e) {throw e;}
+        catch (TokenNotFoundException e) {throw e;}
+
+        try {
+            return new ResponseEntity<>(
+                    restaurantService.getNearestRestaurants(latitude, longitude, k, category, minScore),
+                    HttpStatus.OK);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/ranking/")
+    public ResponseEntity<ResponseDto<List<RankedRestaurantDto>>> getRanking(
+            HttpServletRequest request,
+            @RequestParam(value = "category", required = false) Category category,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        try {jwtProvider.validateToken(request);}
+        catch (ExpiredTokenException e) {throw e;}
+        catch (TokenNotFoundException e) {throw e;}
+
+        try {
+            return new ResponseEntity<>(
+                    restaurantService.getRestaurantRanking(category, page, size),
                     HttpStatus.OK);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -97,6 +227,24 @@ public class RestaurantController {
         }
     }
 
+    @GetMapping("/autocomplete/")
+    public ResponseEntity<ResponseDto<List<AutocompleteDto>>> getAutocomplete(
+            HttpServletRequest request, @RequestParam("q") String prefix,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        try {jwtProvider.validateToken(request);}
+        catch (ExpiredTokenException e) {throw e;}
+        catch (TokenNotFoundException e) {throw e;}
+
+        try {
+            return new ResponseEntity<>(
+                    restaurantService.autocomplete(prefix, limit),
+                    HttpStatus.OK
+            );
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     @PostMapping("/address/")
     public ResponseEntity<ResponseDto<CoordinateDto>> getCoordinate(@RequestBody Map<String, String> request) {
         ResponseDto<CoordinateDto> result = restaurantService.getRestaurantCoordinates(request);
@@ -1,5 +1,6 @@
 package com.chaeshin.boo.controller;
 
+import com.chaeshin.boo.domain.LangCode;
 import com.chaeshin.boo.exception.ExpiredTokenException;
 import com.chaeshin.boo.exception.TokenNotFoundException;
 import com.chaeshin.boo.service.restaurant.dto.RestaurantSimpleDto;
@@ -14,6 +15,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 
@@ -39,6 +41,25 @@ public class ReviewController {
         }
     }
 
+    @GetMapping("/myreview/page/")
+    public ResponseEntity<ResponseDto<ReviewPageDto>> getMyReviewPage(
+            HttpServletRequest request,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        try {jwtProvider.validateToken(request);}
+        catch (ExpiredTokenException e) {throw e;}
+        catch (TokenNotFoundException e) {throw e;}
+        try {
+            Long memberId = jwtProvider.getMemberId(request);
+            ResponseDto<ReviewPageDto> result = reviewService.getReviewPageByMemberId(memberId, cursor, size);
+            return new ResponseEntity<>(result, HttpStatus.OK);
+        } catch (IllegalArgumentException e) { // 형식이 잘못된 커서
+            return new ResponseEntity<>(new ResponseDto<>("잘못된 커서", null), HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     @GetMapping("/restaurant/{restaurantId}/")
     public ResponseEntity<ResponseDto<List<ReviewDto>>> getRestaurantByReview(
             HttpServletRequest request, @PathVariable Long restaurantId) {
@@ -55,6 +76,47 @@ public class ReviewController {
         }
     }
 
+    @GetMapping("/restaurant/{restaurantId}/page/")
+    public ResponseEntity<ResponseDto<ReviewPageDto>> getRestaurantReviewPage(
+            HttpServletRequest request, @PathVariable Long restaurantId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        try {jwtProvider.validateToken(request);}
+        catch (ExpiredTokenException e) {throw e;}
+        catch (TokenNotFoundException e) {throw e;}
+
+        try {
+            ResponseDto<ReviewPageDto> result = reviewService
+                    .getReviewPageByRestaurantId(restaurantId, cursor, size);
+            return new ResponseEntity<>(result, HttpStatus.OK);
+        } catch (IllegalArgumentException e) { // 형식이 잘못된 커서
+            return new ResponseEntity<>(new ResponseDto<>("잘못된 커서", null), HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping("/restaurant/{restaurantId}/trans/page/")
+    public ResponseEntity<ResponseDto<TranslatedReviewPageDto>> getTranslatedRestaurantReviewPage(
+            HttpServletRequest request, @PathVariable Long restaurantId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        try {jwtProvider.validateToken(request);}
+        catch (ExpiredTokenException e) {throw e;}
+        catch (TokenNotFoundException e) {throw e;}
+
+        try {
+            Long memberId = jwtProvider.getMemberId(request);
+            ResponseDto<TranslatedReviewPageDto> result = reviewService
+                    .getTranslatedReviewPageByRestaurantId(memberId, restaurantId, cursor, size);
+            return new ResponseEntity<>(result, HttpStatus.OK);
+        } catch (IllegalArgumentException e) { // 형식이 잘못된 커서
+            return new ResponseEntity<>(new ResponseDto<>("잘못된 커서", null), HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     @GetMapping("/restaurant/simpleinfo/{reviewId}/")
     public ResponseEntity<ResponseDto<RestaurantSimpleDto>> getRestaurantSimpleInfo(
             HttpServletRequest request, @PathVariable Long reviewId) {
@@ -71,6 +133,25 @@ public class ReviewController {
         }
     }
 
+    @GetMapping("/search/")
+    public ResponseEntity<ResponseDto<List<ReviewSearchDto>>> searchReviews(
+            HttpServletRequest request, @RequestParam("q") String query,
+            @RequestParam(value = "restaurant", required = false) Long restaurantId,
+            @RequestParam(value = "lang", required = false) LangCode langCode,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        try {jwtProvider.validateToken(request);}
+        catch (ExpiredTokenException e) {throw e;}
+        catch (TokenNotFoundException e) {throw e;}
+
+        try {
+            ResponseDto<List<ReviewSearchDto>> result = reviewService
+                    .searchReviews(query, restaurantId, langCode, size);
+            return new ResponseEntity<>(result, HttpStatus.OK);
+        } catch (Exception e){
+            return new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     @GetMapping("/user/{memberId}/")
     public ResponseEntity<ResponseDto<List<ReviewDto>>> getMemberReviews
             (HttpServletRequest request, @PathVariable Long memberId) {
@@ -87,6 +168,26 @@ public class ReviewController {
         }
     }
 
+    @GetMapping("/user/{memberId}/page/")
+    public ResponseEntity<ResponseDto<ReviewPageDto>> getMemberReviewPage(
+            HttpServletRequest request, @PathVariable Long memberId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        try {jwtProvider.validateToken(request);}
+        catch (ExpiredTokenException e) {throw e;}
+        catch (TokenNotFoundException e) {throw e;}
+
+        try {
+            ResponseDto<ReviewPageDto> result = reviewService
+                    .getReviewPageByMemberId(memberId, cursor, size);
+            return new ResponseEntity<>(result, HttpStatus.OK);
+        } catch (IllegalArgumentException e) { // 형식이 잘못된 커서
+            return new ResponseEntity<>(new ResponseDto<>("잘못된 커서", null), HttpStatus.BAD_REQUEST);
+        } catch (Exception e){
+            return new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     @PostMapping("/create/{restaurantId}/")
     public ResponseEntity<ResponseDto<ReviewDto>> createReview(
             HttpServletRequest request, @PathVariable Long restaurantId,
@@ -171,6 +272,28 @@ public class ReviewController {
         }
     }
 
+    @PostMapping("/trans/batch/")
+    public ResponseEntity<ResponseDto<List<TranslatedBodyDto>>> translateReviews(
+            HttpServletRequest request, @RequestBody(required = false) ReviewTranslateBatchRequestDto batchRequestDto) {
+        try {jwtProvider.validateToken(request);}
+        catch (ExpiredTokenException e) {throw e;}
+        catch (TokenNotFoundException e) {throw e;}
+
+        Long memberId = jwtProvider.getMemberId(request);
+
+        try {
+            return new ResponseEntity<>(
+                    reviewService.translateReviews(memberId,
+                            batchRequestDto == null ? null : batchRequestDto.getReviewIds()),
+                    HttpStatus.OK
+            );
+        } catch (ResponseStatusException e) { // review_ids 누락/초과
+            return new ResponseEntity<>(new ResponseDto<>(e.getReason(), null), e.getStatusCode());
+        } catch (Exception e){
+            return new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     @PostMapping("/image/upload/{reviewId}/")
     public ResponseEntity<ResponseDto<ImageUploadDto>> uploadImage (
             @PathVariable Long reviewId,@RequestParam(name = "original_image") MultipartFile image) {
@@ -26,7 +26,7 @@ public class Member {
     private LangCode langCode; // 유저 선호 언어
 
     @OneToMany(mappedBy = "member", cascade = CascadeType.ALL)
-    private List<Review> reviews = new ArrayList<>();
+    private List<Review> reviews = new ArrayList<>(); // 조회 전용. 리뷰 작성/삭제 시 채우지 않음
 
     @Builder
     public Member(@NonNull String googleId, @NonNull String nickname, @NonNull LangCode langCode) {
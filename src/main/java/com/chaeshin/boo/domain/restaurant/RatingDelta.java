@@ -0,0 +1,36 @@
+package com.chaeshin.boo.domain.restaurant;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * 한 식당의 리뷰 수/누적 점수/점수 분포 변화량.
+ */
+@Getter
+@EqualsAndHashCode
+public class RatingDelta {
+
+    private final Long restaurantId;
+    private final int reviewCnt;
+    private final int score;
+    private final int[] scoreCounts; // ScoreHistogram 구간별 리뷰 수 변화량
+
+    public RatingDelta(Long restaurantId, int reviewCnt, int score, int[] scoreCounts) {
+        this.restaurantId = restaurantId;
+        this.reviewCnt = reviewCnt;
+        this.score = score;
+        this.scoreCounts = scoreCounts;
+    }
+
+    public boolean isEmpty() {
+        if (reviewCnt != 0 || score != 0) {
+            return false;
+        }
+        for (int count : scoreCounts) {
+            if (count != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
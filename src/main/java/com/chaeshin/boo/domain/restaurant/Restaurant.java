@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -13,7 +14,11 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor
-@Table(indexes = @Index(name = "restaurant_index", columnList = "name"))
+@DynamicUpdate // 리뷰 집계 컬럼은 applyReviewDeltas 로만 갱신하므로, 다른 필드 수정 시 오래된 집계 값으로 덮어쓰지 않도록 한다.
+@EntityListeners(RestaurantEntityListener.class)
+@Table(indexes = {
+        @Index(name = "restaurant_index", columnList = "name"),
+        @Index(name = "restaurant_coordinate_index", columnList = "latitude, longitude")})
 public class Restaurant {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -22,8 +27,8 @@ public class Restaurant {
 
     private String name;
     private String imageUrl;
-    private String latitude; // 위도
-    private String longitude; // 경도
+    private Double latitude; // 위도
+    private Double longitude; // 경도
     private String businessHours;
     private String address;
     private String phone;
@@ -33,18 +38,21 @@ public class Restaurant {
     @Column(precision = 2, scale = 1)
     private BigDecimal scoreAvg; // 리뷰 평균 점수
 
+    @Embedded
+    private ScoreHistogram scoreHistogram = new ScoreHistogram(); // 점수별 리뷰 수
+
     @Enumerated(EnumType.STRING)
     private Category category;
 
     @OneToMany(mappedBy = "restaurant", cascade = CascadeType.ALL)
-    private List<Review> reviews = new ArrayList<>();
+    private List<Review> reviews = new ArrayList<>(); // 조회 전용. 리뷰 작성/삭제 시 채우지 않음
 
     @OneToMany(mappedBy = "restaurant", cascade = CascadeType.ALL)
     private List<Menu> menus = new ArrayList<>();
 
     @Builder
-    public Restaurant(String name, String imageUrl, String latitude,
-                      String longitude, String businessHours,
+    public Restaurant(String name, String imageUrl, Double latitude,
+                      Double longitude, String businessHours,
                       String address, String phone, int reviewCnt,
                       int scoreAccum, BigDecimal scoreAvg, Category category) {
         this.name = name;
@@ -59,27 +67,4 @@ public class Restaurant {
         this.scoreAvg = scoreAvg;
         this.category = category;
     }
-
-    public void addReview(Review review) {
-        reviews.add(review);
-        this.reviewCnt += 1;
-        this.scoreAccum += review.getScore();
-        this.scoreAvg = BigDecimal.valueOf((double)this.scoreAccum / this.reviewCnt);
-    }
-
-    public void updateReview(int diff) {
-        this.scoreAccum += diff;
-        this.scoreAvg = BigDecimal.valueOf((double)this.scoreAccum / this.reviewCnt);
-    }
-
-    public void deleteReview(Review review) {
-        this.reviewCnt -= 1;
-        this.scoreAccum -= review.getScore();
-        if (reviewCnt == 0) {
-            this.scoreAccum = 0;
-        } else {
-            this.scoreAvg = BigDecimal.valueOf((double)this.scoreAccum / this.reviewCnt);
-        }
-        reviews.remove(review);
-    }
 }
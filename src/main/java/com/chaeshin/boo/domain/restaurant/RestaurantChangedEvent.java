@@ -0,0 +1,33 @@
+package com.chaeshin.boo.domain.restaurant;
+
+import com.chaeshin.boo.service.restaurant.dto.MapInfoDto;
+import lombok.Getter;
+
+/**
+ * 식당 정보(좌표, 평점, 리뷰 수 등)가 변경되었음을 알리는 이벤트.
+ * <br></br>
+ * 변경 시점의 스냅샷(MapInfoDto)을 함께 전달하여, 이벤트를 구독하는 인메모리 인덱스들이 엔티티나 DB 에 다시 접근하지 않도록 한다.
+ */
+@Getter
+public class RestaurantChangedEvent {
+
+    public enum Type { SAVED, REMOVED }
+
+    private final Type type;
+    private final Long restaurantId;
+    private final MapInfoDto restaurant; // REMOVED 의 경우 null
+
+    private RestaurantChangedEvent(Type type, Long restaurantId, MapInfoDto restaurant) {
+        this.type = type;
+        this.restaurantId = restaurantId;
+        this.restaurant = restaurant;
+    }
+
+    public static RestaurantChangedEvent saved(Restaurant restaurant) {
+        return new RestaurantChangedEvent(Type.SAVED, restaurant.getId(), new MapInfoDto(restaurant));
+    }
+
+    public static RestaurantChangedEvent removed(Long restaurantId) {
+        return new RestaurantChangedEvent(Type.REMOVED, restaurantId, null);
+    }
+}
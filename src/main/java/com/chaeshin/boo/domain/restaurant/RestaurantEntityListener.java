@@ -0,0 +1,31 @@
+package com.chaeshin.boo.domain.restaurant;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Restaurant 엔티티의 저장/수정/삭제를 감지하여 RestaurantChangedEvent 를 발행하는 JPA 엔티티 리스너.
+ * <br></br>
+ * Hibernate 가 Spring 빈 컨테이너를 사용하므로 생성자 주입이 가능하다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RestaurantEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Restaurant restaurant) {
+        eventPublisher.publishEvent(RestaurantChangedEvent.saved(restaurant));
+    }
+
+    @PostRemove
+    public void onRemoved(Restaurant restaurant) {
+        eventPublisher.publishEvent(RestaurantChangedEvent.removed(restaurant.getId()));
+    }
+}
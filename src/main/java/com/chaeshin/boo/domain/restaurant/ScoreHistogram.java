@@ -0,0 +1,56 @@
+package com.chaeshin.boo.domain.restaurant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 식당 리뷰 점수 분포. 점수(1~5)마다 리뷰 수를 보관하며, 리뷰 수/누적 점수와 함께 RatingAccumulator 가 변화량으로 갱신한다.
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor
+public class ScoreHistogram {
+
+    public static final int MIN_SCORE = 1;
+    public static final int MAX_SCORE = 5;
+    public static final int BUCKETS = MAX_SCORE - MIN_SCORE + 1;
+
+    @Column(name = "score1_cnt")
+    private int score1Cnt;
+    @Column(name = "score2_cnt")
+    private int score2Cnt;
+    @Column(name = "score3_cnt")
+    private int score3Cnt;
+    @Column(name = "score4_cnt")
+    private int score4Cnt;
+    @Column(name = "score5_cnt")
+    private int score5Cnt;
+
+    /**
+     * 점수가 속한 구간의 인덱스(0 ~ BUCKETS - 1). 범위를 벗어난 점수는 가장 가까운 구간에 포함한다.
+     */
+    public static int bucket(int score) {
+        return Math.min(Math.max(score, MIN_SCORE), MAX_SCORE) - MIN_SCORE;
+    }
+
+    public int[] toArray() {
+        return new int[]{score1Cnt, score2Cnt, score3Cnt, score4Cnt, score5Cnt};
+    }
+
+    /**
+     * @return 점수 -> 리뷰 수 (1 ~ 5 순서)
+     */
+    public Map<Integer, Integer> toMap() {
+        int[] counts = toArray();
+        Map<Integer, Integer> map = new LinkedHashMap<>();
+        for (int i = 0; i < BUCKETS; i++) {
+            map.put(MIN_SCORE + i, counts[i]);
+        }
+        return map;
+    }
+}
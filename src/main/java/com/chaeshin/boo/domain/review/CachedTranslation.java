@@ -0,0 +1,43 @@
+package com.chaeshin.boo.domain.review;
+
+import com.chaeshin.boo.domain.LangCode;
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 리뷰와 무관하게 재사용하는 번역 결과. 정규화한 원문의 해시와 표적 언어로 찾는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "cached_translation_key", columnNames = {"text_hash", "target_lang_code"}))
+public class CachedTranslation {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "cached_translation_id")
+    private Long id;
+
+    @Column(name = "text_hash", length = 64, nullable = false)
+    private String textHash; // 정규화한 원문의 SHA-256 (hex)
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_lang_code", nullable = false)
+    private LangCode targetLangCode;
+
+    @Enumerated(EnumType.STRING)
+    private LangCode sourceLangCode; // DeepL 이 감지한 원문 언어
+
+    @Column(columnDefinition = "TEXT")
+    private String translatedText;
+
+    @Builder
+    public CachedTranslation(String textHash, LangCode targetLangCode, LangCode sourceLangCode, String translatedText) {
+        this.textHash = textHash;
+        this.targetLangCode = targetLangCode;
+        this.sourceLangCode = sourceLangCode;
+        this.translatedText = translatedText;
+    }
+}
@@ -15,11 +15,15 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 @Entity
 @Getter
 @NoArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
+@Table(indexes = {
+        @Index(name = "review_restaurant_page_index", columnList = "restaurant_id, created_at, review_id"),
+        @Index(name = "review_member_page_index", columnList = "member_id, created_at, review_id")})
 public class Review {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -46,13 +50,22 @@ public class Review {
     private int score;
 
     @Enumerated(EnumType.STRING)
-    private LangCode langCode; // 리뷰 본문 언어
+    private LangCode langCode; // 리뷰 본문 언어. 비동기 번역 전에는 null 일 수 있음
+
+    @Enumerated(EnumType.STRING)
+    private TranslationStatus translationStatus;
+
+    private int bodyVersion; // 본문 버전. 본문이 바뀔 때마다 증가하며, 이전 버전의 번역본은 stale 로 본다
 
     @CreatedDate
+    @Column(name = "created_at")
     private LocalDateTime createdAt;
 
     /**
      * 필드를 인자로 갖는 Builder. Member, Restaurant은 필수.
+     * <br></br>
+     * Member.reviews, Restaurant.reviews 컬렉션에는 추가하지 않는다. 지연 컬렉션이 초기화되어 기존 리뷰 전체를 읽게 되므로,
+     * 식당의 리뷰 수/점수는 RatingAccumulator 가 따로 갱신한다. langCode 가 없으면 번역 대기(PENDING) 상태로 생성된다.
      * @param member : <b>@NonNull</b>
      * @param restaurant : <b>@NonNull</b>
      * @param title
@@ -69,22 +82,36 @@ public class Review {
         this.body = body;
         this.langCode = langCode;
         this.score = score;
-
-        // 양방향 연관관계 맺어주기
-        member.getReviews().add(this);
-        restaurant.addReview(this);
+        this.translationStatus = langCode == null ? TranslationStatus.PENDING : TranslationStatus.COMPLETED;
     }
 
+    /**
+     * 리뷰 수정. 본문이 바뀌면 bodyVersion 을 올려 기존 번역본을 모두 stale 로 만든다(번역본 행은 수정하지 않음).
+     */
     public void updateReview(String title, String body, int score) {
-        int diff = this.score - score;
+        if (!Objects.equals(this.body, body)) {
+            this.bodyVersion++;
+        }
         this.title = title;
         this.body = body;
         this.score = score;
-        this.restaurant.updateReview(diff);
     }
 
-    public void deleteReview() {
-        member.getReviews().remove(this);
-        restaurant.deleteReview(this);
+    /**
+     * 번역 결과로 감지된 원문 언어 반영. 이미 언어가 정해져 있으면 유지한다.
+     */
+    public void detectLangCode(LangCode detected) {
+        if (this.langCode == null) {
+            this.langCode = detected;
+        }
+    }
+
+    public void completeTranslation(LangCode detected) {
+        detectLangCode(detected);
+        this.translationStatus = TranslationStatus.COMPLETED;
+    }
+
+    public void failTranslation() {
+        this.translationStatus = TranslationStatus.FAILED;
     }
 }
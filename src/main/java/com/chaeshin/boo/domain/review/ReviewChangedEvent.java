@@ -0,0 +1,56 @@
+package com.chaeshin.boo.domain.review;
+
+import com.chaeshin.boo.domain.LangCode;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * 리뷰 본문(원문 또는 번역본)이나 이미지가 작성/수정/삭제되었음을 알리는 이벤트.
+ * <br></br>
+ * 발행 시점의 본문과 번역본을 함께 전달하여, 커밋 이후 실행되는 구독자가 지연 로딩 없이 사용할 수 있도록 한다.
+ */
+@Getter
+public class ReviewChangedEvent {
+
+    public enum Type { SAVED, REMOVED, IMAGE_UPLOADED }
+
+    private final Type type;
+    private final Long reviewId;
+    private final Long restaurantId;
+    private final LangCode langCode; // 원문 언어. SAVED 가 아닌 경우 null
+    private final String title;
+    private final String body;
+    private final Map<LangCode, String> translations; // 언어별 번역본 본문
+
+    private ReviewChangedEvent(Type type, Long reviewId, Long restaurantId, LangCode langCode,
+                               String title, String body, Map<LangCode, String> translations) {
+        this.type = type;
+        this.reviewId = reviewId;
+        this.restaurantId = restaurantId;
+        this.langCode = langCode;
+        this.title = title;
+        this.body = body;
+        this.translations = translations;
+    }
+
+    public static ReviewChangedEvent saved(Review review) {
+        Map<LangCode, String> translations = new EnumMap<>(LangCode.class);
+        for (TranslatedReview tr : review.getTranslatedReviews()) {
+            if (tr.getLangCode() != null && tr.getBody() != null) {
+                translations.put(tr.getLangCode(), tr.getBody());
+            }
+        }
+        return new ReviewChangedEvent(Type.SAVED, review.getId(), review.getRestaurant().getId(),
+                review.getLangCode(), review.getTitle(), review.getBody(), Collections.unmodifiableMap(translations));
+    }
+
+    public static ReviewChangedEvent removed(Long reviewId, Long restaurantId) {
+        return new ReviewChangedEvent(Type.REMOVED, reviewId, restaurantId, null, null, null, Map.of());
+    }
+
+    public static ReviewChangedEvent imageUploaded(Long reviewId, Long restaurantId) {
+        return new ReviewChangedEvent(Type.IMAGE_UPLOADED, reviewId, restaurantId, null, null, null, Map.of());
+    }
+}
@@ -10,6 +10,8 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "translated_review_lang", columnNames = {"review_id", "lang_code"})) // 리뷰당 언어별 번역본 1개
 public class TranslatedReview {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -21,6 +23,8 @@ public class TranslatedReview {
     @Enumerated(EnumType.STRING)
     private LangCode langCode; // 번역된 언어 코드
 
+    private int sourceVersion; // 번역한 원문의 Review.bodyVersion
+
     @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     @NotNull
     @JoinColumn(name = "review_id")
@@ -32,6 +36,7 @@ public class TranslatedReview {
         this.body = body;
         this.langCode = langCode;
         this.review = review;
+        this.sourceVersion = review.getBodyVersion();
 
         // 양방향 연관관계 맺어주기
         review.getTranslatedReviews().add(this);
@@ -39,4 +44,16 @@ public class TranslatedReview {
 
     // 편의 기능 메서드
     public void updateBody(String newBody){this.body = newBody;}
+
+    public void updateBody(String newBody, int sourceVersion) {
+        this.body = newBody;
+        this.sourceVersion = sourceVersion;
+    }
+
+    /**
+     * 원문이 번역 이후 수정되었는지 여부
+     */
+    public boolean isStale() {
+        return sourceVersion < review.getBodyVersion();
+    }
 }
@@ -0,0 +1,10 @@
+package com.chaeshin.boo.domain.review;
+
+/**
+ * 리뷰 작성 후 비동기로 진행되는 언어 감지/번역 상태
+ */
+public enum TranslationStatus {
+    PENDING, // 번역 대기 중. 원문 언어(src_lang)가 아직 감지되지 않았을 수 있음
+    COMPLETED,
+    FAILED // 재시도 횟수 초과
+}
@@ -0,0 +1,63 @@
+package com.chaeshin.boo.domain.review;
+
+import com.chaeshin.boo.domain.LangCode;
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 번역 작업 outbox. 리뷰와 같은 트랜잭션에서 저장되어, 리뷰가 커밋되면 작업도 반드시 남는다.
+ * <br></br>
+ * TranslationWorker 가 처리 가능 시각(availableAt)이 지난 작업을 점유해 처리하고, 성공하면 삭제한다.
+ * 점유 중에는 availableAt 이 점유 만료 시각이므로, 처리 도중 프로세스가 종료된 작업은 만료 후 다시 처리된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(indexes = @Index(name = "translation_task_due_index", columnList = "status, available_at"))
+public class TranslationTask {
+
+    public enum Status { PENDING, PROCESSING, FAILED }
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "translation_task_id")
+    private Long id;
+
+    @Column(name = "review_id")
+    private Long reviewId; // 리뷰 삭제와 무관하게 남도록 연관관계 대신 ID 만 보관
+
+    @Enumerated(EnumType.STRING)
+    private LangCode targetLangCode;
+
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    private int attempts; // 점유(처리 시도) 횟수
+
+    @Column(name = "available_at")
+    private LocalDateTime availableAt; // 처리 가능 시각. 처리 중에는 점유 만료 시각
+
+    private String lastError;
+
+    @Builder
+    public TranslationTask(Long reviewId, LangCode targetLangCode) {
+        this.reviewId = reviewId;
+        this.targetLangCode = targetLangCode;
+        this.status = Status.PENDING;
+        this.availableAt = LocalDateTime.now();
+    }
+
+    public void retryAt(LocalDateTime availableAt, String error) {
+        this.status = Status.PENDING;
+        this.availableAt = availableAt;
+        this.lastError = error;
+    }
+
+    public void fail(String error) {
+        this.status = Status.FAILED;
+        this.lastError = error;
+    }
+}
@@ -1,8 +1,10 @@
 package com.chaeshin.boo.repository.restaurant;
 
+import com.chaeshin.boo.domain.restaurant.RatingDelta;
 import com.chaeshin.boo.domain.restaurant.Restaurant;
 
 import java.util.List;
+import java.util.Map;
 
 public interface BaseRestaurantCrudRepository {
 
@@ -11,4 +13,43 @@ public interface BaseRestaurantCrudRepository {
     Restaurant findByIdWithMenus(Long restaurantId);
 
     List<Restaurant> findAllByNameContaining(String name);
+
+    /**
+     * 좌표(latitude, longitude)로부터 반경 radiusMeters 이내의 식당을 가까운 순으로 조회
+     * @param latitude
+     * @param longitude
+     * @param radiusMeters
+     * @return
+     */
+    List<Restaurant> findAllWithinRadius(double latitude, double longitude, double radiusMeters);
+
+    /**
+     * 좌표(latitude, longitude)에서 가장 가까운 식당 k개 조회
+     * @param latitude
+     * @param longitude
+     * @param k
+     * @return
+     */
+    List<Restaurant> findNearest(double latitude, double longitude, int k);
+
+    /**
+     * 식당별 리뷰 수/누적 점수/점수 분포에 변화량을 원자적으로 더하고 평균 점수를 다시 계산. (UPDATE ... SET review_cnt = review_cnt + ?)
+     * <br></br>
+     * 식당을 읽지 않고 JDBC batch 로 한 번에 실행하므로 동시에 갱신해도 변화량이 유실되지 않는다.
+     * @param deltas 식당별 변화량
+     */
+    void applyReviewDeltas(List<RatingDelta> deltas);
+
+    /**
+     * 리뷰 테이블을 식당/점수별로 한 번에 집계(GROUP BY)한 실제 리뷰 수/누적 점수/점수 분포.
+     * 결과를 fetchSize 단위로 받아가며 누적하므로 리뷰 수와 무관하게 식당 수만큼의 메모리만 사용한다.
+     * @return 식당 ID -> 집계값(0 에서의 변화량). 리뷰가 없는 식당은 포함하지 않음
+     */
+    Map<Long, RatingDelta> aggregateReviewScores(int fetchSize);
+
+    /**
+     * 식당에 저장된 리뷰 수/누적 점수/점수 분포
+     * @return 식당 ID -> 저장값(0 에서의 변화량)
+     */
+    Map<Long, RatingDelta> findRatingTotals(int fetchSize);
 }
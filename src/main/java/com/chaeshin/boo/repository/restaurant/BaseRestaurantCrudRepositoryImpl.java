@@ -1,15 +1,49 @@
 package com.chaeshin.boo.repository.restaurant;
 
+import com.chaeshin.boo.domain.restaurant.RatingDelta;
 import com.chaeshin.boo.domain.restaurant.Restaurant;
+import com.chaeshin.boo.domain.restaurant.ScoreHistogram;
+import com.chaeshin.boo.utils.geocoding.GeoDistance;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public class BaseRestaurantCrudRepositoryImpl implements BaseRestaurantCrudRepository {
 
     @PersistenceContext EntityManager em;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private static final String APPLY_REVIEW_DELTA = "update restaurant set"
+            + " score_avg = case when review_cnt + ? > 0"
+            + " then round((score_accum + ?) * 1.0 / (review_cnt + ?), 1) else null end,"
+            + " review_cnt = review_cnt + ?,"
+            + " score_accum = score_accum + ?,"
+            + " score1_cnt = score1_cnt + ?, score2_cnt = score2_cnt + ?, score3_cnt = score3_cnt + ?,"
+            + " score4_cnt = score4_cnt + ?, score5_cnt = score5_cnt + ?"
+            + " where restaurant_id = ?";
+
+    private static final String AGGREGATE_REVIEW_SCORES =
+            "select restaurant_id, score, count(*) from review where restaurant_id is not null"
+            + " group by restaurant_id, score";
+
+    private static final String FIND_RATING_TOTALS = "select restaurant_id, review_cnt, score_accum,"
+            + " score1_cnt, score2_cnt, score3_cnt, score4_cnt, score5_cnt from restaurant";
+
+    private static final double INITIAL_NEAREST_RADIUS_METERS = 500.0; // k-최근접 조회 시 최초 탐색 반경
+
+    /*Haversine 거리(m). :cosLat 는 기준 위도의 cos 값으로, 쿼리마다 한 번만 계산하도록 파라미터로 전달.*/
+    private static final String HAVERSINE = "(2 * 6371000.0"
+            + " * asin(sqrt(power(sin(radians(rt.latitude - :lat) / 2), 2)"
+            + " + :cosLat * cos(radians(rt.latitude)) * power(sin(radians(rt.longitude - :lng) / 2), 2))))";
 
     /**
      * Review의 ID로 해당하는 식당 조회
@@ -38,12 +72,158 @@ public class BaseRestaurantCrudRepositoryImpl implements BaseRestaurantCrudRepos
                 .getSingleResult();
     }
 
+    /**
+     * 이름에 name 을 포함하는 식당 조회. 인덱스를 활용할 수 없는 전체 스캔이므로, 검색에는 RestaurantNameIndex 를 사용한다.
+     * @param name
+     * @return
+     */
     @Override
     public List<Restaurant> findAllByNameContaining(String name) {
         return em.createQuery("select rt from Restaurant rt" +
                 " where rt.name like :name", Restaurant.class)
-                .setParameter("name", name).getResultList();
+                .setParameter("name", "%" + name + "%").getResultList();
+    }
+
+    /**
+     * 반경 내 식당 조회.
+     * <br></br>
+     * (위도, 경도) 인덱스를 탈 수 있는 사각 영역 조건으로 먼저 후보를 좁힌 뒤, 후보에 대해서만 Haversine 거리를 계산해 원 밖의 식당을 걸러낸다.
+     * @param latitude
+     * @param longitude
+     * @param radiusMeters
+     * @return 가까운 순으로 정렬된 반경 내 식당 목록
+     */
+    @Override
+    public List<Restaurant> findAllWithinRadius(double latitude, double longitude, double radiusMeters) {
+        return withinRadiusQuery(latitude, longitude, radiusMeters).getResultList();
+    }
+
+    /**
+     * k-최근접 식당 조회.
+     * <br></br>
+     * 작은 반경에서 시작해 k개 이상이 잡힐 때까지 반경을 두 배씩 넓혀가며 반경 조회를 반복한다.
+     * 반경 내에서 가까운 순으로 k개를 뽑으면 그것이 곧 전체에서의 k-최근접이다.
+     * @param latitude
+     * @param longitude
+     * @param k
+     * @return 가까운 순으로 정렬된 최대 k개의 식당
+     */
+    @Override
+    public List<Restaurant> findNearest(double latitude, double longitude, int k) {
+        double radius = INITIAL_NEAREST_RADIUS_METERS;
+        List<Restaurant> found = List.of();
+        while (k > 0) {
+            found = withinRadiusQuery(latitude, longitude, radius)
+                    .setMaxResults(k)
+                    .getResultList();
+            if (found.size() >= k || radius >= GeoDistance.MAX_DISTANCE_METERS) {
+                break;
+            }
+            radius = Math.min(radius * 2, GeoDistance.MAX_DISTANCE_METERS);
+        }
+        return found;
+    }
+
+    private TypedQuery<Restaurant> withinRadiusQuery(double latitude, double longitude, double radiusMeters) {
+        double latDelta = GeoDistance.latitudeDelta(radiusMeters);
+        double lngDelta = GeoDistance.longitudeDelta(radiusMeters, latitude);
+        double minLng = longitude - lngDelta;
+        double maxLng = longitude + lngDelta;
+
+        // 경도 범위가 ±180 를 넘으면 반대편 끝으로 이어지는 두 구간으로 나눈다. 경도 전체를 덮으면 조건을 생략
+        String lngCondition;
+        if (lngDelta >= 180.0) {
+            lngCondition = "";
+        } else if (minLng < -180.0 || maxLng > 180.0) {
+            lngCondition = " and (rt.longitude between :minLng and 180.0 or rt.longitude between -180.0 and :maxLng)";
+            if (minLng < -180.0) {
+                minLng += 360.0;
+            } else {
+                maxLng -= 360.0;
+            }
+        } else {
+            lngCondition = " and rt.longitude between :minLng and :maxLng";
+        }
+
+        TypedQuery<Restaurant> query = em.createQuery("select rt from Restaurant rt" +
+                        " where rt.latitude between :minLat and :maxLat" +
+                        lngCondition +
+                        " and " + HAVERSINE + " <= :radius" +
+                        " order by " + HAVERSINE, Restaurant.class)
+                .setParameter("minLat", Math.max(-90.0, latitude - latDelta))
+                .setParameter("maxLat", Math.min(90.0, latitude + latDelta))
+                .setParameter("lat", latitude)
+                .setParameter("lng", longitude)
+                .setParameter("cosLat", Math.cos(Math.toRadians(latitude)))
+                .setParameter("radius", radiusMeters);
+        if (!lngCondition.isEmpty()) {
+            query.setParameter("minLng", minLng).setParameter("maxLng", maxLng);
+        }
+        return query;
     }
 
+    /**
+     * 평균 점수를 가장 먼저 대입한다. MySQL 은 SET 절을 왼쪽부터 적용하며 뒤의 식에서 이미 바뀐 값을 읽기 때문에,
+     * 변경 전 값 + 변화량으로 계산하는 평균이 앞에 있어야 표준 SQL(H2)과 같은 결과가 된다.
+     */
+    @Override
+    @Transactional
+    public void applyReviewDeltas(List<RatingDelta> deltas) {
+        jdbcTemplate.batchUpdate(APPLY_REVIEW_DELTA, deltas, deltas.size(), (ps, delta) -> {
+            ps.setInt(1, delta.getReviewCnt());
+            ps.setInt(2, delta.getScore());
+            ps.setInt(3, delta.getReviewCnt());
+            ps.setInt(4, delta.getReviewCnt());
+            ps.setInt(5, delta.getScore());
+            for (int i = 0; i < ScoreHistogram.BUCKETS; i++) {
+                ps.setInt(6 + i, delta.getScoreCounts()[i]);
+            }
+            ps.setLong(6 + ScoreHistogram.BUCKETS, delta.getRestaurantId());
+        });
+    }
 
+    @Override
+    public Map<Long, RatingDelta> aggregateReviewScores(int fetchSize) {
+        Map<Long, long[]> totals = new HashMap<>(); // 리뷰 수, 누적 점수, 점수 구간별 리뷰 수
+        JdbcTemplate template = streaming(fetchSize);
+        template.query(AGGREGATE_REVIEW_SCORES, (RowCallbackHandler) rs -> {
+            int score = rs.getInt(2);
+            long count = rs.getLong(3);
+            long[] total = totals.computeIfAbsent(rs.getLong(1), k -> new long[2 + ScoreHistogram.BUCKETS]);
+            total[0] += count;
+            total[1] += count * score;
+            total[2 + ScoreHistogram.bucket(score)] += count;
+        });
+
+        Map<Long, RatingDelta> result = new HashMap<>(totals.size());
+        totals.forEach((restaurantId, total) -> {
+            int[] scoreCounts = new int[ScoreHistogram.BUCKETS];
+            for (int i = 0; i < scoreCounts.length; i++) {
+                scoreCounts[i] = (int) total[2 + i];
+            }
+            result.put(restaurantId, new RatingDelta(restaurantId, (int) total[0], (int) total[1], scoreCounts));
+        });
+        return result;
+    }
+
+    @Override
+    public Map<Long, RatingDelta> findRatingTotals(int fetchSize) {
+        Map<Long, RatingDelta> result = new HashMap<>();
+        streaming(fetchSize).query(FIND_RATING_TOTALS, (RowCallbackHandler) rs -> {
+            long restaurantId = rs.getLong(1);
+            int[] scoreCounts = new int[ScoreHistogram.BUCKETS];
+            for (int i = 0; i < scoreCounts.length; i++) {
+                scoreCounts[i] = rs.getInt(4 + i);
+            }
+            result.put(restaurantId, new RatingDelta(restaurantId, rs.getInt(2), rs.getInt(3), scoreCounts));
+        });
+        return result;
+    }
+
+    /*공유 JdbcTemplate 설정을 바꾸지 않도록 fetchSize 만 다른 복사본 사용*/
+    private JdbcTemplate streaming(int fetchSize) {
+        JdbcTemplate template = new JdbcTemplate(jdbcTemplate.getDataSource());
+        template.setFetchSize(fetchSize);
+        return template;
+    }
 }
@@ -1,6 +1,8 @@
 package com.chaeshin.boo.repository.review;
 
+import com.chaeshin.boo.domain.LangCode;
 import com.chaeshin.boo.domain.review.Review;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface BaseReviewCrudRepository {
@@ -21,6 +23,41 @@ public interface BaseReviewCrudRepository {
      */
     List<Review> findAllByRestaurantIdWithImage(Long restaurantId);
 
+    /**
+     * 식당 ID로 리뷰를 최신순(createdAt, id 내림차순)으로 한 페이지 조회. 이미지는 fetch join.
+     * <br></br>
+     * 커서(마지막으로 받은 리뷰의 createdAt, id) 이후부터 조회하므로 페이지 위치와 무관하게 비용이 일정하다.
+     * @param restaurantId
+     * @param cursorCreatedAt 이전 페이지 마지막 리뷰의 작성 시각. 첫 페이지는 null
+     * @param cursorId 이전 페이지 마지막 리뷰의 ID. 첫 페이지는 null
+     * @param size
+     * @return
+     */
+    List<Review> findPageByRestaurantIdWithImage(Long restaurantId, LocalDateTime cursorCreatedAt, Long cursorId, int size);
+
+    /**
+     * 식당 ID로 리뷰를 최신순으로 한 페이지 조회하면서, 각 리뷰의 langCode 번역본을 같은 쿼리에서 left join 으로 가져온다.
+     * 이미지는 fetch join.
+     * @param restaurantId
+     * @param cursorCreatedAt 이전 페이지 마지막 리뷰의 작성 시각. 첫 페이지는 null
+     * @param cursorId 이전 페이지 마지막 리뷰의 ID. 첫 페이지는 null
+     * @param size
+     * @param langCode 번역본 언어
+     * @return 페이지 순서의 (리뷰, 번역본). 번역본이 없으면 null
+     */
+    List<ReviewWithTranslation> findPageByRestaurantIdWithTranslation(Long restaurantId, LocalDateTime cursorCreatedAt,
+                                                                      Long cursorId, int size, LangCode langCode);
+
+    /**
+     * 회원 ID로 리뷰를 최신순(createdAt, id 내림차순)으로 한 페이지 조회. 이미지는 fetch join.
+     * @param memberId
+     * @param cursorCreatedAt 이전 페이지 마지막 리뷰의 작성 시각. 첫 페이지는 null
+     * @param cursorId 이전 페이지 마지막 리뷰의 ID. 첫 페이지는 null
+     * @param size
+     * @return
+     */
+    List<Review> findPageByMemberIdWithImage(Long memberId, LocalDateTime cursorCreatedAt, Long cursorId, int size);
+
     /**
      * 리뷰 ID로 이미지를 fetch join하여 조회
      * @param reviewId
@@ -34,4 +71,26 @@ public interface BaseReviewCrudRepository {
      * @return
      */
     Review findByIdWithTranslated(Long reviewId);
+
+    /**
+     * 리뷰 ID 목록으로 이미지를 fetch join하여 조회. 순서는 보장하지 않는다.
+     * @param reviewIds
+     * @return
+     */
+    List<Review> findAllByIdInWithImage(List<Long> reviewIds);
+
+    /**
+     * 리뷰 ID 목록으로 번역본들을 fetch join하여 조회. 순서는 보장하지 않는다.
+     * @param reviewIds
+     * @return
+     */
+    List<Review> findAllByIdInWithTranslated(List<Long> reviewIds);
+
+    /**
+     * 전체 리뷰를 ID 순으로 순회하기 위한 ID 페이지 조회
+     * @param lastId 이전 페이지의 마지막 ID. 첫 페이지는 0
+     * @param size
+     * @return lastId 보다 큰 리뷰 ID, 오름차순
+     */
+    List<Long> findIdsAfter(Long lastId, int size);
 }
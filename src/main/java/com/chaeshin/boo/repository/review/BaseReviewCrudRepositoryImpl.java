@@ -1,11 +1,20 @@
 package com.chaeshin.boo.repository.review;
 
+import com.chaeshin.boo.domain.LangCode;
 import com.chaeshin.boo.domain.review.Review;
+import com.chaeshin.boo.domain.review.TranslatedReview;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Repository
 public class BaseReviewCrudRepositoryImpl implements BaseReviewCrudRepository {
@@ -40,6 +49,70 @@ public class BaseReviewCrudRepositoryImpl implements BaseReviewCrudRepository {
                 .getResultList();
     }
 
+    @Override
+    public List<Review> findPageByRestaurantIdWithImage(Long restaurantId, LocalDateTime cursorCreatedAt,
+                                                        Long cursorId, int size) {
+        return findPageWithImage("r.restaurant.id", restaurantId, cursorCreatedAt, cursorId, size);
+    }
+
+    @Override
+    public List<Review> findPageByMemberIdWithImage(Long memberId, LocalDateTime cursorCreatedAt,
+                                                    Long cursorId, int size) {
+        return findPageWithImage("r.member.id", memberId, cursorCreatedAt, cursorId, size);
+    }
+
+    @Override
+    public List<ReviewWithTranslation> findPageByRestaurantIdWithTranslation(Long restaurantId,
+                                                                             LocalDateTime cursorCreatedAt, Long cursorId,
+                                                                             int size, LangCode langCode) {
+        List<Long> ids = findPageIds("r.restaurant.id", restaurantId, cursorCreatedAt, cursorId, size);
+        if (ids.isEmpty()) {return List.of();}
+
+        // 이미지 수만큼 행이 반복되므로 리뷰 ID 로 합친다
+        Map<Long, ReviewWithTranslation> found = new HashMap<>();
+        em.createQuery("select r, t from Review r" +
+                        " left join fetch r.reviewImages" +
+                        " left join TranslatedReview t on t.review = r and t.langCode = :langCode" +
+                        " where r.id in :reviewIds", Object[].class)
+                .setParameter("langCode", langCode)
+                .setParameter("reviewIds", ids)
+                .getResultList()
+                .forEach(o -> found.putIfAbsent(((Review) o[0]).getId(),
+                        new ReviewWithTranslation((Review) o[0], (TranslatedReview) o[1])));
+        return ids.stream().map(found::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * 페이지에 해당하는 리뷰 ID 를 먼저 조회한 뒤, 해당 ID 들만 이미지와 함께 조회.
+     * <br></br>
+     * 컬렉션 fetch join 에 setMaxResults 를 걸면 Hibernate 가 전체 결과를 메모리에서 자르므로 두 번에 나누어 조회한다.
+     * @param owner 조회 기준 경로(r.restaurant.id, r.member.id)
+     */
+    private List<Review> findPageWithImage(String owner, Long ownerId, LocalDateTime cursorCreatedAt,
+                                           Long cursorId, int size) {
+        List<Long> ids = findPageIds(owner, ownerId, cursorCreatedAt, cursorId, size);
+
+        List<Review> reviews = new ArrayList<>(findAllByIdInWithImage(ids));
+        reviews.sort(Comparator.comparingInt(o -> ids.indexOf(o.getId())));
+        return reviews;
+    }
+
+    /*커서 이후 최신순 리뷰 ID 한 페이지*/
+    private List<Long> findPageIds(String owner, Long ownerId, LocalDateTime cursorCreatedAt,
+                                   Long cursorId, int size) {
+        boolean hasCursor = cursorCreatedAt != null && cursorId != null;
+        TypedQuery<Long> idQuery = em.createQuery("select r.id from Review r" +
+                        " where " + owner + " = :ownerId" +
+                        (hasCursor ? " and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id))" : "") +
+                        " order by r.createdAt desc, r.id desc", Long.class)
+                .setParameter("ownerId", ownerId)
+                .setMaxResults(size);
+        if (hasCursor) {
+            idQuery.setParameter("createdAt", cursorCreatedAt).setParameter("id", cursorId);
+        }
+        return idQuery.getResultList();
+    }
+
     @Override
     public Review findByIdWithImage(Long reviewId) {
         return em.createQuery("select r from Review r" +
@@ -57,4 +130,33 @@ public class BaseReviewCrudRepositoryImpl implements BaseReviewCrudRepository {
                 .setParameter("reviewId", reviewId)
                 .getSingleResult();
     }
+
+    @Override
+    public List<Review> findAllByIdInWithImage(List<Long> reviewIds) {
+        if (reviewIds.isEmpty()) {return List.of();}
+        return em.createQuery("select distinct r from Review r" +
+                " left join fetch r.reviewImages" +
+                " where r.id in :reviewIds", Review.class)
+                .setParameter("reviewIds", reviewIds)
+                .getResultList();
+    }
+
+    @Override
+    public List<Review> findAllByIdInWithTranslated(List<Long> reviewIds) {
+        if (reviewIds.isEmpty()) {return List.of();}
+        return em.createQuery("select distinct r from Review r" +
+                " left join fetch r.translatedReviews" +
+                " where r.id in :reviewIds", Review.class)
+                .setParameter("reviewIds", reviewIds)
+                .getResultList();
+    }
+
+    @Override
+    public List<Long> findIdsAfter(Long lastId, int size) {
+        return em.createQuery("select r.id from Review r" +
+                " where r.id > :lastId order by r.id", Long.class)
+                .setParameter("lastId", lastId)
+                .setMaxResults(size)
+                .getResultList();
+    }
 }
@@ -0,0 +1,20 @@
+package com.chaeshin.boo.repository.review;
+
+import com.chaeshin.boo.domain.review.Review;
+import com.chaeshin.boo.domain.review.TranslatedReview;
+import lombok.Getter;
+
+/**
+ * findPageByRestaurantIdWithTranslation 의 조회 결과. 리뷰와 특정 언어 번역본 한 쌍으로, 번역본이 없으면 translatedReview 는 null.
+ */
+@Getter
+public class ReviewWithTranslation {
+
+    private final Review review;
+    private final TranslatedReview translatedReview;
+
+    public ReviewWithTranslation(Review review, TranslatedReview translatedReview) {
+        this.review = review;
+        this.translatedReview = translatedReview;
+    }
+}
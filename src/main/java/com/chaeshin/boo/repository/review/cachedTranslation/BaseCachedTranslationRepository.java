@@ -0,0 +1,30 @@
+package com.chaeshin.boo.repository.review.cachedTranslation;
+
+import com.chaeshin.boo.domain.LangCode;
+import com.chaeshin.boo.domain.review.CachedTranslation;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface BaseCachedTranslationRepository {
+
+    /**
+     * 정규화한 원문 해시와 표적 언어로 저장된 번역 조회
+     * @param textHash
+     * @param targetLangCode
+     */
+    Optional<CachedTranslation> findByKey(String textHash, LangCode targetLangCode);
+
+    /**
+     * 원문 해시 여러 개를 한 번의 in 쿼리로 조회
+     * @param textHashes
+     * @param targetLangCode
+     */
+    List<CachedTranslation> findAllByKeys(Collection<String> textHashes, LangCode targetLangCode);
+
+    /**
+     * 번역 결과 일괄 저장. 이미 같은 키로 저장된 행은 건너뛴다.
+     * @param cachedTranslations
+     */
+    void insertCachedTranslations(List<CachedTranslation> cachedTranslations);
+}
@@ -0,0 +1,54 @@
+package com.chaeshin.boo.repository.review.cachedTranslation;
+
+import com.chaeshin.boo.domain.LangCode;
+import com.chaeshin.boo.domain.review.CachedTranslation;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class BaseCachedTranslationRepositoryImpl implements BaseCachedTranslationRepository {
+
+    @PersistenceContext EntityManager em;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    /*unique (text_hash, target_lang_code) 에 걸리는 행은 무시. 같은 원문을 동시에 번역한 요청이 먼저 저장했을 수 있다*/
+    private static final String INSERT_CACHED_TRANSLATION = "insert ignore into cached_translation"
+            + " (text_hash, target_lang_code, source_lang_code, translated_text) values (?, ?, ?, ?)";
+    private static final int INSERT_BATCH_SIZE = 50;
+
+    @Override
+    public Optional<CachedTranslation> findByKey(String textHash, LangCode targetLangCode) {
+        return em.createQuery("select c from CachedTranslation c" +
+                        " where c.textHash = :textHash and c.targetLangCode = :targetLangCode", CachedTranslation.class)
+                .setParameter("textHash", textHash)
+                .setParameter("targetLangCode", targetLangCode)
+                .getResultStream().findFirst();
+    }
+
+    @Override
+    public List<CachedTranslation> findAllByKeys(Collection<String> textHashes, LangCode targetLangCode) {
+        if (textHashes.isEmpty()) {return List.of();}
+        return em.createQuery("select c from CachedTranslation c" +
+                        " where c.textHash in :textHashes and c.targetLangCode = :targetLangCode", CachedTranslation.class)
+                .setParameter("textHashes", textHashes)
+                .setParameter("targetLangCode", targetLangCode)
+                .getResultList();
+    }
+
+    @Override
+    public void insertCachedTranslations(List<CachedTranslation> cachedTranslations) {
+        if (cachedTranslations.isEmpty()) {return;}
+        jdbcTemplate.batchUpdate(INSERT_CACHED_TRANSLATION, cachedTranslations, INSERT_BATCH_SIZE, (ps, o) -> {
+            ps.setString(1, o.getTextHash());
+            ps.setString(2, o.getTargetLangCode().name());
+            ps.setString(3, o.getSourceLangCode() == null ? null : o.getSourceLangCode().name());
+            ps.setString(4, o.getTranslatedText());
+        });
+    }
+}
@@ -0,0 +1,7 @@
+package com.chaeshin.boo.repository.review.cachedTranslation;
+
+import com.chaeshin.boo.domain.review.CachedTranslation;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CachedTranslationRepository extends JpaRepository<CachedTranslation, Long>, BaseCachedTranslationRepository {
+}
@@ -1,5 +1,7 @@
 package com.chaeshin.boo.repository.review.translatedReview;
 
+import com.chaeshin.boo.domain.LangCode;
+import com.chaeshin.boo.domain.review.Review;
 import com.chaeshin.boo.domain.review.TranslatedReview;
 import java.util.List;
 import org.springframework.data.repository.CrudRepository;
@@ -8,9 +10,40 @@ public interface BaseTranslatedReviewRepository {
 
     List<TranslatedReview> findAllByReviewId(Long reviewId);
 
+    /**
+     * 여러 리뷰의 특정 언어 번역본을 IN 쿼리 한 번으로 조회
+     * @param reviewIds
+     * @param langCode 번역 언어
+     */
+    List<TranslatedReview> findAllByReviewIdInAndLangCode(List<Long> reviewIds, LangCode langCode);
+
+    /**
+     * 번역본을 JDBC batch insert 로 저장. 같은 (리뷰, 언어) 번역본이 이미 있으면 건너뛴다.
+     * <br></br>
+     * 영속성 컨텍스트를 거치지 않으므로, 같은 트랜잭션에서 이미 초기화된 Review.translatedReviews 에는 반영되지 않는다.
+     * @param reviews 원문 리뷰. 번역한 원문 버전으로 현재 bodyVersion 을 저장한다
+     * @param bodies reviews 와 같은 순서의 번역 본문
+     * @param langCode 번역 언어
+     */
+    void insertTranslatedReviews(List<Review> reviews, List<String> bodies, LangCode langCode);
+
     /**
      * 번역 수정
      * @param newBody
      */
     void updateTranslatedReview(Long id, String newBody);
+
+    /**
+     * 원문 수정 후 아직 갱신되지 않은(stale) 번역본 조회. 원문 리뷰를 함께 가져온다.
+     * @param langCodes 조회할 번역 언어
+     * @param limit
+     */
+    List<TranslatedReview> findStaleByLangCodeIn(List<LangCode> langCodes, int limit);
+
+    /**
+     * 번역본 갱신. 더 최신 원문 버전으로 이미 갱신된 번역본은 덮어쓰지 않는다.
+     * @param sourceVersion 번역한 원문의 버전
+     * @return 갱신 여부
+     */
+    boolean refreshTranslatedReview(Long id, String newBody, int sourceVersion);
 }
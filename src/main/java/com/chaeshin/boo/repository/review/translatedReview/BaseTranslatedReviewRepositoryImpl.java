@@ -1,16 +1,28 @@
 package com.chaeshin.boo.repository.review.translatedReview;
 
+import com.chaeshin.boo.domain.LangCode;
+import com.chaeshin.boo.domain.review.Review;
 import com.chaeshin.boo.domain.review.TranslatedReview;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public class BaseTranslatedReviewRepositoryImpl implements BaseTranslatedReviewRepository {
 
     @PersistenceContext EntityManager em;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    /*unique (review_id, lang_code) 에 걸리는 행은 무시. 동시에 같은 번역본을 저장한 요청이 있어도 실패하지 않는다*/
+    private static final String INSERT_TRANSLATED_REVIEW = "insert ignore into translated_review"
+            + " (review_id, lang_code, body, source_version) values (?, ?, ?, ?)";
+    private static final int INSERT_BATCH_SIZE = 50;
 
     @Override
     public List<TranslatedReview> findAllByReviewId(Long reviewId) {
@@ -19,6 +31,28 @@ public class BaseTranslatedReviewRepositoryImpl implements BaseTranslatedReviewR
                 .getResultList();
     }
 
+    @Override
+    public List<TranslatedReview> findAllByReviewIdInAndLangCode(List<Long> reviewIds, LangCode langCode) {
+        if (reviewIds.isEmpty()) {return List.of();}
+        return em.createQuery("select t from TranslatedReview t" +
+                        " where t.review.id in :reviewIds and t.langCode = :langCode", TranslatedReview.class)
+                .setParameter("reviewIds", reviewIds)
+                .setParameter("langCode", langCode)
+                .getResultList();
+    }
+
+    @Override
+    public void insertTranslatedReviews(List<Review> reviews, List<String> bodies, LangCode langCode) {
+        if (reviews.isEmpty()) {return;}
+        List<Integer> rows = IntStream.range(0, reviews.size()).boxed().toList();
+        jdbcTemplate.batchUpdate(INSERT_TRANSLATED_REVIEW, rows, INSERT_BATCH_SIZE, (ps, i) -> {
+            ps.setLong(1, reviews.get(i).getId());
+            ps.setString(2, langCode.name());
+            ps.setString(3, bodies.get(i));
+            ps.setInt(4, reviews.get(i).getBodyVersion());
+        });
+    }
+
     /**
      * 번역 본문 수정
      * @param newBody
@@ -28,4 +62,27 @@ public class BaseTranslatedReviewRepositoryImpl implements BaseTranslatedReviewR
         TranslatedReview found = em.find(TranslatedReview.class, id);
         found.updateBody(newBody);
     }
+
+    @Override
+    public List<TranslatedReview> findStaleByLangCodeIn(List<LangCode> langCodes, int limit) {
+        if (langCodes.isEmpty()) {return List.of();}
+        return em.createQuery("select t from TranslatedReview t" +
+                        " join fetch t.review r" +
+                        " where t.langCode in :langCodes and t.sourceVersion < r.bodyVersion" +
+                        " order by t.id", TranslatedReview.class)
+                .setParameter("langCodes", langCodes)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    @Transactional
+    public boolean refreshTranslatedReview(Long id, String newBody, int sourceVersion) {
+        return em.createQuery("update TranslatedReview t set t.body = :body, t.sourceVersion = :version" +
+                        " where t.id = :id and t.sourceVersion < :version")
+                .setParameter("body", newBody)
+                .setParameter("version", sourceVersion)
+                .setParameter("id", id)
+                .executeUpdate() == 1;
+    }
 }
@@ -0,0 +1,20 @@
+package com.chaeshin.boo.repository.review.translationTask;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BaseTranslationTaskRepository {
+
+    /**
+     * 처리 가능 시각이 지난 대기/점유 만료 작업 ID 를 오래된 순으로 조회
+     * @param limit
+     */
+    List<Long> findDueIds(LocalDateTime now, int limit);
+
+    /**
+     * 작업 점유. 여러 인스턴스가 같은 작업을 조회해도 조건부 UPDATE 로 한 곳만 성공한다.
+     * @param leaseUntil 점유 만료 시각. 이때까지 끝내지 못하면 다른 워커가 다시 점유할 수 있다.
+     * @return 점유 성공 여부
+     */
+    boolean claim(Long id, LocalDateTime now, LocalDateTime leaseUntil);
+}
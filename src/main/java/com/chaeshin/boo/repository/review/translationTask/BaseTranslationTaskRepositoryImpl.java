@@ -0,0 +1,43 @@
+package com.chaeshin.boo.repository.review.translationTask;
+
+import com.chaeshin.boo.domain.review.TranslationTask;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class BaseTranslationTaskRepositoryImpl implements BaseTranslationTaskRepository {
+
+    private static final List<TranslationTask.Status> CLAIMABLE =
+            List.of(TranslationTask.Status.PENDING, TranslationTask.Status.PROCESSING);
+
+    @PersistenceContext EntityManager em;
+
+    @Override
+    public List<Long> findDueIds(LocalDateTime now, int limit) {
+        return em.createQuery("select t.id from TranslationTask t" +
+                        " where t.status in :statuses and t.availableAt <= :now" +
+                        " order by t.availableAt", Long.class)
+                .setParameter("statuses", CLAIMABLE)
+                .setParameter("now", now)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    @Transactional
+    public boolean claim(Long id, LocalDateTime now, LocalDateTime leaseUntil) {
+        return em.createQuery("update TranslationTask t" +
+                        " set t.status = :processing, t.availableAt = :leaseUntil, t.attempts = t.attempts + 1" +
+                        " where t.id = :id and t.status in :statuses and t.availableAt <= :now")
+                .setParameter("processing", TranslationTask.Status.PROCESSING)
+                .setParameter("leaseUntil", leaseUntil)
+                .setParameter("id", id)
+                .setParameter("statuses", CLAIMABLE)
+                .setParameter("now", now)
+                .executeUpdate() == 1;
+    }
+}
@@ -0,0 +1,7 @@
+package com.chaeshin.boo.repository.review.translationTask;
+
+import com.chaeshin.boo.domain.review.TranslationTask;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TranslationTaskRepository extends JpaRepository<TranslationTask, Long>, BaseTranslationTaskRepository {
+}
@@ -1,7 +1,14 @@
 package com.chaeshin.boo.service.restaurant;
 
+import com.chaeshin.boo.domain.restaurant.Category;
+import com.chaeshin.boo.service.restaurant.catalog.MapSnapshot;
+import com.chaeshin.boo.service.restaurant.dto.AutocompleteDto;
+import com.chaeshin.boo.service.restaurant.dto.MapClusterDto;
+import com.chaeshin.boo.service.restaurant.dto.MapDeltaDto;
 import com.chaeshin.boo.service.restaurant.dto.MapInfoDto;
 import com.chaeshin.boo.service.restaurant.dto.MenuDto;
+import com.chaeshin.boo.service.restaurant.dto.NearestRestaurantDto;
+import com.chaeshin.boo.service.restaurant.dto.RankedRestaurantDto;
 import com.chaeshin.boo.service.restaurant.dto.RestaurantInfoDto;
 import com.chaeshin.boo.utils.ResponseDto;
 import com.chaeshin.boo.utils.geocoding.CoordinateDto;
@@ -15,15 +22,39 @@ public interface RestaurantService {
     /*모든 식당의 위경도 조회*/
     ResponseDto<LinkedList<MapInfoDto>> getAllRestaurants();
 
+    /*모든 식당의 위경도 조회 응답을 현재 카탈로그 버전 기준으로 미리 직렬화한 스냅샷*/
+    MapSnapshot getMapSnapshot();
+
+    /*특정 카탈로그 버전 이후 변경된 식당만 조회*/
+    ResponseDto<MapDeltaDto> getRestaurantChanges(String since);
+
+    /*사각 영역(지도 화면) 내 식당의 위경도 조회*/
+    ResponseDto<List<MapInfoDto>> getRestaurantsWithin(double minLatitude, double minLongitude,
+                                                       double maxLatitude, double maxLongitude);
+
+    /*줌 레벨별 식당 마커 클러스터 조회*/
+    ResponseDto<List<MapClusterDto>> getRestaurantClusters(int zoom, double minLatitude, double minLongitude,
+                                                           double maxLatitude, double maxLongitude);
+
+    /*기준 좌표에서 가장 가까운 식당 k개 조회*/
+    ResponseDto<List<NearestRestaurantDto>> getNearestRestaurants(double latitude, double longitude, int k,
+                                                                  Category category, Double minScore);
+
     /*식당 상세 정보 조회*/
     ResponseDto<RestaurantInfoDto> getRestaurantDetail(Long restaurantId);
 
     /*식당의 메뉴 목록 조회*/
     List<MenuDto> getMenuList(Long restaurantId);
 
+    /*카테고리별 식당 순위 조회*/
+    ResponseDto<List<RankedRestaurantDto>> getRestaurantRanking(Category category, int page, int size);
+
     /*식당 이름으로 검색*/
     ResponseDto searchRestaurantByName(String restaurantName);
 
+    /*식당 이름/주소 자동완성*/
+    ResponseDto<List<AutocompleteDto>> autocomplete(String prefix, int limit);
+
     /*식당의 주소로 좌표 조회*/
     ResponseDto<CoordinateDto> getRestaurantCoordinates(Map<String, String> request);
 }
@@ -1,12 +1,30 @@
 package com.chaeshin.boo.service.restaurant;
 
+import com.chaeshin.boo.domain.restaurant.Category;
+import com.chaeshin.boo.domain.restaurant.Restaurant;
 import com.chaeshin.boo.repository.restaurant.RestaurantRepository;
 import com.chaeshin.boo.repository.restaurant.menu.MenuRepository;
 import com.chaeshin.boo.repository.review.ReviewRepository;
+import com.chaeshin.boo.service.restaurant.catalog.MapSnapshot;
+import com.chaeshin.boo.service.restaurant.catalog.MapSnapshotCache;
+import com.chaeshin.boo.service.restaurant.catalog.RestaurantChangeLog;
+import com.chaeshin.boo.service.restaurant.catalog.RestaurantDetailCache;
+import com.chaeshin.boo.service.restaurant.dto.AutocompleteDto;
+import com.chaeshin.boo.service.restaurant.dto.MapClusterDto;
+import com.chaeshin.boo.service.restaurant.dto.MapDeltaDto;
 import com.chaeshin.boo.service.restaurant.dto.MapInfoDto;
 import com.chaeshin.boo.service.restaurant.dto.MenuDto;
+import com.chaeshin.boo.service.restaurant.dto.NearestRestaurantDto;
+import com.chaeshin.boo.service.restaurant.dto.RankedRestaurantDto;
 import com.chaeshin.boo.service.restaurant.dto.RestaurantInfoDto;
 import com.chaeshin.boo.service.restaurant.dto.RestaurantSearchDto;
+import com.chaeshin.boo.service.restaurant.geo.RestaurantClusterIndex;
+import com.chaeshin.boo.service.restaurant.geo.RestaurantGeoIndex;
+import com.chaeshin.boo.service.restaurant.geo.RestaurantNearestIndex;
+import com.chaeshin.boo.service.restaurant.ranking.RestaurantLeaderboard;
+import com.chaeshin.boo.service.restaurant.search.RestaurantAutocompleteIndex;
+import com.chaeshin.boo.service.restaurant.search.RestaurantNameIndex;
+import com.chaeshin.boo.service.review.dto.ReviewPageDto;
 import com.chaeshin.boo.utils.ResponseDto;
 import com.chaeshin.boo.utils.geocoding.GeoCoding;
 import com.chaeshin.boo.utils.geocoding.CoordinateDto;
@@ -18,6 +36,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,6 +49,20 @@ public class RestaurantServiceImpl implements RestaurantService {
     private final MenuRepository menuRepository;
     private final ReviewRepository reviewRepository;
     private final GeoCoding geoCoding;
+    private final RestaurantGeoIndex restaurantGeoIndex;
+    private final RestaurantNearestIndex restaurantNearestIndex;
+    private final RestaurantClusterIndex restaurantClusterIndex;
+    private final RestaurantNameIndex restaurantNameIndex;
+    private final RestaurantAutocompleteIndex restaurantAutocompleteIndex;
+    private final RestaurantLeaderboard restaurantLeaderboard;
+    private final RestaurantDetailCache restaurantDetailCache;
+
+    private static final int SEARCH_LIMIT = 50; // 이름 검색 결과 최대 개수
+    private static final int RANKING_PAGE_LIMIT = 100; // 순위 조회 페이지 최대 크기
+    private static final int NEAREST_LIMIT = 100; // 최근접 조회 최대 개수
+    private static final int DETAIL_REVIEW_PAGE_SIZE = 20; // 상세정보에 포함할 첫 리뷰 페이지 크기
+    private final MapSnapshotCache mapSnapshotCache;
+    private final RestaurantChangeLog restaurantChangeLog;
 
     /**
      * RestaurantService 의 초기화 콜백.
@@ -55,12 +88,82 @@ public class RestaurantServiceImpl implements RestaurantService {
         return new ResponseDto("식당 위/경도 반환 성공", restaurants);
     }
 
+    /**
+     * 지도 응답 스냅샷 반환. 카탈로그 버전이 바뀐 경우에만 getAllRestaurants() 로 다시 만든다.
+     */
+    @Override
+    public MapSnapshot getMapSnapshot() {
+        return mapSnapshotCache.get(this::getAllRestaurants);
+    }
+
+    /**
+     * 클라이언트가 가진 버전 이후의 변경분만 반환. 변경 이력이 정리된 이후라면 전체 재동기화를 요구한다.
+     */
+    @Override
+    public ResponseDto<MapDeltaDto> getRestaurantChanges(String since) {
+        return new ResponseDto<>("식당 변경 내역 반환 성공", restaurantChangeLog.changesSince(since));
+    }
+
+    /**
+     * 지도 화면에 보이는 사각 영역 내 식당만 반환.
+     * <br></br>
+     * DB 를 조회하지 않고 인메모리 공간 인덱스(RestaurantGeoIndex)에서 영역과 겹치는 격자만 살펴본다.
+     */
+    @Override
+    public ResponseDto<List<MapInfoDto>> getRestaurantsWithin(double minLatitude, double minLongitude,
+                                                              double maxLatitude, double maxLongitude) {
+        return new ResponseDto<>("영역 내 식당 위/경도 반환 성공",
+                restaurantGeoIndex.findWithin(minLatitude, minLongitude, maxLatitude, maxLongitude));
+    }
+
+    /**
+     * 지도 화면의 줌 레벨에 맞춘 마커 클러스터 반환.
+     * <br></br>
+     * 줌 레벨별로 미리 집계된 격자(RestaurantClusterIndex)에서 조회하므로 요청마다 클러스터링을 수행하지 않는다.
+     */
+    @Override
+    public ResponseDto<List<MapClusterDto>> getRestaurantClusters(int zoom, double minLatitude, double minLongitude,
+                                                                  double maxLatitude, double maxLongitude) {
+        return new ResponseDto<>("식당 클러스터 반환 성공",
+                restaurantClusterIndex.findClusters(zoom, minLatitude, minLongitude, maxLatitude, maxLongitude));
+    }
+
+    /**
+     * 기준 좌표에서 가장 가까운 식당 k개를 거리와 함께 반환.
+     * <br></br>
+     * 인메모리 KD-트리(RestaurantNearestIndex)에서 조회하며, 카테고리/최소 평점 조건은 탐색 중에 적용한다.
+     * k 는 1 ~ NEAREST_LIMIT 범위로 맞춘다.
+     */
+    @Override
+    public ResponseDto<List<NearestRestaurantDto>> getNearestRestaurants(double latitude, double longitude, int k,
+                                                                         Category category, Double minScore) {
+        int limit = Math.min(Math.max(k, 1), NEAREST_LIMIT);
+        return new ResponseDto<>("가까운 식당 반환 성공",
+                restaurantNearestIndex.findNearest(latitude, longitude, limit, category, minScore));
+    }
+
+    /**
+     * 카테고리별 식당 순위. 평점이 바뀔 때마다 갱신되는 인메모리 순위표(RestaurantLeaderboard)에서 조회한다.
+     * @param category null 이면 전체 순위
+     */
+    @Override
+    public ResponseDto<List<RankedRestaurantDto>> getRestaurantRanking(Category category, int page, int size) {
+        int pageSize = Math.min(Math.max(size, 1), RANKING_PAGE_LIMIT);
+        return new ResponseDto<>("식당 순위 반환 성공",
+                restaurantLeaderboard.getRanking(category, Math.max(page, 0) * pageSize, pageSize));
+    }
+
+    /**
+     * 식당 세부정보. 조립된 결과를 RestaurantDetailCache 에 보관하며, 리뷰나 식당 정보가 바뀌면 해당 식당만 무효화된다.
+     */
     @Override
     public ResponseDto<RestaurantInfoDto> getRestaurantDetail(Long restaurantId) {
 
-        return new ResponseDto<>("식당 세부정보 불러오기 성공", new RestaurantInfoDto()
-                        .updateRestaurant(restaurantRepository.findByIdWithMenus(restaurantId))
-                        .updateReviews(reviewRepository.findAllByRestaurantIdWithImage(restaurantId)));
+        return new ResponseDto<>("식당 세부정보 불러오기 성공", restaurantDetailCache.get(restaurantId,
+                id -> new RestaurantInfoDto()
+                        .updateRestaurant(restaurantRepository.findByIdWithMenus(id))
+                        .updateReviews(new ReviewPageDto(reviewRepository.findPageByRestaurantIdWithImage(
+                                id, null, null, DETAIL_REVIEW_PAGE_SIZE + 1), DETAIL_REVIEW_PAGE_SIZE))));
     }
 
     @Override
@@ -69,13 +172,33 @@ public class RestaurantServiceImpl implements RestaurantService {
                 .map(o -> new MenuDto(o)).collect(Collectors.toList());
     }
 
+    /**
+     * 식당 이름 검색.
+     * <br></br>
+     * 부분 문자열("김밥"), 초성("ㄱㅂ") 모두 인메모리 N-gram 색인(RestaurantNameIndex)에서 찾은 뒤, 찾은 식당만 ID 로 조회한다.
+     * 결과는 리뷰 수, 평균 평점 순으로 정렬된다.
+     */
     @Override
     public ResponseDto<List<RestaurantSearchDto>> searchRestaurantByName(String restaurantName) {
-        List<RestaurantSearchDto> result = restaurantRepository.findAllByNameContaining(restaurantName)
-                .stream().map(o -> new RestaurantSearchDto(o)).collect(Collectors.toList());
+        List<Long> ids = restaurantNameIndex.search(restaurantName, SEARCH_LIMIT);
+        Map<Long, Restaurant> found = restaurantRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Restaurant::getId, Function.identity()));
+
+        List<RestaurantSearchDto> result = ids.stream()
+                .filter(found::containsKey)
+                .map(o -> new RestaurantSearchDto(found.get(o)))
+                .collect(Collectors.toList());
         return new ResponseDto<>("식당 이름으로 검색 성공", result);
     }
 
+    /**
+     * 검색창 자동완성. 키 입력마다 호출되므로 DB 에 접근하지 않고 접두사 트라이(RestaurantAutocompleteIndex)에서만 조회한다.
+     */
+    @Override
+    public ResponseDto<List<AutocompleteDto>> autocomplete(String prefix, int limit) {
+        return new ResponseDto<>("자동완성 성공", restaurantAutocompleteIndex.suggest(prefix, limit));
+    }
+
     @Override
     public ResponseDto<CoordinateDto> getRestaurantCoordinates(Map<String, String> request) {
         String address = request.get("address");
@@ -0,0 +1,47 @@
+package com.chaeshin.boo.service.restaurant.catalog;
+
+import lombok.Getter;
+
+/**
+ * 특정 카탈로그 버전의 지도 응답(/restaurant/location/)을 미리 직렬화해 둔 스냅샷.
+ * <br></br>
+ * 같은 버전이라도 인코딩(원본/gzip)에 따라 바이트가 다르므로 Strong ETag 를 인코딩별로 구분한다.
+ * <br></br>
+ * ETag 의 버전 토큰에는 프로세스 식별자가 들어 있으므로, 여러 인스턴스를 띄우면 내용이 같아도 인스턴스마다 ETag 가 다르다.
+ * 요청이 다른 인스턴스로 가면 304 대신 전체 응답을 받는다.
+ */
+@Getter
+public class MapSnapshot {
+
+    private final long version;
+    private final String versionToken; // 클라이언트에게 내보내는 버전 (RestaurantChangeLog.token)
+    private final byte[] json;
+    private final byte[] gzippedJson;
+
+    public MapSnapshot(long version, String versionToken, byte[] json, byte[] gzippedJson) {
+        this.version = version;
+        this.versionToken = versionToken;
+        this.json = json;
+        this.gzippedJson = gzippedJson;
+    }
+
+    public String etag(boolean gzip) {
+        return "\"map-v" + versionToken + (gzip ? "-gzip\"" : "\"");
+    }
+
+    /**
+     * If-None-Match 헤더에 현재 버전의 ETag(인코딩 무관)가 포함되어 있는지 확인
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String trimmed = tag.trim();
+            if (trimmed.equals("*") || trimmed.equals(etag(false)) || trimmed.equals(etag(true))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,69 @@
+package com.chaeshin.boo.service.restaurant.catalog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카탈로그 버전별로 지도 응답을 직렬화/압축한 결과를 한 벌만 보관하는 캐시.
+ * <br></br>
+ * 버전이 바뀌지 않았다면 조회, DTO 변환, Jackson 직렬화, gzip 압축을 모두 생략하고 보관된 바이트 배열을 그대로 내려준다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MapSnapshotCache {
+
+    private final RestaurantChangeLog changeLog;
+    private final ObjectMapper objectMapper;
+
+    private volatile MapSnapshot snapshot;
+
+    /**
+     * 현재 버전의 스냅샷 반환. 없다면 loader 의 결과로 새로 생성한다.
+     * <br></br>
+     * 버전을 먼저 읽은 뒤 조회하므로, 조회 도중 변경이 커밋되면 스냅샷은 이전 버전으로 기록되어 다음 요청에서 다시 만들어진다.
+     * @param loader 응답 본문을 생성하는 함수
+     */
+    public MapSnapshot get(Supplier<Object> loader) {
+        long version = changeLog.current();
+        MapSnapshot current = snapshot;
+        if (current != null && current.getVersion() == version) {
+            return current;
+        }
+
+        synchronized (this) {
+            current = snapshot;
+            if (current != null && current.getVersion() == version) {
+                return current; // 대기하는 동안 다른 스레드가 이미 생성.
+            }
+            byte[] json = serialize(loader.get());
+            MapSnapshot created = new MapSnapshot(version, changeLog.token(version), json, gzip(json));
+            snapshot = created;
+            return created;
+        }
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("지도 응답 직렬화 실패", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
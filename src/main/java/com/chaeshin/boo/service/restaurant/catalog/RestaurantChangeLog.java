@@ -0,0 +1,152 @@
+package com.chaeshin.boo.service.restaurant.catalog;
+
+import com.chaeshin.boo.domain.restaurant.RestaurantChangedEvent;
+import com.chaeshin.boo.service.restaurant.dto.MapChangeDto;
+import com.chaeshin.boo.service.restaurant.dto.MapDeltaDto;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 식당 카탈로그(지도에 표시되는 식당 목록)의 버전과 변경 이력.
+ * <br></br>
+ * 식당 정보나 리뷰 수/평점이 바뀌면 (엔티티 리스너 또는 ReviewServiceImpl 이) RestaurantChangedEvent 를 발행하고,
+ * 해당 트랜잭션이 커밋된 뒤에 버전을 1 증가시키며 변경 내용을 기록한다. 커밋 이후에 기록하므로, 같은 버전 동안 DB 에서 읽은 내용은 항상 동일하다.
+ * <br></br>
+ * 버전과 이력은 JVM 마다 따로이므로, 클라이언트에게는 프로세스 식별자(epoch)를 붙인 "epoch.순번" 토큰으로 내보낸다.
+ * 재기동했거나 로드밸런서가 다른 인스턴스로 보낸 요청의 토큰은 epoch 가 달라 전체 재동기화를 요구한다.
+ * 이력은 최근 maxEntries 개만 보관하며, 그보다 오래된 버전을 가진 클라이언트에게도 전체 재동기화를 요구한다.
+ */
+@Component
+public class RestaurantChangeLog {
+
+    private final int maxEntries;
+    private final String epoch; // 기동 시각 + 임의값. 같은 시각에 뜬 인스턴스끼리도 겹치지 않도록
+    private final Deque<Entry> entries = new ArrayDeque<>();
+    private volatile long version;
+    private long compactedThrough; // 이 버전 이하의 변경은 이력에서 제거됨
+
+    public RestaurantChangeLog(@Value("${restaurant.change-log.max-entries:10000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.epoch = Long.toString(System.currentTimeMillis(), 36)
+                + Integer.toString(ThreadLocalRandom.current().nextInt(Character.MAX_RADIX * Character.MAX_RADIX), 36);
+    }
+
+    /*인메모리 인덱스들이 같은 이벤트를 받기 전에 먼저 기록해야 rebuild 의 재적용에서 빠지지 않는다*/
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onRestaurantChanged(RestaurantChangedEvent event) {
+        version++;
+        entries.addLast(new Entry(version, event));
+        while (entries.size() > maxEntries) {
+            compactedThrough = entries.pollFirst().version;
+        }
+    }
+
+    public long current() {
+        return version;
+    }
+
+    /**
+     * 클라이언트에게 내보내는 버전 토큰("epoch.순번"). ETag, X-Catalog-Version, 변경분 동기화의 since 에 쓰인다.
+     */
+    public String token(long version) {
+        return epoch + "." + version;
+    }
+
+    /**
+     * since 버전 이후의 변경 내역 조회. 한 식당이 여러 번 바뀌었다면 마지막 상태만 반환한다.
+     * @param sinceToken 클라이언트가 마지막으로 동기화한 버전 토큰
+     * @return 변경 내역. 다른 프로세스의 토큰, 이력이 이미 정리된 버전, 알 수 없는 버전이라면 전체 재동기화 응답
+     */
+    public synchronized MapDeltaDto changesSince(String sinceToken) {
+        long since = parse(sinceToken);
+        if (since < compactedThrough || since > version) {
+            return MapDeltaDto.fullResync(token(version));
+        }
+
+        Map<Long, Entry> latest = new LinkedHashMap<>();
+        Iterator<Entry> iterator = entries.descendingIterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.version <= since) {
+                break;
+            }
+            latest.putIfAbsent(entry.event.getRestaurantId(), entry);
+        }
+
+        List<Entry> changed = new ArrayList<>(latest.values());
+        changed.sort((a, b) -> Long.compare(a.version, b.version));
+        return MapDeltaDto.of(token(version),
+                changed.stream().map(o -> new MapChangeDto(token(o.version), o.event)).toList());
+    }
+
+    /*이 프로세스가 발급한 토큰의 순번. 형식이 틀리거나 epoch 가 다르면 -1*/
+    private long parse(String sinceToken) {
+        if (sinceToken == null) {
+            return -1;
+        }
+        int dot = sinceToken.lastIndexOf('.');
+        if (dot < 0 || !sinceToken.substring(0, dot).equals(epoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(sinceToken.substring(dot + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 인메모리 인덱스 전체 재구성. load 가 DB 에서 읽는 동안 커밋된 변경은 load 결과에 없을 수 있고, 그 사이 이벤트는
+     * 기존 인덱스에만 반영된다. 그래서 load 직전 버전 이후의 변경을 load 결과에 기록 순서대로 다시 적용(replay)한 뒤 install 한다.
+     * <br></br>
+     * replay 와 install 은 lock 을 잡은 채 실행하므로, 인덱스의 이벤트 리스너도 같은 lock 으로 갱신해야 교체 직전의 이벤트가
+     * 사라지지 않는다. load 하는 동안 이력이 정리될 만큼 변경이 많았으면 처음부터 다시 읽는다.
+     */
+    public <T> void rebuild(Object lock, Supplier<T> load, BiConsumer<T, RestaurantChangedEvent> replay, Consumer<T> install) {
+        while (true) {
+            long since = current();
+            T loaded = load.get();
+            synchronized (lock) {
+                List<RestaurantChangedEvent> missed = eventsSince(since);
+                if (missed != null) {
+                    missed.forEach(o -> replay.accept(loaded, o));
+                    install.accept(loaded);
+                    return;
+                }
+            }
+        }
+    }
+
+    /*since 이후의 이벤트를 기록 순서대로. 이력이 정리되어 빠진 것이 있으면 null*/
+    private synchronized List<RestaurantChangedEvent> eventsSince(long since) {
+        if (since < compactedThrough) {
+            return null;
+        }
+        return entries.stream().filter(o -> o.version > since).map(o -> o.event).toList();
+    }
+
+    private static class Entry {
+        private final long version;
+        private final RestaurantChangedEvent event;
+
+        private Entry(long version, RestaurantChangedEvent event) {
+            this.version = version;
+            this.event = event;
+        }
+    }
+}
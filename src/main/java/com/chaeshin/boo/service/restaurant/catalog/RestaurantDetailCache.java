@@ -0,0 +1,98 @@
+package com.chaeshin.boo.service.restaurant.catalog;
+
+import com.chaeshin.boo.domain.restaurant.RestaurantChangedEvent;
+import com.chaeshin.boo.domain.review.ReviewChangedEvent;
+import com.chaeshin.boo.service.restaurant.dto.MenuDto;
+import com.chaeshin.boo.service.restaurant.dto.RestaurantInfoDto;
+import com.chaeshin.boo.service.review.dto.ReviewDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 식당 상세정보(메뉴 + 리뷰 + 이미지)를 조립한 RestaurantInfoDto 캐시.
+ * <br></br>
+ * Caffeine(W-TinyLFU)으로 대략적인 바이트 크기 기준 용량을 제한하며, 리뷰 작성/수정/삭제/이미지 업로드나 식당 정보 변경이
+ * 커밋되면 해당 식당의 항목만 무효화한다. 적중률, 적재 시간, 축출 횟수는 restaurant.detail 이름으로 Micrometer 에 노출한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RestaurantDetailCache {
+
+    private static final String CACHE_NAME = "restaurant.detail";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${restaurant.detail-cache.max-bytes:67108864}")
+    private long maxBytes;
+
+    private Cache<Long, RestaurantInfoDto> cache;
+
+    @PostConstruct
+    private void init() {
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long id, RestaurantInfoDto detail) -> weigh(detail))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder(CACHE_NAME + ".hit.ratio", cache, o -> o.stats().hitRate())
+                .description("restaurant detail cache hit ratio")
+                .register(meterRegistry);
+        Gauge.builder(CACHE_NAME + ".weighted.size", cache,
+                        o -> o.policy().eviction().map(e -> e.weightedSize().orElse(0)).orElse(0L))
+                .description("estimated bytes held by restaurant detail cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 상세정보 반환. 없으면 loader 로 조립하며, 같은 식당에 대한 동시 요청은 한 번만 조립한다.
+     */
+    public RestaurantInfoDto get(Long restaurantId, Function<Long, RestaurantInfoDto> loader) {
+        return cache.get(restaurantId, loader);
+    }
+
+    /*적재 중인 항목을 무효화하면 적재가 끝난 뒤 제거되므로, 커밋 이전 상태가 남지 않는다*/
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        if (event.getRestaurantId() != null) {
+            cache.invalidate(event.getRestaurantId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        cache.invalidate(event.getRestaurantId());
+    }
+
+    /*문자열 길이 기반의 대략적인 크기(byte). 정확한 측정 대신 리뷰 수와 본문 길이에 비례하도록만 추정*/
+    private static int weigh(RestaurantInfoDto detail) {
+        long bytes = 512 + length(detail.getName()) + length(detail.getAddress())
+                + length(detail.getOpeningHours()) + length(detail.getRestaurantImage());
+        if (detail.getMenus() != null) {
+            for (MenuDto menu : detail.getMenus()) {
+                bytes += 128 + length(menu.getName());
+            }
+        }
+        if (detail.getReviews() != null) {
+            for (ReviewDto review : detail.getReviews()) {
+                bytes += 384 + length(review.getTitle()) + length(review.getBody())
+                        + (review.getImages() == null ? 0 : review.getImages().size() * 256L);
+            }
+        }
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private static long length(String text) {
+        return text == null ? 0 : text.length() * 2L;
+    }
+}
@@ -0,0 +1,29 @@
+package com.chaeshin.boo.service.restaurant.dto;
+
+import com.chaeshin.boo.domain.restaurant.Category;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+@Getter
+public class AutocompleteDto {
+
+    private Long id;
+    private String name;
+    private String address;
+    private Category category;
+    @JsonProperty("review_cnt")
+    private int reviewCnt;
+    @JsonProperty("score_avg")
+    private BigDecimal scoreAvg;
+
+    public AutocompleteDto(MapInfoDto restaurant) {
+        this.id = restaurant.getId();
+        this.name = restaurant.getName();
+        this.address = restaurant.getAddress();
+        this.category = restaurant.getCategory();
+        this.reviewCnt = restaurant.getReviewCnt();
+        this.scoreAvg = restaurant.getScoreAvg();
+    }
+}
@@ -0,0 +1,22 @@
+package com.chaeshin.boo.service.restaurant.dto;
+
+import com.chaeshin.boo.domain.restaurant.RestaurantChangedEvent;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MapChangeDto {
+
+    private String version; // 이 변경이 기록된 버전 토큰
+    private RestaurantChangedEvent.Type type; // SAVED : 생성 또는 평점/리뷰 수 변경, REMOVED : 삭제
+    private Long id;
+    private MapInfoDto restaurant; // REMOVED 의 경우 null
+
+    public MapChangeDto(String version, RestaurantChangedEvent event) {
+        this.version = version;
+        this.type = event.getType();
+        this.id = event.getRestaurantId();
+        this.restaurant = event.getRestaurant();
+    }
+}
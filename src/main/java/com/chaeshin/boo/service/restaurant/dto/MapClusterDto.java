@@ -0,0 +1,31 @@
+package com.chaeshin.boo.service.restaurant.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MapClusterDto {
+
+    private double latitude; // 클러스터 중심 위도
+    private double longitude; // 클러스터 중심 경도
+    private int count; // 클러스터에 포함된 식당 수
+    @JsonProperty("scoreAvg")
+    private Double scoreAvg; // 리뷰가 있는 식당들의 평균 평점
+    private MapInfoDto restaurant; // 식당이 하나뿐인 경우 해당 식당 정보
+
+    public MapClusterDto(double latitude, double longitude, int count, Double scoreAvg, MapInfoDto restaurant) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.count = count;
+        this.scoreAvg = scoreAvg;
+        this.restaurant = restaurant;
+    }
+
+    public static MapClusterDto of(MapInfoDto restaurant) {
+        Double score = restaurant.getReviewCnt() > 0 && restaurant.getScoreAvg() != null
+                ? restaurant.getScoreAvg().doubleValue() : null;
+        return new MapClusterDto(restaurant.getLatitude(), restaurant.getLongitude(), 1, score, restaurant);
+    }
+}
@@ -0,0 +1,29 @@
+package com.chaeshin.boo.service.restaurant.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class MapDeltaDto {
+
+    private String version; // 응답 시점의 카탈로그 버전 토큰. 다음 동기화 때 since 로 사용
+    @JsonProperty("full_resync")
+    private boolean fullResync; // true 라면 /restaurant/location/ 으로 전체를 다시 받아야 함
+    private List<MapChangeDto> changes;
+
+    private MapDeltaDto(String version, boolean fullResync, List<MapChangeDto> changes) {
+        this.version = version;
+        this.fullResync = fullResync;
+        this.changes = changes;
+    }
+
+    public static MapDeltaDto of(String version, List<MapChangeDto> changes) {
+        return new MapDeltaDto(version, false, changes);
+    }
+
+    public static MapDeltaDto fullResync(String version) {
+        return new MapDeltaDto(version, true, List.of());
+    }
+}
@@ -12,8 +12,8 @@ public class MapInfoDto {
 
     private Long id;
     private String name;
-    private String latitude;
-    private String longitude;
+    private Double latitude;
+    private Double longitude;
     private Category category;
     private String address;
     private String phone;
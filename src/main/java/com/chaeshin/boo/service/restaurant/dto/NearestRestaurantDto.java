@@ -0,0 +1,17 @@
+package com.chaeshin.boo.service.restaurant.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.Getter;
+
+@Getter
+public class NearestRestaurantDto {
+
+    @JsonUnwrapped
+    private MapInfoDto restaurant;
+    private double distance; // 기준 좌표로부터의 거리(m)
+
+    public NearestRestaurantDto(MapInfoDto restaurant, double distance) {
+        this.restaurant = restaurant;
+        this.distance = distance;
+    }
+}
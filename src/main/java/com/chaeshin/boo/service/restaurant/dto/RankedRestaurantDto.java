@@ -0,0 +1,19 @@
+package com.chaeshin.boo.service.restaurant.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.Getter;
+
+@Getter
+public class RankedRestaurantDto {
+
+    private int rank;
+    @JsonUnwrapped
+    private MapInfoDto restaurant;
+    private double rating; // 순위 산정 점수
+
+    public RankedRestaurantDto(int rank, MapInfoDto restaurant, double rating) {
+        this.rank = rank;
+        this.restaurant = restaurant;
+        this.rating = rating;
+    }
+}
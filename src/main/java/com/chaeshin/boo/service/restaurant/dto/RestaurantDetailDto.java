@@ -14,8 +14,8 @@ public class RestaurantDetailDto {
     private String name;
     @JsonProperty("restaurant_image")
     private String imageUrl;
-    private String latitude;
-    private String longitude;
+    private Double latitude;
+    private Double longitude;
     @JsonProperty("opening_hours")
     private String businessHours;
     private String address;
@@ -2,13 +2,16 @@ package com.chaeshin.boo.service.restaurant.dto;
 
 import com.chaeshin.boo.domain.restaurant.Category;
 import com.chaeshin.boo.domain.restaurant.Restaurant;
+import com.chaeshin.boo.domain.restaurant.ScoreHistogram;
 import com.chaeshin.boo.domain.review.Review;
 import com.chaeshin.boo.service.review.dto.ReviewDto;
+import com.chaeshin.boo.service.review.dto.ReviewPageDto;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 
 @Getter
 public class RestaurantInfoDto {
@@ -26,8 +29,12 @@ public class RestaurantInfoDto {
     private int reviewCnt;
     @JsonProperty("scoreAvg")
     private BigDecimal scoreAvg;
+    @JsonProperty("score_histogram")
+    private Map<Integer, Integer> scoreHistogram; // 점수(1~5) -> 리뷰 수
     @JsonProperty("review")
     private List<ReviewDto> reviews;
+    @JsonProperty("review_next_cursor")
+    private String reviewNextCursor; // 다음 리뷰 페이지 커서 (/review/restaurant/{id}/page/)
     @JsonProperty("menus")
     private List<MenuDto> menus;
 
@@ -44,6 +51,8 @@ public class RestaurantInfoDto {
         this.openingHours = restaurant.getBusinessHours();
         this.reviewCnt = restaurant.getReviewCnt();
         this.scoreAvg = restaurant.getScoreAvg();
+        this.scoreHistogram = restaurant.getScoreHistogram() == null
+                ? new ScoreHistogram().toMap() : restaurant.getScoreHistogram().toMap();
         this.menus = restaurant.getMenus().stream()
                 .map(o -> new MenuDto(o)).toList();
         return this;
@@ -56,4 +65,10 @@ public class RestaurantInfoDto {
                 .map(o -> new ReviewDto(o)).toList();
         return this;
     }
+
+    public RestaurantInfoDto updateReviews(ReviewPageDto page) {
+        this.reviews = page.getReviews();
+        this.reviewNextCursor = page.getNextCursor();
+        return this;
+    }
 }
@@ -35,10 +35,10 @@ public class ResponseDocumentDto {
     private String roadAddressName;
 
     @JsonProperty("x")
-    private String longitude;
+    private Double longitude;
 
     @JsonProperty("y")
-    private String latitude;
+    private Double latitude;
 
     @JsonProperty("place_url")
     private String placeUrl;
@@ -0,0 +1,131 @@
+package com.chaeshin.boo.service.restaurant.geo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 위/경도 좌표를 고정 크기 격자(Grid)로 버킷팅하는 인메모리 공간 인덱스.
+ * <br></br>
+ * 사각 영역(Bounding Box) 조회 시 영역과 겹치는 셀만 살펴보므로, 조회 비용이 전체 데이터 수가 아닌 영역 내 데이터 수에 비례한다.
+ * <br></br>
+ * 쓰기는 직렬화(synchronized)하고 읽기는 잠금 없이 수행한다.
+ * @param <T> 좌표와 함께 저장할 값
+ */
+public class GeoGridIndex<T> {
+
+    private final double cellSize; // 셀 한 변의 크기(도 단위)
+    private final Map<Long, Map<Long, Entry<T>>> cells = new ConcurrentHashMap<>(); // 셀 키 -> (ID -> 항목)
+    private final Map<Long, Long> cellOf = new ConcurrentHashMap<>(); // ID -> 셀 키
+
+    public GeoGridIndex(double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("cellSize must be positive");
+        }
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * 항목 추가. 이미 존재하는 ID 라면 좌표와 값을 갱신한다.
+     */
+    public synchronized void put(long id, double latitude, double longitude, T value) {
+        long key = cellKey(latitude, longitude);
+        Long previousKey = cellOf.put(id, key);
+        if (previousKey != null && previousKey != key) {
+            removeFromCell(previousKey, id);
+        }
+        cells.computeIfAbsent(key, k -> new ConcurrentHashMap<>())
+                .put(id, new Entry<>(latitude, longitude, value));
+    }
+
+    public synchronized void remove(long id) {
+        Long key = cellOf.remove(id);
+        if (key != null) {
+            removeFromCell(key, id);
+        }
+    }
+
+    public synchronized void clear() {
+        cells.clear();
+        cellOf.clear();
+    }
+
+    public int size() {
+        return cellOf.size();
+    }
+
+    /**
+     * 사각 영역 내 모든 항목 조회.
+     * <br></br>
+     * 영역이 너무 넓어 살펴볼 셀의 수가 실제 존재하는 셀 수보다 많다면, 존재하는 셀만 순회한다.
+     */
+    public List<T> findWithin(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+        List<T> result = new ArrayList<>();
+        long minRow = cellIndex(minLatitude);
+        long maxRow = cellIndex(maxLatitude);
+        long minCol = cellIndex(minLongitude);
+        long maxCol = cellIndex(maxLongitude);
+
+        if ((maxRow - minRow + 1) * (maxCol - minCol + 1) > cells.size()) {
+            for (Map<Long, Entry<T>> cell : cells.values()) {
+                collect(cell, minLatitude, minLongitude, maxLatitude, maxLongitude, result);
+            }
+            return result;
+        }
+
+        for (long row = minRow; row <= maxRow; row++) {
+            for (long col = minCol; col <= maxCol; col++) {
+                Map<Long, Entry<T>> cell = cells.get(key(row, col));
+                if (cell != null) {
+                    collect(cell, minLatitude, minLongitude, maxLatitude, maxLongitude, result);
+                }
+            }
+        }
+        return result;
+    }
+
+    private void collect(Map<Long, Entry<T>> cell, double minLatitude, double minLongitude,
+                         double maxLatitude, double maxLongitude, List<T> result) {
+        for (Entry<T> entry : cell.values()) {
+            if (entry.latitude >= minLatitude && entry.latitude <= maxLatitude
+                    && entry.longitude >= minLongitude && entry.longitude <= maxLongitude) {
+                result.add(entry.value);
+            }
+        }
+    }
+
+    private void removeFromCell(long key, long id) {
+        Map<Long, Entry<T>> cell = cells.get(key);
+        if (cell != null) {
+            cell.remove(id);
+            if (cell.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    private long cellKey(double latitude, double longitude) {
+        return key(cellIndex(latitude), cellIndex(longitude));
+    }
+
+    private long cellIndex(double degree) {
+        return (long) Math.floor(degree / cellSize);
+    }
+
+    private static long key(long row, long col) {
+        return (row << 32) | (col & 0xffffffffL);
+    }
+
+    private static class Entry<T> {
+        private final double latitude;
+        private final double longitude;
+        private final T value;
+
+        private Entry(double latitude, double longitude, T value) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.chaeshin.boo.service.restaurant.geo;
+
+import com.chaeshin.boo.utils.geocoding.GeoDistance;
+
+/**
+ * 위/경도 좌표에 대한 불변(Immutable) KD-트리.
+ * <br></br>
+ * 좌표를 단위 구 위의 3차원 점(x, y, z)으로 변환해 저장한다. 두 점 사이의 직선(현) 거리는 대권 거리와 단조 관계이므로,
+ * 위도에 따른 경도 왜곡 없이 정확한 최근접 탐색이 가능하다.
+ * <br></br>
+ * 모든 값은 원시 타입 배열에 트리 순서(구간의 중앙값이 노드)로 저장되며, 생성 이후에는 변경되지 않으므로 잠금 없이 동시에 조회할 수 있다.
+ */
+public class KdTree {
+
+    /**
+     * 최근접 탐색 시 후보에 포함할지 결정하는 필터. 인자는 build 시 전달한 배열의 인덱스.
+     */
+    @FunctionalInterface
+    public interface Filter {
+        boolean accept(int index);
+    }
+
+    private final int[] original; // 트리 위치 -> build 시 전달한 인덱스
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] zs;
+
+    private KdTree(int[] original, double[] xs, double[] ys, double[] zs) {
+        this.original = original;
+        this.xs = xs;
+        this.ys = ys;
+        this.zs = zs;
+    }
+
+    /**
+     * 위도/경도 배열로부터 트리 생성. 두 배열의 길이는 같아야 한다.
+     */
+    public static KdTree build(double[] latitudes, double[] longitudes) {
+        int n = latitudes.length;
+        double[] x = new double[n];
+        double[] y = new double[n];
+        double[] z = new double[n];
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            double lat = Math.toRadians(latitudes[i]);
+            double lng = Math.toRadians(longitudes[i]);
+            x[i] = Math.cos(lat) * Math.cos(lng);
+            y[i] = Math.cos(lat) * Math.sin(lng);
+            z[i] = Math.sin(lat);
+            order[i] = i;
+        }
+        double[][] axes = {x, y, z};
+        arrange(order, axes, 0, n, 0);
+
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        double[] zs = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = x[order[i]];
+            ys[i] = y[order[i]];
+            zs[i] = z[order[i]];
+        }
+        return new KdTree(order, xs, ys, zs);
+    }
+
+    public int size() {
+        return original.length;
+    }
+
+    /**
+     * 필터를 통과하는 점 중 기준 좌표에서 가장 가까운 k개 탐색.
+     * @return 가까운 순으로 정렬된 결과
+     */
+    public Result nearest(double latitude, double longitude, int k, Filter filter) {
+        double lat = Math.toRadians(latitude);
+        double lng = Math.toRadians(longitude);
+        double[] query = {Math.cos(lat) * Math.cos(lng), Math.cos(lat) * Math.sin(lng), Math.sin(lat)};
+
+        Heap heap = new Heap(Math.max(0, Math.min(k, size())));
+        if (heap.capacity > 0) {
+            search(query, 0, size(), 0, filter, heap);
+        }
+        return heap.toResult(original);
+    }
+
+    private void search(double[] query, int lo, int hi, int depth, Filter filter, Heap heap) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        double dx = xs[mid] - query[0];
+        double dy = ys[mid] - query[1];
+        double dz = zs[mid] - query[2];
+        double squared = dx * dx + dy * dy + dz * dz;
+        if (filter == null || filter.accept(original[mid])) {
+            heap.offer(mid, squared);
+        }
+
+        double diff;
+        switch (depth % 3) {
+            case 0 -> diff = query[0] - xs[mid];
+            case 1 -> diff = query[1] - ys[mid];
+            default -> diff = query[2] - zs[mid];
+        }
+        boolean leftFirst = diff < 0;
+        if (leftFirst) {
+            search(query, lo, mid, depth + 1, filter, heap);
+        } else {
+            search(query, mid + 1, hi, depth + 1, filter, heap);
+        }
+        if (!heap.isFull() || diff * diff < heap.worst()) {
+            if (leftFirst) {
+                search(query, mid + 1, hi, depth + 1, filter, heap);
+            } else {
+                search(query, lo, mid, depth + 1, filter, heap);
+            }
+        }
+    }
+
+    /*구간 [lo, hi) 를 현재 축 기준 중앙값으로 분할한 뒤 양쪽을 재귀적으로 분할*/
+    private static void arrange(int[] order, double[][] axes, int lo, int hi, int depth) {
+        if (hi - lo <= 1) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        select(order, axes[depth % 3], lo, hi - 1, mid);
+        arrange(order, axes, lo, mid, depth + 1);
+        arrange(order, axes, mid + 1, hi, depth + 1);
+    }
+
+    /*Quickselect : order[lo..hi] 를 k 번째 값을 기준으로 분할*/
+    private static void select(int[] order, double[] axis, int lo, int hi, int k) {
+        while (lo < hi) {
+            double pivot = axis[order[(lo + hi) >>> 1]];
+            int i = lo;
+            int j = hi;
+            while (i <= j) {
+                while (axis[order[i]] < pivot) i++;
+                while (axis[order[j]] > pivot) j--;
+                if (i <= j) {
+                    int tmp = order[i];
+                    order[i] = order[j];
+                    order[j] = tmp;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                hi = j;
+            } else if (k >= i) {
+                lo = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 최근접 탐색 결과. indices 는 build 시 전달한 배열의 인덱스, distances 는 대권 거리(m).
+     */
+    public static class Result {
+
+        private final int[] indices;
+        private final double[] distances;
+
+        private Result(int[] indices, double[] distances) {
+            this.indices = indices;
+            this.distances = distances;
+        }
+
+        public int size() {
+            return indices.length;
+        }
+
+        public int index(int i) {
+            return indices[i];
+        }
+
+        public double distance(int i) {
+            return distances[i];
+        }
+    }
+
+    /*제곱 거리 기준 최대 힙. 가장 먼 후보가 루트에 위치한다.*/
+    private static class Heap {
+
+        private final int capacity;
+        private final int[] nodes;
+        private final double[] keys;
+        private int size;
+
+        private Heap(int capacity) {
+            this.capacity = capacity;
+            this.nodes = new int[capacity];
+            this.keys = new double[capacity];
+        }
+
+        private boolean isFull() {
+            return size == capacity;
+        }
+
+        private double worst() {
+            return keys[0];
+        }
+
+        private void offer(int node, double key) {
+            if (size < capacity) {
+                nodes[size] = node;
+                keys[size] = key;
+                siftUp(size++);
+            } else if (key < keys[0]) {
+                nodes[0] = node;
+                keys[0] = key;
+                siftDown(0);
+            }
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (keys[parent] >= keys[i]) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int largest = i;
+                int left = 2 * i + 1;
+                int right = left + 1;
+                if (left < size && keys[left] > keys[largest]) largest = left;
+                if (right < size && keys[right] > keys[largest]) largest = right;
+                if (largest == i) {
+                    return;
+                }
+                swap(i, largest);
+                i = largest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int node = nodes[a];
+            nodes[a] = nodes[b];
+            nodes[b] = node;
+            double key = keys[a];
+            keys[a] = keys[b];
+            keys[b] = key;
+        }
+
+        /*힙에서 하나씩 꺼내 뒤에서부터 채우면 가까운 순으로 정렬된다*/
+        private Result toResult(int[] original) {
+            int n = size;
+            int[] indices = new int[n];
+            double[] distances = new double[n];
+            for (int i = n - 1; i >= 0; i--) {
+                indices[i] = original[nodes[0]];
+                double chord = Math.sqrt(keys[0]);
+                distances[i] = 2 * GeoDistance.EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, chord / 2));
+                nodes[0] = nodes[size - 1];
+                keys[0] = keys[size - 1];
+                size--;
+                siftDown(0);
+            }
+            return new Result(indices, distances);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.chaeshin.boo.service.restaurant.geo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 줌 레벨별 계층 격자로 좌표를 묶는 마커 클러스터 인덱스.
+ * <br></br>
+ * 줌 레벨 z 의 격자 한 칸은 화면상 약 radiusPixels 픽셀 크기(= radiusPixels * 360 / (256 * 2^z) 도)이며,
+ * 각 칸은 개수, 좌표 합, 평점 합만 보관한다. 점이 추가/수정/삭제될 때 모든 레벨의 해당 칸만 O(레벨 수) 로 갱신되므로
+ * 요청마다 클러스터를 다시 계산하지 않는다.
+ * <br></br>
+ * 칸은 불변 객체로 교체되어 잠금 없이 조회할 수 있고, 쓰기는 직렬화(synchronized)한다.
+ */
+public class MarkerClusterIndex {
+
+    private final int maxZoom;
+    private final double[] cellSizes; // 줌 레벨 -> 칸 크기(도)
+    private final List<Map<Long, Cluster>> levels = new ArrayList<>();
+    private final Map<Long, Point> points = new ConcurrentHashMap<>();
+
+    public MarkerClusterIndex(int maxZoom, int radiusPixels) {
+        this.maxZoom = maxZoom;
+        this.cellSizes = new double[maxZoom + 1];
+        for (int z = 0; z <= maxZoom; z++) {
+            cellSizes[z] = radiusPixels * 360.0 / (256.0 * Math.pow(2, z));
+            levels.add(new ConcurrentHashMap<>());
+        }
+    }
+
+    public int getMaxZoom() {
+        return maxZoom;
+    }
+
+    /**
+     * 점 추가 또는 갱신.
+     * @param score 평점. 평점이 없는 경우 null 로 전달하면 평균 계산에서 제외된다.
+     */
+    public synchronized void put(long id, double latitude, double longitude, Double score) {
+        Point previous = points.put(id, new Point(latitude, longitude, score));
+        if (previous != null) {
+            apply(id, previous, -1);
+        }
+        apply(id, points.get(id), 1);
+    }
+
+    public synchronized void remove(long id) {
+        Point previous = points.remove(id);
+        if (previous != null) {
+            apply(id, previous, -1);
+        }
+    }
+
+    public synchronized void clear() {
+        points.clear();
+        levels.forEach(Map::clear);
+    }
+
+    /**
+     * 줌 레벨의 사각 영역 내 클러스터 조회. zoom 이 maxZoom 보다 크면 maxZoom 으로 간주한다.
+     */
+    public List<Cluster> findWithin(int zoom, double minLatitude, double minLongitude,
+                                    double maxLatitude, double maxLongitude) {
+        int z = Math.max(0, Math.min(zoom, maxZoom));
+        Map<Long, Cluster> level = levels.get(z);
+        double cellSize = cellSizes[z];
+        long minRow = (long) Math.floor(minLatitude / cellSize);
+        long maxRow = (long) Math.floor(maxLatitude / cellSize);
+        long minCol = (long) Math.floor(minLongitude / cellSize);
+        long maxCol = (long) Math.floor(maxLongitude / cellSize);
+
+        List<Cluster> result = new ArrayList<>();
+        if ((maxRow - minRow + 1) * (maxCol - minCol + 1) > level.size()) {
+            for (Cluster cluster : level.values()) {
+                if (cluster.row >= minRow && cluster.row <= maxRow && cluster.col >= minCol && cluster.col <= maxCol) {
+                    result.add(cluster);
+                }
+            }
+            return result;
+        }
+        for (long row = minRow; row <= maxRow; row++) {
+            for (long col = minCol; col <= maxCol; col++) {
+                Cluster cluster = level.get(key(row, col));
+                if (cluster != null) {
+                    result.add(cluster);
+                }
+            }
+        }
+        return result;
+    }
+
+    private void apply(long id, Point point, int sign) {
+        for (int z = 0; z <= maxZoom; z++) {
+            long row = (long) Math.floor(point.latitude / cellSizes[z]);
+            long col = (long) Math.floor(point.longitude / cellSizes[z]);
+            levels.get(z).compute(key(row, col), (k, cluster) -> {
+                Cluster base = cluster == null ? new Cluster(row, col, 0, 0, 0, 0, 0, 0) : cluster;
+                Cluster updated = base.plus(id, point, sign);
+                return updated.count == 0 ? null : updated;
+            });
+        }
+    }
+
+    private static long key(long row, long col) {
+        return (row << 32) | (col & 0xffffffffL);
+    }
+
+    private static class Point {
+        private final double latitude;
+        private final double longitude;
+        private final Double score;
+
+        private Point(double latitude, double longitude, Double score) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.score = score;
+        }
+    }
+
+    /**
+     * 격자 한 칸의 집계. 점이 하나뿐이라면 idSum 이 곧 그 점의 ID 이다.
+     */
+    public static class Cluster {
+
+        private final long row;
+        private final long col;
+        private final int count;
+        private final long idSum;
+        private final double latitudeSum;
+        private final double longitudeSum;
+        private final int scoredCount;
+        private final double scoreSum;
+
+        private Cluster(long row, long col, int count, long idSum, double latitudeSum,
+                        double longitudeSum, int scoredCount, double scoreSum) {
+            this.row = row;
+            this.col = col;
+            this.count = count;
+            this.idSum = idSum;
+            this.latitudeSum = latitudeSum;
+            this.longitudeSum = longitudeSum;
+            this.scoredCount = scoredCount;
+            this.scoreSum = scoreSum;
+        }
+
+        private Cluster plus(long id, Point point, int sign) {
+            boolean scored = point.score != null;
+            return new Cluster(row, col, count + sign, idSum + sign * id,
+                    latitudeSum + sign * point.latitude, longitudeSum + sign * point.longitude,
+                    scoredCount + (scored ? sign : 0), scoreSum + (scored ? sign * point.score : 0));
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        /*중심 좌표(구성 점들의 평균)*/
+        public double getLatitude() {
+            return latitudeSum / count;
+        }
+
+        public double getLongitude() {
+            return longitudeSum / count;
+        }
+
+        /*평점이 있는 점들의 평균 평점. 없다면 null*/
+        public Double getScoreAvg() {
+            return scoredCount == 0 ? null : scoreSum / scoredCount;
+        }
+
+        /*점이 하나뿐인 경우 그 점의 ID, 아니라면 null*/
+        public Long getSingleId() {
+            return count == 1 ? idSum : null;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.chaeshin.boo.service.restaurant.geo;
+
+import com.chaeshin.boo.domain.restaurant.RestaurantChangedEvent;
+import com.chaeshin.boo.repository.restaurant.RestaurantRepository;
+import com.chaeshin.boo.service.restaurant.catalog.RestaurantChangeLog;
+import com.chaeshin.boo.service.restaurant.dto.MapClusterDto;
+import com.chaeshin.boo.service.restaurant.dto.MapInfoDto;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 지도 마커 클러스터링 인덱스.
+ * <br></br>
+ * 줌 레벨이 낮을 때는 클러스터 중심, 개수, 평균 평점을 반환하고 maxZoom 보다 확대된 경우에는 개별 식당을 반환한다.
+ * KakaoGeoService 가 식당을 추가하거나 평점이 바뀌면 RestaurantChangedEvent 로 해당 식당의 칸만 갱신한다.
+ */
+@Slf4j
+@Component
+public class RestaurantClusterIndex {
+
+    private final RestaurantRepository restaurantRepository;
+    private final RestaurantChangeLog restaurantChangeLog;
+    private final RestaurantGeoIndex restaurantGeoIndex;
+    private final MarkerClusterIndex index;
+    private final Map<Long, MapInfoDto> restaurants = new ConcurrentHashMap<>();
+
+    public RestaurantClusterIndex(RestaurantRepository restaurantRepository,
+                                  RestaurantChangeLog restaurantChangeLog,
+                                  RestaurantGeoIndex restaurantGeoIndex,
+                                  @Value("${restaurant.cluster.max-zoom:16}") int maxZoom,
+                                  @Value("${restaurant.cluster.radius-pixels:60}") int radiusPixels) {
+        this.restaurantRepository = restaurantRepository;
+        this.restaurantChangeLog = restaurantChangeLog;
+        this.restaurantGeoIndex = restaurantGeoIndex;
+        this.index = new MarkerClusterIndex(maxZoom, radiusPixels);
+    }
+
+    /*
+     * 클러스터 칸은 식당 단위로 갱신되므로, 전체 조회 결과를 바로 넣으면 조회 도중 이벤트로 옮겨지거나 지워진 식당이 옛 좌표/평점으로 돌아간다.
+     * 조회 결과에 그 사이의 변경 이력을 먼저 적용하고, 없어진 식당은 빼고 나머지를 넣는다(RestaurantChangeLog.rebuild).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        restaurantChangeLog.rebuild(this, () -> {
+            Map<Long, MapInfoDto> loaded = new HashMap<>();
+            restaurantRepository.findAll().forEach(o -> loaded.put(o.getId(), new MapInfoDto(o)));
+            return loaded;
+        }, (loaded, event) -> {
+            if (event.getType() == RestaurantChangedEvent.Type.REMOVED) {
+                loaded.remove(event.getRestaurantId());
+            } else {
+                loaded.put(event.getRestaurantId(), event.getRestaurant());
+            }
+        }, loaded -> {
+            new ArrayList<>(restaurants.keySet()).stream().filter(o -> !loaded.containsKey(o)).forEach(this::remove);
+            loaded.values().forEach(this::put);
+        });
+        log.info("restaurant cluster index built : {} restaurants", restaurants.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onRestaurantChanged(RestaurantChangedEvent event) {
+        if (event.getType() == RestaurantChangedEvent.Type.REMOVED) {
+            remove(event.getRestaurantId());
+        } else {
+            put(event.getRestaurant());
+        }
+    }
+
+    /**
+     * 줌 레벨과 사각 영역에 해당하는 클러스터 조회
+     * @param zoom 웹 지도 줌 레벨(0 : 세계 전체, 클수록 확대)
+     */
+    public List<MapClusterDto> findClusters(int zoom, double minLatitude, double minLongitude,
+                                            double maxLatitude, double maxLongitude) {
+        if (zoom > index.getMaxZoom()) {
+            return restaurantGeoIndex.findWithin(minLatitude, minLongitude, maxLatitude, maxLongitude)
+                    .stream().map(MapClusterDto::of).toList();
+        }
+
+        List<MarkerClusterIndex.Cluster> clusters =
+                index.findWithin(zoom, minLatitude, minLongitude, maxLatitude, maxLongitude);
+        List<MapClusterDto> result = new ArrayList<>(clusters.size());
+        for (MarkerClusterIndex.Cluster cluster : clusters) {
+            MapInfoDto single = cluster.getSingleId() == null ? null : restaurants.get(cluster.getSingleId());
+            if (single != null) {
+                result.add(MapClusterDto.of(single));
+            } else {
+                result.add(new MapClusterDto(cluster.getLatitude(), cluster.getLongitude(),
+                        cluster.getCount(), cluster.getScoreAvg(), null));
+            }
+        }
+        return result;
+    }
+
+    private void remove(Long restaurantId) {
+        restaurants.remove(restaurantId);
+        index.remove(restaurantId);
+    }
+
+    private void put(MapInfoDto restaurant) {
+        if (restaurant.getId() == null || restaurant.getLatitude() == null || restaurant.getLongitude() == null) {
+            return;
+        }
+        restaurants.put(restaurant.getId(), restaurant);
+        Double score = restaurant.getReviewCnt() > 0 && restaurant.getScoreAvg() != null
+                ? restaurant.getScoreAvg().doubleValue() : null;
+        index.put(restaurant.getId(), restaurant.getLatitude(), restaurant.getLongitude(), score);
+    }
+}
@@ -0,0 +1,76 @@
+package com.chaeshin.boo.service.restaurant.geo;
+
+import com.chaeshin.boo.domain.restaurant.RestaurantChangedEvent;
+import com.chaeshin.boo.repository.restaurant.RestaurantRepository;
+import com.chaeshin.boo.service.restaurant.catalog.RestaurantChangeLog;
+import com.chaeshin.boo.service.restaurant.dto.MapInfoDto;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 지도 화면(Viewport) 조회를 위한 식당 공간 인덱스.
+ * <br></br>
+ * 애플리케이션 기동 시 DB 의 전체 식당으로 한 번 구성되고, 이후에는 RestaurantChangedEvent 를 구독해 커밋된 변경만 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestaurantGeoIndex {
+
+    private final RestaurantRepository restaurantRepository;
+    private final RestaurantChangeLog restaurantChangeLog;
+
+    @Value("${restaurant.geo-index.cell-size:0.005}")
+    private double cellSize; // 약 550m
+
+    private volatile GeoGridIndex<MapInfoDto> index = new GeoGridIndex<>(0.005);
+
+    /*
+     * 새 인덱스를 만드는 동안 커밋된 변경은 교체 전의 인덱스에만 들어가므로, 그대로 교체하면 사라진다.
+     * 조회를 시작한 뒤의 변경 이력을 새 인덱스에 다시 적용하고 교체한다(RestaurantChangeLog.rebuild).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        restaurantChangeLog.rebuild(this, () -> {
+            GeoGridIndex<MapInfoDto> rebuilt = new GeoGridIndex<>(cellSize);
+            restaurantRepository.findAll().forEach(o -> put(rebuilt, new MapInfoDto(o)));
+            return rebuilt;
+        }, RestaurantGeoIndex::apply, rebuilt -> index = rebuilt);
+        log.info("restaurant geo index built : {} restaurants", index.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onRestaurantChanged(RestaurantChangedEvent event) {
+        apply(index, event);
+    }
+
+    /**
+     * 사각 영역 내 식당 조회
+     * @return 영역 내 식당 목록
+     */
+    public List<MapInfoDto> findWithin(double minLatitude, double minLongitude,
+                                       double maxLatitude, double maxLongitude) {
+        return index.findWithin(minLatitude, minLongitude, maxLatitude, maxLongitude);
+    }
+
+    private static void apply(GeoGridIndex<MapInfoDto> target, RestaurantChangedEvent event) {
+        if (event.getType() == RestaurantChangedEvent.Type.REMOVED) {
+            target.remove(event.getRestaurantId());
+        } else {
+            put(target, event.getRestaurant());
+        }
+    }
+
+    private static void put(GeoGridIndex<MapInfoDto> target, MapInfoDto restaurant) {
+        if (restaurant.getId() == null || restaurant.getLatitude() == null || restaurant.getLongitude() == null) {
+            return; // 좌표 정보가 없는 식당은 지도에 표시할 수 없으므로 제외.
+        }
+        target.put(restaurant.getId(), restaurant.getLatitude(), restaurant.getLongitude(), restaurant);
+    }
+}
@@ -0,0 +1,173 @@
+package com.chaeshin.boo.service.restaurant.geo;
+
+import com.chaeshin.boo.domain.restaurant.Category;
+import com.chaeshin.boo.domain.restaurant.RestaurantChangedEvent;
+import com.chaeshin.boo.repository.restaurant.RestaurantRepository;
+import com.chaeshin.boo.service.restaurant.catalog.RestaurantChangeLog;
+import com.chaeshin.boo.service.restaurant.dto.MapInfoDto;
+import com.chaeshin.boo.service.restaurant.dto.NearestRestaurantDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * k-최근접 식당 조회를 위한 KD-트리 인덱스.
+ * <br></br>
+ * 조회는 불변 스냅샷(Snapshot)을 참조하므로 잠금이 없다. 식당이 변경되면 원본 맵만 갱신한 뒤,
+ * 백그라운드 스레드가 잠시 변경을 모아 새 트리를 만들고 참조를 교체한다. (Copy-On-Write)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestaurantNearestIndex {
+
+    private final RestaurantRepository restaurantRepository;
+    private final RestaurantChangeLog restaurantChangeLog;
+
+    @Value("${restaurant.nearest-index.rebuild-delay-ms:1000}")
+    private long rebuildDelayMs;
+
+    private final Map<Long, MapInfoDto> restaurants = new ConcurrentHashMap<>();
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean(false);
+    private volatile Snapshot snapshot = Snapshot.of(List.of());
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    private void init() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "restaurant-kdtree-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    private void cleanup() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    /*
+     * findAll 결과를 원본 맵에 바로 넣으면, 조회 중에 삭제/수정 이벤트가 먼저 반영된 식당을 조회 시점의 옛 값으로 되돌린다.
+     * 별도 맵에 읽은 뒤 그 사이의 변경 이력을 적용하고 원본 맵을 통째로 맞춘다(RestaurantChangeLog.rebuild).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildAll() {
+        restaurantChangeLog.rebuild(this, () -> {
+            Map<Long, MapInfoDto> loaded = new HashMap<>();
+            restaurantRepository.findAll().forEach(o -> put(loaded, new MapInfoDto(o)));
+            return loaded;
+        }, RestaurantNearestIndex::apply, loaded -> {
+            restaurants.keySet().retainAll(loaded.keySet());
+            restaurants.putAll(loaded);
+        });
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        synchronized (this) {
+            apply(restaurants, event);
+        }
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(this::rebuild, rebuildDelayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 기준 좌표에서 가장 가까운 식당 k개 조회
+     * @param category 카테고리 필터. null 이면 전체
+     * @param minScore 최소 평균 평점 필터. null 이면 전체
+     * @return 가까운 순으로 정렬된 식당과 거리(m)
+     */
+    public List<NearestRestaurantDto> findNearest(double latitude, double longitude, int k,
+                                                  Category category, Double minScore) {
+        Snapshot current = snapshot;
+        KdTree.Filter filter = null;
+        if (category != null || minScore != null) {
+            int categoryOrdinal = category == null ? -1 : category.ordinal();
+            double min = minScore == null ? Double.NEGATIVE_INFINITY : minScore;
+            filter = i -> (categoryOrdinal < 0 || current.categories[i] == categoryOrdinal)
+                    && current.scores[i] >= min;
+        }
+
+        KdTree.Result result = current.tree.nearest(latitude, longitude, k, filter);
+        List<NearestRestaurantDto> nearest = new ArrayList<>(result.size());
+        for (int i = 0; i < result.size(); i++) {
+            nearest.add(new NearestRestaurantDto(current.values[result.index(i)], result.distance(i)));
+        }
+        return nearest;
+    }
+
+    private static void apply(Map<Long, MapInfoDto> target, RestaurantChangedEvent event) {
+        if (event.getType() == RestaurantChangedEvent.Type.REMOVED) {
+            target.remove(event.getRestaurantId());
+        } else {
+            put(target, event.getRestaurant());
+        }
+    }
+
+    private static void put(Map<Long, MapInfoDto> target, MapInfoDto restaurant) {
+        if (restaurant.getId() != null && restaurant.getLatitude() != null && restaurant.getLongitude() != null) {
+            target.put(restaurant.getId(), restaurant);
+        }
+    }
+
+    private void rebuild() {
+        rebuildScheduled.set(false); // 스냅샷을 복사하기 전에 내려야, 복사 이후에 바뀐 식당이 재구성을 다시 예약한다
+        try {
+            snapshot = Snapshot.of(new ArrayList<>(restaurants.values()));
+            log.debug("restaurant kd-tree rebuilt : {} restaurants", snapshot.values.length);
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild restaurant kd-tree", e);
+        }
+    }
+
+    /*트리와, 트리 인덱스에 대응하는 식당 정보/필터용 원시 배열의 묶음*/
+    private static class Snapshot {
+
+        private final KdTree tree;
+        private final MapInfoDto[] values;
+        private final int[] categories;
+        private final double[] scores;
+
+        private Snapshot(KdTree tree, MapInfoDto[] values, int[] categories, double[] scores) {
+            this.tree = tree;
+            this.values = values;
+            this.categories = categories;
+            this.scores = scores;
+        }
+
+        private static Snapshot of(List<MapInfoDto> restaurants) {
+            int n = restaurants.size();
+            MapInfoDto[] values = restaurants.toArray(new MapInfoDto[0]);
+            double[] latitudes = new double[n];
+            double[] longitudes = new double[n];
+            int[] categories = new int[n];
+            double[] scores = new double[n];
+            for (int i = 0; i < n; i++) {
+                latitudes[i] = values[i].getLatitude();
+                longitudes[i] = values[i].getLongitude();
+                categories[i] = values[i].getCategory() == null ? -1 : values[i].getCategory().ordinal();
+                scores[i] = values[i].getScoreAvg() == null ? 0.0 : values[i].getScoreAvg().doubleValue();
+            }
+            return new Snapshot(KdTree.build(latitudes, longitudes), values, categories, scores);
+        }
+    }
+}
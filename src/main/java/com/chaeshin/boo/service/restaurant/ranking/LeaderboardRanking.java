@@ -0,0 +1,30 @@
+package com.chaeshin.boo.service.restaurant.ranking;
+
+/**
+ * 식당 순위 산정 방식. (restaurant.leaderboard.ranking)
+ */
+public enum LeaderboardRanking {
+
+    /**
+     * 평균 평점에 리뷰 수의 로그를 곱한 값. 리뷰가 많을수록 유리하지만 증가폭은 점점 줄어든다.
+     */
+    WEIGHTED {
+        @Override
+        public double rate(double scoreAvg, int reviewCnt, double priorMean, double priorWeight) {
+            return scoreAvg * Math.log10(1 + reviewCnt);
+        }
+    },
+
+    /**
+     * 베이지안 평균. 사전 평균(priorMean)의 리뷰를 priorWeight 개 더 받은 것으로 보고 평균을 낸다.
+     * 리뷰가 적은 식당의 극단적인 평균이 상위를 차지하지 않도록 한다.
+     */
+    BAYESIAN {
+        @Override
+        public double rate(double scoreAvg, int reviewCnt, double priorMean, double priorWeight) {
+            return (priorWeight * priorMean + scoreAvg * reviewCnt) / (priorWeight + reviewCnt);
+        }
+    };
+
+    public abstract double rate(double scoreAvg, int reviewCnt, double priorMean, double priorWeight);
+}
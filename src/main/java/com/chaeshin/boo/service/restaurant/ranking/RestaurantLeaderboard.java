@@ -0,0 +1,162 @@
+package com.chaeshin.boo.service.restaurant.ranking;
+
+import com.chaeshin.boo.domain.restaurant.Category;
+import com.chaeshin.boo.domain.restaurant.RestaurantChangedEvent;
+import com.chaeshin.boo.repository.restaurant.RestaurantRepository;
+import com.chaeshin.boo.service.restaurant.catalog.RestaurantChangeLog;
+import com.chaeshin.boo.service.restaurant.dto.MapInfoDto;
+import com.chaeshin.boo.service.restaurant.dto.RankedRestaurantDto;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 카테고리별 식당 순위표.
+ * <br></br>
+ * 카테고리마다(및 전체) 점수 순으로 정렬된 스킵 리스트를 유지하며, 리뷰 작성/수정/삭제로 식당 평점이 바뀌면
+ * RestaurantChangedEvent 를 받아 해당 식당 하나만 제거 후 다시 삽입한다. (O(log n))
+ * 조회는 스킵 리스트를 앞에서부터 순회하므로 DB 정렬(ORDER BY)이 필요 없다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestaurantLeaderboard {
+
+    public static final int MAX_RANK = 1000; // 조회 가능한 최대 순위
+
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparingDouble((Entry o) -> o.rating).reversed()
+            .thenComparing(o -> o.restaurant.getReviewCnt(), Comparator.reverseOrder())
+            .thenComparing(o -> o.restaurant.getId());
+
+    private final RestaurantRepository restaurantRepository;
+    private final RestaurantChangeLog restaurantChangeLog;
+
+    @Value("${restaurant.leaderboard.ranking:BAYESIAN}")
+    private LeaderboardRanking ranking;
+
+    @Value("${restaurant.leaderboard.prior-mean:3.0}")
+    private double priorMean;
+
+    @Value("${restaurant.leaderboard.prior-weight:5}")
+    private double priorWeight;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final NavigableSet<Entry> overall = new ConcurrentSkipListSet<>(ORDER);
+    private final Map<Category, NavigableSet<Entry>> boards = new EnumMap<>(Category.class);
+    {
+        for (Category category : Category.values()) {
+            boards.put(category, new ConcurrentSkipListSet<>(ORDER));
+        }
+    }
+
+    /*
+     * 전체 조회 도중 리뷰가 달려 평점 이벤트가 먼저 반영되면, 뒤이어 넣는 조회 결과가 그 식당을 옛 평점 순위로 되돌린다.
+     * 조회 결과에 그 사이의 변경 이력을 적용한 뒤, put/remove 와 같은 잠금 안에서 순위표를 맞춘다(RestaurantChangeLog.rebuild).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildAll() {
+        restaurantChangeLog.rebuild(this, () -> {
+            Map<Long, MapInfoDto> loaded = new HashMap<>();
+            restaurantRepository.findAll().forEach(o -> loaded.put(o.getId(), new MapInfoDto(o)));
+            return loaded;
+        }, (loaded, event) -> {
+            if (event.getType() == RestaurantChangedEvent.Type.REMOVED) {
+                loaded.remove(event.getRestaurantId());
+            } else {
+                loaded.put(event.getRestaurantId(), event.getRestaurant());
+            }
+        }, loaded -> {
+            new ArrayList<>(entries.keySet()).stream().filter(o -> !loaded.containsKey(o)).forEach(this::remove);
+            loaded.values().forEach(this::put);
+        });
+        log.debug("restaurant leaderboard built : {} ranked restaurants", overall.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        if (event.getType() == RestaurantChangedEvent.Type.REMOVED) {
+            remove(event.getRestaurantId());
+        } else {
+            put(event.getRestaurant());
+        }
+    }
+
+    /**
+     * 순위 구간 조회
+     * @param category null 이면 전체 순위
+     * @param offset 0 부터 시작하는 순위 오프셋
+     * @return 순위 순으로 정렬된 식당
+     */
+    public List<RankedRestaurantDto> getRanking(Category category, int offset, int size) {
+        NavigableSet<Entry> board = category == null ? overall : boards.get(category);
+        int end = Math.min(offset + size, MAX_RANK);
+        List<RankedRestaurantDto> result = new ArrayList<>(Math.max(end - offset, 0));
+        Iterator<Entry> iterator = board.iterator();
+        for (int rank = 0; rank < end && iterator.hasNext(); rank++) {
+            Entry entry = iterator.next();
+            if (rank >= offset) {
+                result.add(new RankedRestaurantDto(rank + 1, entry.restaurant, entry.rating));
+            }
+        }
+        return result;
+    }
+
+    /*같은 식당의 이벤트가 동시에 처리되면 이전 항목이 남을 수 있으므로 갱신은 직렬화*/
+    private synchronized void put(MapInfoDto restaurant) {
+        Entry previous = entries.remove(restaurant.getId());
+        if (previous != null) {
+            unlink(previous);
+        }
+        if (restaurant.getReviewCnt() <= 0 || restaurant.getScoreAvg() == null) {
+            return; // 리뷰가 없는 식당은 순위에서 제외
+        }
+
+        Entry entry = new Entry(restaurant, ranking.rate(restaurant.getScoreAvg().doubleValue(),
+                restaurant.getReviewCnt(), priorMean, priorWeight));
+        entries.put(restaurant.getId(), entry);
+        overall.add(entry);
+        if (restaurant.getCategory() != null) {
+            boards.get(restaurant.getCategory()).add(entry);
+        }
+    }
+
+    private synchronized void remove(Long restaurantId) {
+        Entry previous = entries.remove(restaurantId);
+        if (previous != null) {
+            unlink(previous);
+        }
+    }
+
+    private void unlink(Entry entry) {
+        overall.remove(entry);
+        if (entry.restaurant.getCategory() != null) {
+            boards.get(entry.restaurant.getCategory()).remove(entry);
+        }
+    }
+
+    /*스킵 리스트에 들어간 뒤에는 정렬 기준이 바뀌지 않도록 불변으로 유지*/
+    private static final class Entry {
+        private final MapInfoDto restaurant;
+        private final double rating;
+
+        private Entry(MapInfoDto restaurant, double rating) {
+            this.restaurant = restaurant;
+            this.rating = rating;
+        }
+    }
+}
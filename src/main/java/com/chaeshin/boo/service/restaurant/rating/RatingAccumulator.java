@@ -0,0 +1,175 @@
+package com.chaeshin.boo.service.restaurant.rating;
+
+import com.chaeshin.boo.domain.restaurant.RatingDelta;
+import com.chaeshin.boo.domain.restaurant.RestaurantChangedEvent;
+import com.chaeshin.boo.domain.restaurant.ScoreHistogram;
+import com.chaeshin.boo.repository.restaurant.RestaurantRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 식당별 리뷰 수/누적 점수/점수 분포 변화량을 메모리에 모았다가 주기적으로 DB 에 반영하는 집계기.
+ * <br></br>
+ * 식당별 변화량(Counters)은 pending 의 compute 안에서만 더하고, 반영할 때는 pending 에서 통째로 떼어 낸다.
+ * 떼어 낸 Counters 에는 더 이상 아무도 더하지 않으므로, 한 번의 기록이 리뷰 수/점수/점수 분포 중 일부만 반영된 채로
+ * DB 에 쓰이는 일이 없다(점수 분포 합계 = 리뷰 수). 떼어 낸 뒤의 기록은 새 Counters 에 쌓여 다음 반영에 들어간다.
+ * flushIntervalMs 마다 쌓인 변화량을 원자적 UPDATE 로 한 번에(JDBC batch) 반영하고 평균 점수를 다시 계산한다.
+ * <br></br>
+ * 트랜잭션 안에서 기록하면 커밋된 뒤에만 누적한다. 반영 전 프로세스가 종료되면 그 사이의 변화량은 유실될 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RatingAccumulator {
+
+    private final RestaurantRepository restaurantRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${restaurant.rating.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    private final Map<Long, Counters> pending = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    private void init() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "rating-accumulator-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    private void cleanup() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+        flush();
+    }
+
+    /**
+     * 리뷰 작성
+     */
+    public void recordCreated(Long restaurantId, int score) {
+        afterCommit(() -> record(restaurantId, o -> o.add(1, score, score, 1)));
+    }
+
+    /**
+     * 리뷰 점수 수정. 점수가 같으면 기록하지 않는다.
+     */
+    public void recordUpdated(Long restaurantId, int oldScore, int newScore) {
+        if (oldScore == newScore) {
+            return;
+        }
+        afterCommit(() -> record(restaurantId, o -> {
+            o.add(0, newScore - oldScore, newScore, 1);
+            o.add(0, 0, oldScore, -1);
+        }));
+    }
+
+    /**
+     * 리뷰 삭제
+     */
+    public void recordDeleted(Long restaurantId, int score) {
+        afterCommit(() -> record(restaurantId, o -> o.add(-1, -score, score, -1)));
+    }
+
+    /**
+     * 쌓인 변화량을 DB 에 반영하고, 반영된 식당마다 RestaurantChangedEvent 발행
+     */
+    public synchronized void flush() {
+        List<RatingDelta> deltas = new ArrayList<>();
+        for (Long restaurantId : pending.keySet()) {
+            Counters counters = pending.remove(restaurantId);
+            if (counters == null) {
+                continue;
+            }
+            RatingDelta delta = counters.toDelta(restaurantId);
+            if (!delta.isEmpty()) {
+                deltas.add(delta);
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            restaurantRepository.applyReviewDeltas(deltas);
+        } catch (RuntimeException e) {
+            log.error("Failed to flush {} rating deltas, retrying on next flush", deltas.size(), e);
+            deltas.forEach(o -> record(o.getRestaurantId(), c -> c.restore(o)));
+            return;
+        }
+
+        try {
+            restaurantRepository.findAllById(deltas.stream().map(RatingDelta::getRestaurantId).toList())
+                    .forEach(o -> eventPublisher.publishEvent(RestaurantChangedEvent.saved(o)));
+        } catch (RuntimeException e) {
+            log.error("Failed to publish restaurant changes after rating flush", e);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /*compute 가 식당 키를 잠그는 동안 더하므로 flush 의 remove 와 겹치지 않는다*/
+    private void record(Long restaurantId, Consumer<Counters> action) {
+        pending.compute(restaurantId, (k, counters) -> {
+            Counters target = counters != null ? counters : new Counters();
+            action.accept(target);
+            return target;
+        });
+    }
+
+    /*식당 하나의 누적 변화량. pending 의 compute 안에서만 수정된다*/
+    private static class Counters {
+        private int reviewCnt;
+        private int score;
+        private final int[] scoreCounts = new int[ScoreHistogram.BUCKETS];
+
+        void add(int reviewCntDelta, int scoreDelta, int bucketScore, int bucketDelta) {
+            reviewCnt += reviewCntDelta;
+            score += scoreDelta;
+            scoreCounts[ScoreHistogram.bucket(bucketScore)] += bucketDelta;
+        }
+
+        RatingDelta toDelta(Long restaurantId) {
+            return new RatingDelta(restaurantId, reviewCnt, score, scoreCounts);
+        }
+
+        void restore(RatingDelta delta) {
+            reviewCnt += delta.getReviewCnt();
+            score += delta.getScore();
+            for (int i = 0; i < scoreCounts.length; i++) {
+                scoreCounts[i] += delta.getScoreCounts()[i];
+            }
+        }
+    }
+}
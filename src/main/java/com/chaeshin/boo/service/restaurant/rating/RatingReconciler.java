@@ -0,0 +1,122 @@
+package com.chaeshin.boo.service.restaurant.rating;
+
+import com.chaeshin.boo.domain.restaurant.RatingDelta;
+import com.chaeshin.boo.domain.restaurant.RestaurantChangedEvent;
+import com.chaeshin.boo.domain.restaurant.ScoreHistogram;
+import com.chaeshin.boo.repository.restaurant.RestaurantRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 식당에 저장된 리뷰 수/누적 점수/점수 분포를 실제 리뷰와 주기적으로 대조해 보정하는 작업.
+ * <br></br>
+ * 리뷰 테이블을 한 번의 GROUP BY 로 스트리밍 집계한 값과 저장값의 차이(drift)를 구한다. 아직 RatingAccumulator 에서
+ * 반영되지 않은 변화량 때문에 일시적으로 생기는 차이와 구분하기 위해, 직전 실행과 같은 차이가 그대로 남아 있는 식당만
+ * 그 차이를 변화량으로 반영(applyReviewDeltas)한다. 절대값으로 덮어쓰지 않으므로 보정 중에 들어온 변화량도 유실되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RatingReconciler {
+
+    private final RestaurantRepository restaurantRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${restaurant.rating.reconcile-interval-minutes:60}")
+    private long reconcileIntervalMinutes;
+
+    @Value("${restaurant.rating.reconcile-fetch-size:1000}")
+    private int fetchSize;
+
+    private Map<Long, RatingDelta> previousDrift = Map.of();
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    private void init() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "rating-reconciler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    private void cleanup() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::runSafely, 0, reconcileIntervalMinutes, TimeUnit.MINUTES);
+    }
+
+    /**
+     * 저장값과 실제 리뷰 집계를 대조하고, 직전 실행과 같은 차이가 남은 식당을 보정
+     * @return 보정한 식당 수
+     */
+    public synchronized int reconcile() {
+        Map<Long, RatingDelta> actual = restaurantRepository.aggregateReviewScores(fetchSize);
+        Map<Long, RatingDelta> stored = restaurantRepository.findRatingTotals(fetchSize);
+
+        Map<Long, RatingDelta> drift = new HashMap<>();
+        stored.forEach((restaurantId, total) -> {
+            RatingDelta diff = difference(restaurantId, actual.get(restaurantId), total);
+            if (!diff.isEmpty()) {
+                drift.put(restaurantId, diff);
+            }
+        });
+
+        List<RatingDelta> corrections = new ArrayList<>();
+        drift.forEach((restaurantId, diff) -> {
+            if (diff.equals(previousDrift.get(restaurantId))) {
+                corrections.add(diff);
+            }
+        });
+        if (!corrections.isEmpty()) {
+            restaurantRepository.applyReviewDeltas(corrections);
+            restaurantRepository.findAllById(corrections.stream().map(RatingDelta::getRestaurantId).toList())
+                    .forEach(o -> eventPublisher.publishEvent(RestaurantChangedEvent.saved(o)));
+            corrections.forEach(o -> drift.remove(o.getRestaurantId()));
+        }
+        previousDrift = drift;
+
+        log.info("rating reconcile : {} restaurants corrected, {} pending", corrections.size(), drift.size());
+        return corrections.size();
+    }
+
+    private void runSafely() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.error("Failed to reconcile restaurant ratings", e);
+        }
+    }
+
+    /*실제 - 저장. 실제 리뷰가 없으면 0 으로 본다*/
+    private static RatingDelta difference(Long restaurantId, RatingDelta actual, RatingDelta stored) {
+        int[] scoreCounts = new int[ScoreHistogram.BUCKETS];
+        for (int i = 0; i < scoreCounts.length; i++) {
+            scoreCounts[i] = (actual == null ? 0 : actual.getScoreCounts()[i]) - stored.getScoreCounts()[i];
+        }
+        return new RatingDelta(restaurantId,
+                (actual == null ? 0 : actual.getReviewCnt()) - stored.getReviewCnt(),
+                (actual == null ? 0 : actual.getScore()) - stored.getScore(),
+                scoreCounts);
+    }
+}
@@ -0,0 +1,58 @@
+package com.chaeshin.boo.service.restaurant.search;
+
+/**
+ * 한글 처리 유틸리티.
+ */
+public class Hangul {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int JUNGSUNG_COUNT = 21;
+    private static final int JONGSUNG_COUNT = 28;
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'};
+
+    private Hangul() {
+    }
+
+    /**
+     * 문자열의 각 한글 음절을 초성으로 바꾼 문자열. 한글 음절이 아닌 문자는 그대로 둔다. (예 : "김밥천국" -> "ㄱㅂㅊㄱ")
+     */
+    public static String toChosung(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) {
+                sb.append(CHOSUNG[(c - SYLLABLE_BEGIN) / (JUNGSUNG_COUNT * JONGSUNG_COUNT)]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 문자열이 초성(자음)으로만 이루어져 있는지 여부. (예 : "ㄱㅂ")
+     */
+    public static boolean isChosungOnly(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (!isChosung(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isChosung(char c) {
+        for (char chosung : CHOSUNG) {
+            if (chosung == c) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,192 @@
+package com.chaeshin.boo.service.restaurant.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 식당 이름에 대한 N-gram(1, 2-gram) 역색인.
+ * <br></br>
+ * 이름과 이름의 초성 문자열을 각각 색인하며, 포스팅 리스트는 정렬된 int[] 로 보관한다.
+ * 문서 번호는 추가 순서대로 증가하므로 새 문서는 포스팅 리스트 끝에 붙이기만 하면 정렬이 유지된다.
+ * <br></br>
+ * 부분 문자열 검색은 질의의 모든 2-gram 포스팅을 교집합한 뒤 실제 포함 여부를 확인하며, 결과는 리뷰 수, 평균 평점 순으로 정렬된다.
+ * <br></br>
+ * 쓰기는 직렬화(synchronized)하고, 포스팅 배열과 문서 배열은 교체만 하므로 읽기는 잠금이 없다.
+ */
+public class NGramIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final Map<String, int[]> namePostings = new ConcurrentHashMap<>();
+    private final Map<String, int[]> chosungPostings = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> docOf = new ConcurrentHashMap<>(); // 식당 ID -> 현재 문서 번호
+    private volatile Doc[] docs = new Doc[16];
+    private volatile int size;
+
+    /**
+     * 식당 추가 또는 갱신. 이름이 같다면 순위 정보만 바꾸고, 이름이 바뀌었다면 이전 문서를 지우고 새로 색인한다.
+     */
+    public synchronized void put(long id, String name, int reviewCnt, double scoreAvg) {
+        if (name == null) {
+            return;
+        }
+        String normalized = normalize(name);
+        Integer existing = docOf.get(id);
+        if (existing != null) {
+            Doc doc = docs[existing];
+            if (doc.name.equals(normalized)) {
+                doc.reviewCnt = reviewCnt;
+                doc.scoreAvg = scoreAvg;
+                return;
+            }
+            doc.deleted = true;
+        }
+
+        int docId = size;
+        if (docId == docs.length) {
+            docs = Arrays.copyOf(docs, docs.length * 2);
+        }
+        docs[docId] = new Doc(id, normalized, Hangul.toChosung(normalized), reviewCnt, scoreAvg);
+        append(namePostings, grams(normalized), docId);
+        append(chosungPostings, grams(docs[docId].chosung), docId);
+        size = docId + 1; // 문서를 모두 기록한 뒤 공개
+        docOf.put(id, docId);
+    }
+
+    public synchronized void remove(long id) {
+        Integer docId = docOf.remove(id);
+        if (docId != null) {
+            docs[docId].deleted = true;
+        }
+    }
+
+    public int size() {
+        return docOf.size();
+    }
+
+    /**
+     * 부분 문자열 검색. 질의가 초성으로만 이루어져 있다면 초성 색인에서 찾는다.
+     * @return 리뷰 수, 평균 평점 순으로 정렬된 식당 ID 최대 limit 개
+     */
+    public List<Long> search(String query, int limit) {
+        String normalized = normalize(query == null ? "" : query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        boolean chosung = Hangul.isChosungOnly(normalized);
+        Map<String, int[]> postings = chosung ? chosungPostings : namePostings;
+
+        Set<String> grams = normalized.length() == 1 ? Set.of(normalized) : bigrams(normalized);
+        List<int[]> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            int[] list = postings.get(gram);
+            if (list == null) {
+                return List.of();
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(o -> o.length));
+        int[] candidates = lists.get(0);
+        for (int i = 1; i < lists.size() && candidates.length > 0; i++) {
+            candidates = intersect(candidates, lists.get(i));
+        }
+
+        int visible = size; // size 를 먼저 읽어야 docs 배열이 최소 visible 이상의 길이를 가진다.
+        Doc[] snapshot = docs;
+        List<Doc> matched = new ArrayList<>();
+        for (int docId : candidates) {
+            if (docId >= visible) {
+                break;
+            }
+            Doc doc = snapshot[docId];
+            if (!doc.deleted && (chosung ? doc.chosung : doc.name).contains(normalized)) {
+                matched.add(doc);
+            }
+        }
+        matched.sort(Comparator.comparingInt((Doc o) -> o.reviewCnt).reversed()
+                .thenComparing(Comparator.comparingDouble((Doc o) -> o.scoreAvg).reversed()));
+        return matched.stream().limit(limit).map(o -> o.id).toList();
+    }
+
+    /*소문자 변환 및 공백 제거*/
+    static String normalize(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /*색인용 gram : 모든 1-gram 과 2-gram*/
+    private static Set<String> grams(String text) {
+        Set<String> grams = bigrams(text);
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+        }
+        return grams;
+    }
+
+    private static Set<String> bigrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            grams.add(text.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private static void append(Map<String, int[]> postings, Set<String> grams, int docId) {
+        for (String gram : grams) {
+            int[] list = postings.getOrDefault(gram, EMPTY);
+            int[] appended = Arrays.copyOf(list, list.length + 1);
+            appended[list.length] = docId;
+            postings.put(gram, appended);
+        }
+    }
+
+    /*정렬된 두 배열의 교집합*/
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    private static class Doc {
+        private final long id;
+        private final String name;
+        private final String chosung;
+        private volatile int reviewCnt;
+        private volatile double scoreAvg;
+        private volatile boolean deleted;
+
+        private Doc(long id, String name, String chosung, int reviewCnt, double scoreAvg) {
+            this.id = id;
+            this.name = name;
+            this.chosung = chosung;
+            this.reviewCnt = reviewCnt;
+            this.scoreAvg = scoreAvg;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.chaeshin.boo.service.restaurant.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * 노드마다 상위 k개 추천 결과를 미리 계산해 둔 불변(Immutable) 접두사 트라이.
+ * <br></br>
+ * 모든 노드는 원시 타입 배열에 너비 우선 순서로 저장되며, 한 노드의 자식들은 문자 순으로 연속해 놓인다.
+ * 조회는 접두사 길이만큼 자식 구간을 이진 탐색한 뒤, 도착한 노드의 상위 k개 구간을 그대로 반환하므로 데이터 크기와 무관하다.
+ * <br></br>
+ * 자식이 하나뿐이고 자신에게 끝나는 단어가 없는 노드는 자식과 상위 k개가 같으므로 자식의 구간을 공유한다.
+ * @param <T> 추천 결과 타입
+ */
+public class PrefixTrie<T> {
+
+    private final List<T> values; // 순위 순으로 정렬된 추천 결과
+    private final char[] labels;
+    private final int[] firstChild;
+    private final int[] childCount;
+    private final int[] topStart;
+    private final int[] topLength;
+    private final int[] topPool;
+
+    private PrefixTrie(List<T> values, char[] labels, int[] firstChild, int[] childCount,
+                       int[] topStart, int[] topLength, int[] topPool) {
+        this.values = values;
+        this.labels = labels;
+        this.firstChild = firstChild;
+        this.childCount = childCount;
+        this.topStart = topStart;
+        this.topLength = topLength;
+        this.topPool = topPool;
+    }
+
+    /**
+     * 접두사로 시작하는 단어를 가진 추천 결과를 순위 순으로 최대 limit(<= k) 개 조회
+     */
+    public List<T> suggest(String prefix, int limit) {
+        int node = 0;
+        for (int i = 0; i < prefix.length(); i++) {
+            node = child(node, prefix.charAt(i));
+            if (node < 0) {
+                return List.of();
+            }
+        }
+        int length = Math.min(limit, topLength[node]);
+        List<T> result = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            result.add(values.get(topPool[topStart[node] + i]));
+        }
+        return result;
+    }
+
+    public int nodeCount() {
+        return labels.length;
+    }
+
+    private int child(int node, char c) {
+        int lo = firstChild[node];
+        int hi = lo + childCount[node] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (labels[mid] < c) {
+                lo = mid + 1;
+            } else if (labels[mid] > c) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 트라이 생성을 위한 빌더. 한 추천 결과에 여러 단어(이름, 주소, 각 어절 등)를 등록할 수 있다.
+     */
+    public static class Builder<T> {
+
+        private final int k;
+        private final Comparator<T> ranking;
+        private final List<T> values = new ArrayList<>();
+        private final List<String[]> terms = new ArrayList<>();
+
+        /**
+         * @param k 노드마다 보관할 추천 결과 수
+         * @param ranking 추천 순위. 앞설수록 상위
+         */
+        public Builder(int k, Comparator<T> ranking) {
+            this.k = k;
+            this.ranking = ranking;
+        }
+
+        public Builder<T> add(T value, String... valueTerms) {
+            values.add(value);
+            terms.add(valueTerms);
+            return this;
+        }
+
+        public PrefixTrie<T> build() {
+            // 1. 추천 결과를 순위 순으로 정렬해 번호를 매긴다. 이후 번호가 작을수록 상위이다.
+            Integer[] order = new Integer[values.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> ranking.compare(values.get(a), values.get(b)));
+            List<T> ranked = new ArrayList<>(order.length);
+            MutableNode root = new MutableNode('\0');
+            for (int rank = 0; rank < order.length; rank++) {
+                ranked.add(values.get(order[rank]));
+                for (String term : terms.get(order[rank])) {
+                    if (term != null && !term.isEmpty()) {
+                        root.insert(term, rank);
+                    }
+                }
+            }
+
+            // 2. 후위 순회로 노드별 상위 k개 계산
+            root.computeTop(k);
+
+            // 3. 너비 우선 순서로 배열에 펼친다.
+            List<MutableNode> nodes = new ArrayList<>();
+            Deque<MutableNode> queue = new ArrayDeque<>();
+            queue.add(root);
+            while (!queue.isEmpty()) {
+                MutableNode node = queue.poll();
+                nodes.add(node);
+                queue.addAll(node.children.values());
+            }
+            int n = nodes.size();
+            char[] labels = new char[n];
+            int[] firstChild = new int[n];
+            int[] childCount = new int[n];
+            int[] topStart = new int[n];
+            int[] topLength = new int[n];
+            int next = 1;
+            for (int i = 0; i < n; i++) {
+                MutableNode node = nodes.get(i);
+                node.index = i;
+                labels[i] = node.label;
+                firstChild[i] = next;
+                childCount[i] = node.children.size();
+                next += node.children.size();
+            }
+
+            // 자식과 상위 k개가 같은 노드는 자식의 구간을 공유하므로, 깊은 노드부터 채운다.
+            int[] pool = new int[Math.max(16, n)];
+            int poolSize = 0;
+            for (int i = n - 1; i >= 0; i--) {
+                MutableNode node = nodes.get(i);
+                if (node.sharesChildTop()) {
+                    int child = node.children.firstEntry().getValue().index;
+                    topStart[i] = topStart[child];
+                    topLength[i] = topLength[child];
+                    continue;
+                }
+                if (poolSize + node.top.length > pool.length) {
+                    pool = Arrays.copyOf(pool, Math.max(pool.length * 2, poolSize + node.top.length));
+                }
+                System.arraycopy(node.top, 0, pool, poolSize, node.top.length);
+                topStart[i] = poolSize;
+                topLength[i] = node.top.length;
+                poolSize += node.top.length;
+            }
+            return new PrefixTrie<>(ranked, labels, firstChild, childCount,
+                    topStart, topLength, Arrays.copyOf(pool, poolSize));
+        }
+    }
+
+    private static class MutableNode {
+
+        private final char label;
+        private final TreeMap<Character, MutableNode> children = new TreeMap<>();
+        private int[] terminals = new int[0]; // 이 노드에서 끝나는 단어의 추천 결과 번호
+        private int[] top;
+        private int index;
+
+        private MutableNode(char label) {
+            this.label = label;
+        }
+
+        private void insert(String term, int rank) {
+            MutableNode node = this;
+            for (int i = 0; i < term.length(); i++) {
+                char c = term.charAt(i);
+                node = node.children.computeIfAbsent(c, MutableNode::new);
+            }
+            node.terminals = Arrays.copyOf(node.terminals, node.terminals.length + 1);
+            node.terminals[node.terminals.length - 1] = rank;
+        }
+
+        private boolean sharesChildTop() {
+            return terminals.length == 0 && children.size() == 1;
+        }
+
+        /*자식들의 상위 k개(오름차순 번호)와 자신의 단어들을 병합해 중복 없이 상위 k개만 남긴다.*/
+        private int[] computeTop(int k) {
+            List<int[]> lists = new ArrayList<>(children.size() + 1);
+            for (MutableNode child : children.values()) {
+                lists.add(child.computeTop(k));
+            }
+            if (terminals.length > 0) {
+                int[] own = terminals.clone();
+                Arrays.sort(own);
+                lists.add(own);
+            }
+            if (sharesChildTop()) {
+                top = lists.get(0);
+                return top;
+            }
+
+            int[] cursor = new int[lists.size()];
+            int[] merged = new int[k];
+            int size = 0;
+            int last = -1;
+            while (size < k) {
+                int best = -1;
+                for (int i = 0; i < lists.size(); i++) {
+                    if (cursor[i] < lists.get(i).length
+                            && (best < 0 || lists.get(i)[cursor[i]] < lists.get(best)[cursor[best]])) {
+                        best = i;
+                    }
+                }
+                if (best < 0) {
+                    break;
+                }
+                int value = lists.get(best)[cursor[best]++];
+                if (value != last) {
+                    merged[size++] = value;
+                    last = value;
+                }
+            }
+            top = Arrays.copyOf(merged, size);
+            return top;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.chaeshin.boo.service.restaurant.search;
+
+import com.chaeshin.boo.domain.restaurant.RestaurantChangedEvent;
+import com.chaeshin.boo.repository.restaurant.RestaurantRepository;
+import com.chaeshin.boo.service.restaurant.catalog.RestaurantChangeLog;
+import com.chaeshin.boo.service.restaurant.dto.AutocompleteDto;
+import com.chaeshin.boo.service.restaurant.dto.MapInfoDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 검색창 자동완성용 접두사 트라이.
+ * <br></br>
+ * 식당 이름, 이름의 어절과 초성, 주소와 주소의 어절을 모두 등록하며, 노드마다 인기순(리뷰 수, 평균 평점) 상위 k개를 미리 계산해 둔다.
+ * 조회는 불변 트라이만 참조하므로 DB 에 접근하지 않고, 식당이 바뀌면 백그라운드에서 새 트라이를 만들어 교체한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestaurantAutocompleteIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final Comparator<AutocompleteDto> POPULARITY = Comparator
+            .comparingInt(AutocompleteDto::getReviewCnt).reversed()
+            .thenComparing(o -> o.getScoreAvg() == null ? BigDecimal.ZERO : o.getScoreAvg(), Comparator.reverseOrder())
+            .thenComparing(AutocompleteDto::getId);
+
+    private final RestaurantRepository restaurantRepository;
+    private final RestaurantChangeLog restaurantChangeLog;
+
+    @Value("${restaurant.autocomplete.rebuild-delay-ms:1000}")
+    private long rebuildDelayMs;
+
+    private final Map<Long, MapInfoDto> restaurants = new ConcurrentHashMap<>();
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean(false);
+    private volatile PrefixTrie<AutocompleteDto> trie = new PrefixTrie.Builder<>(MAX_SUGGESTIONS, POPULARITY).build();
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    private void init() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "restaurant-autocomplete-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    private void cleanup() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    /*
+     * 이름/주소가 바뀐 식당을 전체 조회의 옛 행으로 덮어쓰면 다음 변경 전까지 옛 이름으로 자동완성된다.
+     * 조회 결과에 조회 시작 이후의 변경 이력을 적용한 뒤 원본 맵을 맞추고 트라이를 만든다(RestaurantChangeLog.rebuild).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildAll() {
+        restaurantChangeLog.rebuild(this, () -> {
+            Map<Long, MapInfoDto> loaded = new HashMap<>();
+            restaurantRepository.findAll().forEach(o -> loaded.put(o.getId(), new MapInfoDto(o)));
+            return loaded;
+        }, RestaurantAutocompleteIndex::apply, loaded -> {
+            restaurants.keySet().retainAll(loaded.keySet());
+            restaurants.putAll(loaded);
+        });
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        synchronized (this) {
+            apply(restaurants, event);
+        }
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(this::rebuild, rebuildDelayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 입력 중인 접두사로 시작하는 식당을 인기순으로 최대 limit 개 조회
+     */
+    public List<AutocompleteDto> suggest(String prefix, int limit) {
+        if (prefix == null) {
+            return List.of();
+        }
+        String normalized = NGramIndex.normalize(prefix);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        return trie.suggest(normalized, Math.min(limit, MAX_SUGGESTIONS));
+    }
+
+    private static void apply(Map<Long, MapInfoDto> target, RestaurantChangedEvent event) {
+        if (event.getType() == RestaurantChangedEvent.Type.REMOVED) {
+            target.remove(event.getRestaurantId());
+        } else {
+            target.put(event.getRestaurantId(), event.getRestaurant());
+        }
+    }
+
+    private void rebuild() {
+        rebuildScheduled.set(false); // 트라이를 만드는 중에 바뀐 식당은 새로 예약되는 재구성이 담는다
+        try {
+            PrefixTrie.Builder<AutocompleteDto> builder = new PrefixTrie.Builder<>(MAX_SUGGESTIONS, POPULARITY);
+            for (MapInfoDto restaurant : restaurants.values()) {
+                builder.add(new AutocompleteDto(restaurant), terms(restaurant));
+            }
+            trie = builder.build();
+            log.debug("restaurant autocomplete trie rebuilt : {} nodes", trie.nodeCount());
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild restaurant autocomplete trie", e);
+        }
+    }
+
+    /*자동완성 대상 단어 : 이름, 이름의 초성, 이름/주소의 각 어절, 주소*/
+    private static String[] terms(MapInfoDto restaurant) {
+        List<String> terms = new ArrayList<>();
+        if (restaurant.getName() != null) {
+            String name = NGramIndex.normalize(restaurant.getName());
+            terms.add(name);
+            terms.add(Hangul.toChosung(name));
+            addWords(terms, restaurant.getName());
+        }
+        if (restaurant.getAddress() != null) {
+            terms.add(NGramIndex.normalize(restaurant.getAddress()));
+            addWords(terms, restaurant.getAddress());
+        }
+        return terms.toArray(new String[0]);
+    }
+
+    private static void addWords(List<String> terms, String text) {
+        for (String word : text.trim().split("\\s+")) {
+            String normalized = NGramIndex.normalize(word);
+            if (!normalized.isEmpty()) {
+                terms.add(normalized);
+            }
+        }
+    }
+}
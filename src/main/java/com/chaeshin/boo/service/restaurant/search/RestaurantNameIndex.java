@@ -0,0 +1,107 @@
+package com.chaeshin.boo.service.restaurant.search;
+
+import com.chaeshin.boo.domain.restaurant.Restaurant;
+import com.chaeshin.boo.domain.restaurant.RestaurantChangedEvent;
+import com.chaeshin.boo.repository.restaurant.RestaurantRepository;
+import com.chaeshin.boo.service.restaurant.catalog.RestaurantChangeLog;
+import com.chaeshin.boo.service.restaurant.dto.MapInfoDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 식당 이름 검색용 N-gram 색인.
+ * <br></br>
+ * 식당이 추가되거나 평점이 바뀌면 RestaurantChangedEvent 로 즉시 반영하고, 삭제된 문서를 정리하기 위해
+ * 주기적으로 백그라운드에서 DB 로부터 새 색인을 만들어 교체한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestaurantNameIndex {
+
+    private final RestaurantRepository restaurantRepository;
+    private final RestaurantChangeLog restaurantChangeLog;
+
+    @Value("${restaurant.name-index.rebuild-interval-minutes:60}")
+    private long rebuildIntervalMinutes;
+
+    private volatile NGramIndex index = new NGramIndex();
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    private void init() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "restaurant-name-index-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /*기동 완료 후 전체 색인을 구성하고, 이후 주기적으로 재구성*/
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::rebuild, 0, rebuildIntervalMinutes, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    private void cleanup() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onRestaurantChanged(RestaurantChangedEvent event) {
+        apply(index, event);
+    }
+
+    /**
+     * 이름 부분 문자열 또는 초성 검색
+     * @return 리뷰 수, 평균 평점 순으로 정렬된 식당 ID
+     */
+    public List<Long> search(String query, int limit) {
+        return index.search(query, limit);
+    }
+
+    /*새 색인을 읽는 동안 커밋된 변경은 교체 전 색인에만 들어가므로, 그 사이의 변경 이력을 새 색인에 적용한 뒤 교체*/
+    private void rebuild() {
+        try {
+            restaurantChangeLog.rebuild(this, () -> {
+                NGramIndex rebuilt = new NGramIndex();
+                for (Restaurant restaurant : restaurantRepository.findAll()) {
+                    rebuilt.put(restaurant.getId(), restaurant.getName(),
+                            restaurant.getReviewCnt(), score(restaurant.getScoreAvg()));
+                }
+                return rebuilt;
+            }, RestaurantNameIndex::apply, rebuilt -> index = rebuilt);
+            log.info("restaurant name index rebuilt : {} restaurants", index.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild restaurant name index", e);
+        }
+    }
+
+    private static void apply(NGramIndex target, RestaurantChangedEvent event) {
+        if (event.getType() == RestaurantChangedEvent.Type.REMOVED) {
+            target.remove(event.getRestaurantId());
+        } else {
+            MapInfoDto restaurant = event.getRestaurant();
+            target.put(restaurant.getId(), restaurant.getName(), restaurant.getReviewCnt(), score(restaurant.getScoreAvg()));
+        }
+    }
+
+    private static double score(BigDecimal scoreAvg) {
+        return scoreAvg == null ? 0.0 : scoreAvg.doubleValue();
+    }
+}
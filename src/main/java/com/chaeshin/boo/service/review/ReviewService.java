@@ -1,5 +1,6 @@
 package com.chaeshin.boo.service.review;
 
+import com.chaeshin.boo.domain.LangCode;
 import com.chaeshin.boo.service.restaurant.dto.RestaurantSimpleDto;
 import com.chaeshin.boo.service.review.dto.*;
 import com.chaeshin.boo.utils.ResponseDto;
@@ -17,6 +18,16 @@ public interface ReviewService {
     /*식당 ID로 모든 리뷰 조회*/
     ResponseDto<List<ReviewDto>> getReviewByRestaurantId(Long restaurantId);
 
+    /*식당 ID로 리뷰 한 페이지 조회 (커서 기반)*/
+    ResponseDto<ReviewPageDto> getReviewPageByRestaurantId(Long restaurantId, String cursor, int size);
+
+    /*식당 ID로 리뷰 한 페이지를 회원 언어 번역본과 함께 조회 (커서 기반)*/
+    ResponseDto<TranslatedReviewPageDto> getTranslatedReviewPageByRestaurantId(Long memberId, Long restaurantId,
+                                                                             String cursor, int size);
+
+    /*회원 ID로 리뷰 한 페이지 조회 (커서 기반)*/
+    ResponseDto<ReviewPageDto> getReviewPageByMemberId(Long memberId, String cursor, int size);
+
     /*해당 리뷰의 간단한 식당 정보 조회*/
     ResponseDto<RestaurantSimpleDto> getRestaurantSimpleInfoByReviewId(Long reviewId);
 
@@ -41,6 +52,12 @@ public interface ReviewService {
     /*번역본 유무 확인 및 리뷰 번역*/
     ResponseDto<ServiceTranslatorDto> translateReview(Long memberId, Long reviewId);
 
+    /*여러 리뷰 일괄 번역*/
+    ResponseDto<List<TranslatedBodyDto>> translateReviews(Long memberId, List<Long> reviewIds);
+
+    /*리뷰 본문(번역본 포함) 전문 검색*/
+    ResponseDto<List<ReviewSearchDto>> searchReviews(String query, Long restaurantId, LangCode langCode, int size);
+
     /*리뷰 이미지 업로드*/
     ResponseDto<ImageUploadDto> uploadReviewImage(Long reviewId, MultipartFile image) throws IOException;
 }
@@ -4,31 +4,55 @@ import com.chaeshin.boo.domain.LangCode;
 import com.chaeshin.boo.domain.Member;
 import com.chaeshin.boo.domain.restaurant.Restaurant;
 import com.chaeshin.boo.domain.review.Review;
+import com.chaeshin.boo.domain.review.ReviewChangedEvent;
 import com.chaeshin.boo.domain.review.ReviewImage;
 import com.chaeshin.boo.domain.review.TranslatedReview;
 import com.chaeshin.boo.repository.member.MemberRepository;
 import com.chaeshin.boo.repository.restaurant.RestaurantRepository;
 import com.chaeshin.boo.repository.review.ReviewRepository;
+import com.chaeshin.boo.repository.review.ReviewWithTranslation;
 import com.chaeshin.boo.repository.review.reviewImage.ReviewImageRepository;
 import com.chaeshin.boo.repository.review.translatedReview.TranslatedReviewRepository;
 import com.chaeshin.boo.service.restaurant.dto.RestaurantSimpleDto;
+import com.chaeshin.boo.service.restaurant.rating.RatingAccumulator;
 import com.chaeshin.boo.service.review.dto.*;
+import com.chaeshin.boo.service.review.search.ReviewSearchIndex;
+import com.chaeshin.boo.service.review.translation.SentenceTranslationMemory;
+import com.chaeshin.boo.service.review.translation.StaleTranslationRefresher;
+import com.chaeshin.boo.service.review.translation.TranslationSingleFlight;
+import com.chaeshin.boo.service.review.translation.TranslationWorker;
 import com.chaeshin.boo.utils.ResponseDto;
 import com.chaeshin.boo.utils.aws.S3Service;
 import com.chaeshin.boo.utils.translator.ServiceTranslatorDto;
-import com.chaeshin.boo.utils.translator.Translator;
 import com.chaeshin.boo.utils.translator.DeeplResponseDto;
+import com.chaeshin.boo.utils.translator.LanguageDetector;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
@@ -39,8 +63,28 @@ public class ReviewServiceImpl implements ReviewService {
     private final MemberRepository memberRepository;
     private final ReviewImageRepository reviewImageRepository;
     private final TranslatedReviewRepository translatedReviewRepository;
-    private final Translator translator;
+    private final SentenceTranslationMemory translator;
+    private final LanguageDetector languageDetector;
     private final S3Service s3Service;
+    private final ReviewSearchIndex reviewSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RatingAccumulator ratingAccumulator;
+    private final TranslationWorker translationWorker;
+    private final StaleTranslationRefresher staleTranslationRefresher;
+    private final TranslationSingleFlight translationSingleFlight;
+    private final PlatformTransactionManager transactionManager;
+
+    private static final int MAX_PAGE_SIZE = 100; // 리뷰 페이지 최대 크기
+
+    private TransactionTemplate transactionTemplate;
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    private void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
 
 
     @Override
@@ -59,6 +103,60 @@ public class ReviewServiceImpl implements ReviewService {
                         .collect(Collectors.toList()));
     }
 
+    @Override
+    public ResponseDto<ReviewPageDto> getReviewPageByRestaurantId(Long restaurantId, String cursor, int size) {
+        ReviewCursor after = ReviewCursor.decode(cursor);
+        int pageSize = pageSize(size);
+        return new ResponseDto<>("해당 식당의 리뷰 페이지 불러오기 성공",
+                new ReviewPageDto(reviewRepository.findPageByRestaurantIdWithImage(
+                        restaurantId, after.getCreatedAt(), after.getId(), pageSize + 1), pageSize));
+    }
+
+    /**
+     * 식당 리뷰 한 페이지를 회원 언어로 조회. 번역본은 리뷰 조회 쿼리에서 left join 으로 함께 읽고,
+     * 없거나 stale 인 번역본만 모아 번역해 저장한다. 리뷰마다 /review/trans/{reviewId}/ 를 호출할 필요가 없다.
+     * <br></br>
+     * translateReview 처럼 짧은 읽기 트랜잭션에서 페이지를 읽고, DeepL 은 트랜잭션 없이 기다린 뒤 새 트랜잭션에서 저장한다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ResponseDto<TranslatedReviewPageDto> getTranslatedReviewPageByRestaurantId(Long memberId, Long restaurantId,
+                                                                                    String cursor, int size) {
+        ReviewCursor after = ReviewCursor.decode(cursor);
+        int pageSize = pageSize(size);
+        TranslationRead<TranslatedReviewPageDto> read = readOnlyTransaction.execute(status -> {
+            LangCode targetLang = memberRepository.findById(memberId).get().getLangCode();
+            List<ReviewWithTranslation> reviews = reviewRepository.findPageByRestaurantIdWithTranslation(
+                    restaurantId, after.getCreatedAt(), after.getId(), pageSize + 1, targetLang);
+
+            staleTranslationRefresher.recordRead(targetLang);
+            List<PendingTranslation> pending = new ArrayList<>();
+            Map<Long, String> bodies = resolveBodies(
+                    reviews.size() > pageSize ? reviews.subList(0, pageSize) : reviews, targetLang, pending);
+            return new TranslationRead<>(new TranslatedReviewPageDto(
+                    reviews.stream().map(ReviewWithTranslation::getReview).toList(), pageSize, bodies, targetLang),
+                    targetLang, pending);
+        });
+
+        Map<Long, TranslatedText> translated = translateAll(read.pending(), read.targetLang());
+        for (TranslatedReviewDto review : read.result().getReviews()) {
+            TranslatedText text = translated.get(review.getId());
+            if (text != null) {
+                review.updateTranslation(text.body(), text.sourceLang());
+            }
+        }
+        return new ResponseDto<>("해당 식당의 번역된 리뷰 페이지 불러오기 성공", read.result());
+    }
+
+    @Override
+    public ResponseDto<ReviewPageDto> getReviewPageByMemberId(Long memberId, String cursor, int size) {
+        ReviewCursor after = ReviewCursor.decode(cursor);
+        int pageSize = pageSize(size);
+        return new ResponseDto<>("해당 유저의 리뷰 페이지 불러오기 성공",
+                new ReviewPageDto(reviewRepository.findPageByMemberIdWithImage(
+                        memberId, after.getCreatedAt(), after.getId(), pageSize + 1), pageSize));
+    }
+
     @Override
     public ResponseDto<RestaurantSimpleDto> getRestaurantSimpleInfoByReviewId(Long reviewId) {
         return new ResponseDto<>("리뷰의 식당 정보 반환 성공",
@@ -74,27 +172,28 @@ public class ReviewServiceImpl implements ReviewService {
                         .collect(Collectors.toList()));
     }
 
+    /**
+     * 리뷰 작성. 회원/식당은 참조(프록시)만 얻고 리뷰 컬렉션을 건드리지 않으므로, 기존 리뷰 수와 무관하게 INSERT 만 실행된다.
+     * 식당 리뷰 수/평점은 커밋 후 RatingAccumulator 가 모아서 반영한다.
+     * <br></br>
+     * 언어 감지와 영어 번역은 같은 트랜잭션에 작업(outbox)으로만 등록하고, 커밋 후 TranslationWorker 가 처리한다.
+     * 그 전까지 리뷰의 src_lang 은 비어 있고 translation_status 는 PENDING 이다.
+     */
     @Override
     @Transactional
     public ResponseDto<ReviewDto> createReview(Long memberId, Long restaurantId, ReviewRequestDto request) {
-        Member member = memberRepository.findById(memberId).get();
-        Restaurant restaurant = restaurantRepository.findById(restaurantId).get();
-
-        DeeplResponseDto transResult = translator.requestTranslate(request.getBody(),
-                LangCode.EN);
-        LangCode langCode = transResult.getSourceLangCode();
+        Member member = memberRepository.getReferenceById(memberId);
+        Restaurant restaurant = restaurantRepository.getReferenceById(restaurantId);
 
         Review review = Review.builder().restaurant(restaurant)
                 .member(member).title(request.getTitle())
-                .body(request.getBody()).score(request.getScore())
-                .langCode(langCode).build();
+                .body(request.getBody()).score(request.getScore()).build();
         Review savedReview = reviewRepository.save(review);
 
-        /*언어 감지 시 표적 언어와 소스 언어가 달랐을 때 리뷰 번역본 함께 생성*/
-        if (!langCode.equals(LangCode.EN)) {
-            this.saveTranslatedReview(savedReview,
-                    transResult.getTranslatedText(), LangCode.EN);
-        }
+        /*언어 감지 후 소스 언어가 영어가 아니면 영어 번역본 생성*/
+        translationWorker.enqueue(savedReview.getId(), LangCode.EN);
+        ratingAccumulator.recordCreated(restaurantId, savedReview.getScore());
+        eventPublisher.publishEvent(ReviewChangedEvent.saved(savedReview));
 
         return new ResponseDto<>("리뷰 작성 성공", new ReviewDto(savedReview));
     }
@@ -107,9 +206,10 @@ public class ReviewServiceImpl implements ReviewService {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "리뷰 작성자와 유저 불일치");
         }
 
-        review.updateReview(request.getTitle(), request.getBody(), request.getScore());
-        List<TranslatedReview> translatedReviews = translatedReviewRepository.findAllByReviewId(review.getId());
-        if (!translatedReviews.isEmpty()) {updateTranslatedReview(review.getBody(), translatedReviews);}
+        int oldScore = review.getScore();
+        review.updateReview(request.getTitle(), request.getBody(), request.getScore()); // 본문이 바뀌면 번역본은 stale
+        ratingAccumulator.recordUpdated(review.getRestaurant().getId(), oldScore, review.getScore());
+        eventPublisher.publishEvent(ReviewChangedEvent.saved(review));
         return new ResponseDto("리뷰 수정 성공", null);
     }
 
@@ -121,8 +221,10 @@ public class ReviewServiceImpl implements ReviewService {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "리뷰 작성자와 유저 불일치");
         }
 
-        review.deleteReview();
+        Long restaurantId = review.getRestaurant().getId();
+        eventPublisher.publishEvent(ReviewChangedEvent.removed(review.getId(), restaurantId));
         reviewRepository.delete(review);
+        ratingAccumulator.recordDeleted(restaurantId, review.getScore());
         return new ResponseDto("리뷰 삭제 성공", null);
     }
 
@@ -139,34 +241,155 @@ public class ReviewServiceImpl implements ReviewService {
                         reviewImageRepository.findById(reviewImageId).get()));
     }
 
+    /**
+     * 리뷰 번역. DeepL 을 기다리는 동안 커넥션을 잡지 않도록 TranslationWorker 처럼 트랜잭션을 나눈다.
+     * 짧은 읽기 트랜잭션에서 원문을 읽고, 트랜잭션 없이 번역한 뒤, 새 트랜잭션에서 리뷰를 다시 읽어 저장한다.
+     */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ResponseDto<ServiceTranslatorDto> translateReview(Long memberId, Long reviewId) {
-        Member member = memberRepository.findById(memberId).get();
-        Review review = reviewRepository.findByIdWithTranslated(reviewId);
+        TranslationSource source = readOnlyTransaction.execute(status -> {
+            LangCode targetLang = memberRepository.findById(memberId).get().getLangCode();
+            Review review = reviewRepository.findByIdWithTranslated(reviewId);
 
-        LangCode sourceLang = review.getLangCode();
-        LangCode targetLang = member.getLangCode();
+            LangCode sourceLang = review.getLangCode();
+            if (sourceLang == null) { // 비동기 언어 감지 전이면 로컬 감지로 먼저 확인해 DeepL 호출을 피한다
+                sourceLang = languageDetector.detect(review.getBody());
+            }
+            if (targetLang.equals(sourceLang)) {
+                return new TranslationSource(null, 0, sourceLang, targetLang,
+                        new ResponseDto<>("번역 source/target 언어가 동일", null));
+            }
+
+            staleTranslationRefresher.recordRead(targetLang);
+            TranslatedReview translated = review.getTranslatedReviews().stream()
+                    .filter(o -> o.getLangCode().equals(targetLang)).findFirst().orElse(null);
+            if (translated != null && !translated.isStale()) {
+                return new TranslationSource(null, 0, sourceLang, targetLang,
+                        new ResponseDto<>("번역 성공(기존)",
+                                new ServiceTranslatorDto(translated.getBody(), sourceLang, targetLang)));
+            }
+            return new TranslationSource(review.getBody(), review.getBodyVersion(), sourceLang, targetLang, null);
+        });
+        if (source.done() != null) {
+            return source.done();
+        }
+
+        // 같은 리뷰를 같은 언어로 동시에 요청하면 한 요청만 DeepL 호출/저장
+        return translationSingleFlight.execute(reviewId, source.targetLang(),
+                () -> translateAndSave(reviewId, source));
+    }
+
+    /*트랜잭션 밖에서 번역한 뒤 새 트랜잭션에서 저장*/
+    private ResponseDto<ServiceTranslatorDto> translateAndSave(Long reviewId, TranslationSource source) {
+        // 앞선 요청이 저장을 마치고 flight 를 비운 뒤에 들어온 요청이면 그 번역본을 그대로 쓴다
+        ResponseDto<ServiceTranslatorDto> existing = readOnlyTransaction.execute(status ->
+                findFreshTranslation(reviewId, source));
+        if (existing != null) {
+            return existing;
+        }
 
-        if (sourceLang.equals(targetLang)) {
-            return new ResponseDto<>("번역 source/target 언어가 동일",null);
+        DeeplResponseDto response = translator.translate(source.body(), source.targetLang()).join();
+        try {
+            return transactionTemplate.execute(status -> saveTranslation(reviewId, source, response));
+        } catch (DataIntegrityViolationException e) {
+            // flight 를 거치지 않는 피드/일괄 번역/TranslationWorker 가 같은 번역본을 먼저 저장함. 다시 읽어 갱신
+            return transactionTemplate.execute(status -> saveTranslation(reviewId, source, response));
         }
+    }
+
+    private ResponseDto<ServiceTranslatorDto> findFreshTranslation(Long reviewId, TranslationSource source) {
+        return reviewRepository.findByIdWithTranslated(reviewId).getTranslatedReviews().stream()
+                .filter(o -> o.getLangCode().equals(source.targetLang()) && !o.isStale()).findFirst()
+                .map(o -> new ResponseDto<>("번역 성공(기존)",
+                        new ServiceTranslatorDto(o.getBody(), source.sourceLang(), source.targetLang())))
+                .orElse(null);
+    }
 
-        for (TranslatedReview tr : review.getTranslatedReviews()) {
-            if (tr.getLangCode().equals(targetLang)) {
-                return new ResponseDto<>("번역 성공(기존)",
-                        new ServiceTranslatorDto(
-                                tr.getBody(), sourceLang, targetLang));
+    private ResponseDto<ServiceTranslatorDto> saveTranslation(Long reviewId, TranslationSource source,
+                                                              DeeplResponseDto response) {
+        LangCode targetLang = source.targetLang();
+        Review review = reviewRepository.findByIdWithTranslated(reviewId);
+        if (review.getLangCode() == null) { // 비동기 언어 감지 전이면 이번 번역 결과로 원문 언어 확정
+            review.detectLangCode(response.getSourceLangCode() != null
+                    ? response.getSourceLangCode() : source.sourceLang());
+            if (targetLang.equals(review.getLangCode())) {
+                return new ResponseDto<>("번역 source/target 언어가 동일", null);
             }
         }
+        LangCode sourceLang = review.getLangCode() != null ? review.getLangCode() : source.sourceLang();
+
+        // 번역 중 본문이 수정됐으면 읽었던 원문의 버전으로 저장해 stale 로 남긴다
+        String text = response.getTranslatedText();
+        TranslatedReview translated = review.getTranslatedReviews().stream()
+                .filter(o -> o.getLangCode().equals(targetLang)).findFirst().orElse(null);
+        String message = translated != null ? "번역 성공(갱신)" : "번역 성공(신규)"; // 갱신은 원문 수정 후 처음 조회될 때
+        if (translated == null) {
+            translated = saveTranslatedReview(review, text, targetLang);
+        }
+        translated.updateBody(text, source.bodyVersion());
+        eventPublisher.publishEvent(ReviewChangedEvent.saved(review));
 
-        DeeplResponseDto response = translator.requestTranslate(review.getBody(), targetLang);
-        TranslatedReview translatedReview = saveTranslatedReview(review, response.getTranslatedText(), targetLang);
+        return new ResponseDto<>(message,
+                new ServiceTranslatorDto(translated.getBody(), sourceLang, targetLang));
+    }
 
-        return new ResponseDto<>("번역 성공(신규)",
-                new ServiceTranslatorDto(
-                        translatedReview.getBody(), sourceLang, targetLang));
+    /**
+     * 여러 리뷰를 회원 언어로 한 번에 번역. 기존 번역본은 IN 쿼리 한 번으로 찾고, 없는 본문만 모아 번역한다.
+     * 번역 피드와 같이 읽기 트랜잭션, 트랜잭션 없는 번역, 쓰기 트랜잭션으로 나누어 DeepL 을 기다리는 동안 커넥션을 잡지 않는다.
+     * @param reviewIds 1~MAX_PAGE_SIZE 개. 비어 있거나 null 만 있으면 400
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ResponseDto<List<TranslatedBodyDto>> translateReviews(Long memberId, List<Long> reviewIds) {
+        if (reviewIds == null || reviewIds.size() > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "review_ids 는 1~" + MAX_PAGE_SIZE + "개");
+        }
+        List<Long> ids = reviewIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "review_ids 는 1~" + MAX_PAGE_SIZE + "개");
+        }
+
+        Map<Long, TranslatedBodyDto> bodies = new HashMap<>();
+        TranslationRead<List<Long>> read = readOnlyTransaction.execute(status -> {
+            LangCode targetLang = memberRepository.findById(memberId).get().getLangCode();
+            Map<Long, Review> reviews = reviewRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(Review::getId, Function.identity()));
+            Map<Long, TranslatedReview> translated = translatedReviewRepository
+                    .findAllByReviewIdInAndLangCode(ids, targetLang).stream()
+                    .collect(Collectors.toMap(o -> o.getReview().getId(), Function.identity()));
+
+            staleTranslationRefresher.recordRead(targetLang);
+            List<Long> found = ids.stream().filter(reviews::containsKey).toList(); // 없는 리뷰 제외
+            List<PendingTranslation> pending = new ArrayList<>();
+            resolveBodies(found.stream().map(o -> new ReviewWithTranslation(reviews.get(o), translated.get(o))).toList(),
+                    targetLang, pending).forEach((id, text) -> bodies.put(id,
+                    new TranslatedBodyDto(id, text, reviews.get(id).getLangCode(), targetLang)));
+            pending.forEach(o -> bodies.put(o.reviewId(), // 번역에 실패하면 본문 없이 응답
+                    new TranslatedBodyDto(o.reviewId(), null, o.sourceLang(), targetLang)));
+            return new TranslationRead<>(found, targetLang, pending);
+        });
+
+        translateAll(read.pending(), read.targetLang()).forEach((id, text) -> bodies.put(id,
+                new TranslatedBodyDto(id, text.body(), text.sourceLang(), read.targetLang())));
+        return new ResponseDto<>("리뷰 일괄 번역 성공",
+                read.result().stream().map(bodies::get).collect(Collectors.toList()));
+    }
 
+    /**
+     * 리뷰 전문 검색. 색인(ReviewSearchIndex)에서 리뷰 ID 와 하이라이트를 찾은 뒤, 해당 리뷰들만 한 번에 조회한다.
+     */
+    @Override
+    public ResponseDto<List<ReviewSearchDto>> searchReviews(String query, Long restaurantId, LangCode langCode, int size) {
+        List<ReviewSearchIndex.Hit> hits = reviewSearchIndex.search(query, restaurantId, langCode, size);
+        Map<Long, Review> reviews = reviewRepository.findAllByIdInWithImage(
+                        hits.stream().map(ReviewSearchIndex.Hit::getReviewId).toList())
+                .stream().collect(Collectors.toMap(Review::getId, Function.identity()));
+
+        return new ResponseDto<>("리뷰 검색 성공",
+                hits.stream().filter(o -> reviews.containsKey(o.getReviewId())) // 색인 반영 전 삭제된 리뷰 제외
+                        .map(o -> new ReviewSearchDto(reviews.get(o.getReviewId()), o))
+                        .collect(Collectors.toList()));
     }
 
     @Override
@@ -179,21 +402,135 @@ public class ReviewServiceImpl implements ReviewService {
                 .review(review).imageUrl(imageUrl).build();
 
         reviewImageRepository.save(reviewImage);
+        eventPublisher.publishEvent(ReviewChangedEvent.imageUploaded(review.getId(), review.getRestaurant().getId()));
         return new ResponseDto<>("이미지 업로드 성공",
                 new ImageUploadDto(imageUrl));
     }
 
 
-    private TranslatedReview saveTranslatedReview(Review review, String text, LangCode targetLang) {
-        TranslatedReview translatedReview = TranslatedReview.builder()
-                .review(review).body(text).langCode(targetLang).build();
-        return translatedReviewRepository.save(translatedReview);
+    /*읽기 트랜잭션에서 읽은 번역 대상. done 이 있으면 번역 없이 바로 응답*/
+    private record TranslationSource(String body, int bodyVersion, LangCode sourceLang, LangCode targetLang,
+                                     ResponseDto<ServiceTranslatorDto> done) {}
+
+    /*읽기 트랜잭션에서 만든 응답과, 트랜잭션 밖에서 번역할 리뷰들*/
+    private record TranslationRead<T>(T result, LangCode targetLang, List<PendingTranslation> pending) {}
+
+    /*번역할 리뷰의 원문 스냅샷. sourceLang 은 아직 감지 전이면 null*/
+    private record PendingTranslation(Long reviewId, String body, int bodyVersion, LangCode sourceLang) {}
+
+    private record TranslatedText(String body, LangCode sourceLang) {}
+
+    private static int pageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    /**
+     * 읽기 트랜잭션 안에서 리뷰들의 targetLang 본문 확정. 원문이 targetLang 이면 원문, 최신 번역본이 있으면 번역본을 쓰고,
+     * 나머지는 pending 에 담아 translateAll 로 넘긴다.
+     * @return 리뷰 ID -> 이미 확정된 targetLang 본문
+     */
+    private Map<Long, String> resolveBodies(List<ReviewWithTranslation> reviews, LangCode targetLang,
+                                            List<PendingTranslation> pending) {
+        Map<Long, String> bodies = new HashMap<>();
+        for (ReviewWithTranslation o : reviews) {
+            Review review = o.getReview();
+            LangCode sourceLang = review.getLangCode() != null
+                    ? review.getLangCode() : languageDetector.detect(review.getBody());
+            if (targetLang.equals(sourceLang)) {
+                bodies.put(review.getId(), review.getBody());
+            } else if (o.getTranslatedReview() != null && !o.getTranslatedReview().isStale()) {
+                bodies.put(review.getId(), o.getTranslatedReview().getBody());
+            } else {
+                pending.add(new PendingTranslation(review.getId(), review.getBody(), review.getBodyVersion(),
+                        review.getLangCode()));
+            }
+        }
+        return bodies;
+    }
+
+    /**
+     * 확정되지 않은 본문을 한꺼번에 번역. 캐시 조회는 in 쿼리 한 번, DeepL 요청은 BatchingTranslator 묶음 하나로 처리되며,
+     * 기다리는 동안 트랜잭션을 열지 않는다. 결과는 새 트랜잭션에서 저장한다(saveTranslations).
+     * @return 리뷰 ID -> 번역 결과. 번역에 실패한 리뷰는 없음
+     */
+    private Map<Long, TranslatedText> translateAll(List<PendingTranslation> pending, LangCode targetLang) {
+        if (pending.isEmpty()) {
+            return Map.of();
+        }
+        List<CompletableFuture<DeeplResponseDto>> results = translator.translateAll(
+                pending.stream().map(PendingTranslation::body).toList(), targetLang);
+
+        List<DeeplResponseDto> responses = new ArrayList<>(pending.size());
+        for (int i = 0; i < pending.size(); i++) {
+            if (results.get(i).isCompletedExceptionally()) {
+                log.warn("Failed to translate review {} to {}", pending.get(i).reviewId(), targetLang);
+                responses.add(null);
+            } else {
+                responses.add(results.get(i).join());
+            }
+        }
+        return transactionTemplate.execute(status -> saveTranslations(pending, responses, targetLang));
     }
 
+    /**
+     * 번역 결과 저장. 리뷰와 번역본을 다시 읽어, 그 사이 다른 요청이 저장한 번역본은 갱신하고 없는 번역본은 JDBC batch insert 로 넣는다.
+     * 원문 언어가 비어 있으면 DeepL 이 감지한 언어로 확정하며, 그 언어가 targetLang 이면 번역본 없이 원문을 쓴다.
+     */
+    private Map<Long, TranslatedText> saveTranslations(List<PendingTranslation> pending, List<DeeplResponseDto> responses,
+                                                       LangCode targetLang) {
+        List<Long> ids = pending.stream().map(PendingTranslation::reviewId).toList();
+        Map<Long, Review> reviews = reviewRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Review::getId, Function.identity()));
+        Map<Long, TranslatedReview> existing = translatedReviewRepository.findAllByReviewIdInAndLangCode(ids, targetLang)
+                .stream().collect(Collectors.toMap(o -> o.getReview().getId(), Function.identity()));
+
+        Map<Long, TranslatedText> translated = new HashMap<>();
+        Set<Long> changed = new LinkedHashSet<>();
+        List<Review> inserted = new ArrayList<>();
+        List<String> insertedBodies = new ArrayList<>();
+        for (int i = 0; i < pending.size(); i++) {
+            PendingTranslation source = pending.get(i);
+            DeeplResponseDto response = responses.get(i);
+            Review review = reviews.get(source.reviewId());
+            if (response == null) {
+                continue;
+            }
+            if (review == null) { // 번역 중 삭제된 리뷰는 저장하지 않고 응답에만 쓴다
+                translated.put(source.reviewId(), new TranslatedText(response.getTranslatedText(), source.sourceLang()));
+                continue;
+            }
+            if (review.getLangCode() == null) { // 비동기 언어 감지 전이면 이번 번역 결과로 원문 언어 확정
+                review.detectLangCode(response.getSourceLangCode() != null
+                        ? response.getSourceLangCode() : source.sourceLang());
+                changed.add(review.getId());
+                if (targetLang.equals(review.getLangCode())) {
+                    translated.put(review.getId(), new TranslatedText(source.body(), review.getLangCode()));
+                    continue;
+                }
+            }
 
-    private void updateTranslatedReview(String text, List<TranslatedReview> translatedReviews) {
-        for (TranslatedReview tr : translatedReviews) {
-          tr.updateBody(translator.requestTranslate(text, tr.getLangCode()).getTranslatedText());
+            String text = response.getTranslatedText();
+            translated.put(review.getId(), new TranslatedText(text, review.getLangCode()));
+            TranslatedReview translatedReview = existing.get(review.getId());
+            if (translatedReview != null) {
+                translatedReview.updateBody(text, source.bodyVersion()); // 번역 중 본문이 수정됐으면 stale 로 남는다
+                changed.add(review.getId());
+            } else if (review.getBodyVersion() == source.bodyVersion()) { // 수정 전 원문의 번역은 새로 넣지 않는다
+                inserted.add(review);
+                insertedBodies.add(text);
+                changed.add(review.getId());
+            }
         }
+        translatedReviewRepository.insertTranslatedReviews(inserted, insertedBodies, targetLang);
+        // 리뷰마다 번역본 컬렉션을 지연 로딩하지 않도록 fetch join 한 번으로 읽어 이벤트 발행
+        reviewRepository.findAllByIdInWithTranslated(new ArrayList<>(changed))
+                .forEach(o -> eventPublisher.publishEvent(ReviewChangedEvent.saved(o)));
+        return translated;
+    }
+
+    private TranslatedReview saveTranslatedReview(Review review, String text, LangCode targetLang) {
+        TranslatedReview translatedReview = TranslatedReview.builder()
+                .review(review).body(text).langCode(targetLang).build();
+        return translatedReviewRepository.save(translatedReview);
     }
 }
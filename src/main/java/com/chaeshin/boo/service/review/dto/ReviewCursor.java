@@ -0,0 +1,52 @@
+package com.chaeshin.boo.service.review.dto;
+
+import com.chaeshin.boo.domain.review.Review;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 리뷰 목록 커서. 마지막으로 받은 리뷰의 (createdAt, id) 를 URL-safe Base64 문자열로 주고받는다.
+ */
+@Getter
+public class ReviewCursor {
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    private ReviewCursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public static ReviewCursor of(Review review) {
+        return new ReviewCursor(review.getCreatedAt(), review.getId());
+    }
+
+    /**
+     * @param cursor 클라이언트가 전달한 커서. 비어 있으면 첫 페이지
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static ReviewCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return new ReviewCursor(null, null);
+        }
+        String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("_", 2);
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("잘못된 커서 : " + cursor);
+        }
+        try {
+            return new ReviewCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (DateTimeParseException e) { // Base64 / 숫자 오류는 이미 IllegalArgumentException
+            throw new IllegalArgumentException("잘못된 커서 : " + cursor, e);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt + "_" + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -2,6 +2,7 @@ package com.chaeshin.boo.service.review.dto;
 
 import com.chaeshin.boo.domain.LangCode;
 import com.chaeshin.boo.domain.review.Review;
+import com.chaeshin.boo.domain.review.TranslationStatus;
 import com.chaeshin.boo.service.member.dto.MemberInfoDto;
 import com.chaeshin.boo.service.restaurant.dto.RestaurantDetailDto;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -23,6 +24,8 @@ public class ReviewDetailDto {
     private int score;
     @JsonProperty("src_lang")
     private LangCode language;
+    @JsonProperty("translation_status")
+    private TranslationStatus translationStatus;
     @JsonProperty("created_at")
     private LocalDateTime createdAt;
     @JsonProperty("review_image")
@@ -36,6 +39,7 @@ public class ReviewDetailDto {
         this.body = review.getBody();
         this.score = review.getScore();
         this.language = review.getLangCode();
+        this.translationStatus = review.getTranslationStatus();
         this.createdAt = review.getCreatedAt();
         this.images = review.getReviewImages().stream()
                 .map(o -> new ReviewImageDto(o)).toList();
@@ -2,6 +2,7 @@ package com.chaeshin.boo.service.review.dto;
 
 import com.chaeshin.boo.domain.LangCode;
 import com.chaeshin.boo.domain.review.Review;
+import com.chaeshin.boo.domain.review.TranslationStatus;
 import com.chaeshin.boo.service.member.dto.MemberInfoDto;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
@@ -22,6 +23,8 @@ public class ReviewDto {
     private int score;
     @JsonProperty("src_lang")
     private LangCode language;
+    @JsonProperty("translation_status")
+    private TranslationStatus translationStatus;
     @JsonProperty("created_at")
     private LocalDateTime createdAt;
     @JsonProperty("image")
@@ -34,6 +37,7 @@ public class ReviewDto {
         this.body = review.getBody();
         this.score = review.getScore();
         this.language = review.getLangCode();
+        this.translationStatus = review.getTranslationStatus();
         this.createdAt = review.getCreatedAt();
         this.member = new MemberInfoDto(review.getMember());
         this.images = review.getReviewImages().stream()
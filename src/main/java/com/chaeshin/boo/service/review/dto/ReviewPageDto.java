@@ -0,0 +1,24 @@
+package com.chaeshin.boo.service.review.dto;
+
+import com.chaeshin.boo.domain.review.Review;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ReviewPageDto {
+
+    private List<ReviewDto> reviews;
+    @JsonProperty("next_cursor")
+    private String nextCursor; // 마지막 페이지이면 null
+
+    /**
+     * @param reviews size + 1 개까지 조회한 리뷰. size 개를 넘으면 다음 페이지가 있는 것으로 본다.
+     */
+    public ReviewPageDto(List<Review> reviews, int size) {
+        List<Review> page = reviews.size() > size ? reviews.subList(0, size) : reviews;
+        this.reviews = page.stream().map(ReviewDto::new).toList();
+        this.nextCursor = reviews.size() > size ? ReviewCursor.of(page.get(page.size() - 1)).encode() : null;
+    }
+}
@@ -0,0 +1,23 @@
+package com.chaeshin.boo.service.review.dto;
+
+import com.chaeshin.boo.domain.review.Review;
+import com.chaeshin.boo.service.review.search.ReviewSearchIndex;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+public class ReviewSearchDto {
+
+    @JsonUnwrapped
+    private ReviewDto review;
+    private float score;
+    private Map<String, String> highlights; // 필드명(title_ko, body_en ...) -> 검색어가 <em> 으로 강조된 조각
+
+    public ReviewSearchDto(Review review, ReviewSearchIndex.Hit hit) {
+        this.review = new ReviewDto(review);
+        this.score = hit.getScore();
+        this.highlights = hit.getHighlights();
+    }
+}
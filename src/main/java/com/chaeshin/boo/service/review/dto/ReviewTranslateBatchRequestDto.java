@@ -0,0 +1,19 @@
+package com.chaeshin.boo.service.review.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class ReviewTranslateBatchRequestDto {
+
+    @JsonProperty("review_ids")
+    private List<Long> reviewIds;
+
+    public ReviewTranslateBatchRequestDto(List<Long> reviewIds) {
+        this.reviewIds = reviewIds;
+    }
+}
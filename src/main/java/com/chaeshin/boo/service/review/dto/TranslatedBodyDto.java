@@ -0,0 +1,27 @@
+package com.chaeshin.boo.service.review.dto;
+
+import com.chaeshin.boo.domain.LangCode;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+/**
+ * 일괄 번역 결과 한 건
+ */
+@Getter
+public class TranslatedBodyDto {
+
+    @JsonProperty("review_id")
+    private Long reviewId;
+    private String text; // 원문이 이미 target_lang 이면 원문. 번역에 실패하면 null
+    @JsonProperty("src_lang")
+    private LangCode sourceLang;
+    @JsonProperty("target_lang")
+    private LangCode targetLang;
+
+    public TranslatedBodyDto(Long reviewId, String text, LangCode sourceLang, LangCode targetLang) {
+        this.reviewId = reviewId;
+        this.text = text;
+        this.sourceLang = sourceLang;
+        this.targetLang = targetLang;
+    }
+}
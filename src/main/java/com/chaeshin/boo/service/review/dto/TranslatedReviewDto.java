@@ -0,0 +1,34 @@
+package com.chaeshin.boo.service.review.dto;
+
+import com.chaeshin.boo.domain.LangCode;
+import com.chaeshin.boo.domain.review.Review;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+/**
+ * 조회하는 회원의 언어로 번역된 본문을 포함한 리뷰
+ */
+@Getter
+public class TranslatedReviewDto extends ReviewDto {
+
+    @JsonProperty("translated_body")
+    private String translatedBody; // 원문이 이미 target_lang 이면 원문. 번역에 실패하면 null
+    @JsonProperty("target_lang")
+    private LangCode targetLang;
+
+    public TranslatedReviewDto(Review review, String translatedBody, LangCode targetLang) {
+        super(review);
+        this.translatedBody = translatedBody;
+        this.targetLang = targetLang;
+    }
+
+    /**
+     * 조회 이후 번역된 본문 반영. 이번 번역으로 원문 언어가 확정됐다면 language 도 채운다.
+     */
+    public void updateTranslation(String translatedBody, LangCode sourceLang) {
+        this.translatedBody = translatedBody;
+        if (getLanguage() == null) {
+            setLanguage(sourceLang);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.chaeshin.boo.service.review.dto;
+
+import com.chaeshin.boo.domain.LangCode;
+import com.chaeshin.boo.domain.review.Review;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+public class TranslatedReviewPageDto {
+
+    private List<TranslatedReviewDto> reviews;
+    @JsonProperty("next_cursor")
+    private String nextCursor; // 마지막 페이지이면 null
+
+    /**
+     * @param reviews size + 1 개까지 조회한 리뷰. size 개를 넘으면 다음 페이지가 있는 것으로 본다.
+     * @param translatedBodies 리뷰 ID -> targetLang 본문
+     */
+    public TranslatedReviewPageDto(List<Review> reviews, int size, Map<Long, String> translatedBodies, LangCode targetLang) {
+        List<Review> page = reviews.size() > size ? reviews.subList(0, size) : reviews;
+        this.reviews = page.stream()
+                .map(o -> new TranslatedReviewDto(o, translatedBodies.get(o.getId()), targetLang)).toList();
+        this.nextCursor = reviews.size() > size ? ReviewCursor.of(page.get(page.size() - 1)).encode() : null;
+    }
+}
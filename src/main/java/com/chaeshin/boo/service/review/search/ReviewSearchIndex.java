@@ -0,0 +1,295 @@
+package com.chaeshin.boo.service.review.search;
+
+import com.chaeshin.boo.domain.LangCode;
+import com.chaeshin.boo.domain.review.Review;
+import com.chaeshin.boo.domain.review.ReviewChangedEvent;
+import com.chaeshin.boo.repository.review.ReviewRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.uhighlight.DefaultPassageFormatter;
+import org.apache.lucene.search.uhighlight.UnifiedHighlighter;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 리뷰 원문과 번역본에 대한 내장 Lucene 전문 검색 색인.
+ * <br></br>
+ * 언어마다 별도 필드(title_ko, body_en ...)에 색인하며 한국어는 Nori, 나머지 언어는 StandardAnalyzer 로 분석한다.
+ * 색인은 로컬 디스크(MMapDirectory)에 두고, ReviewChangedEvent 로 즉시 갱신한 뒤 짧은 주기로 검색기를 새로 열어(NRT) 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewSearchIndex {
+
+    public static final int MAX_RESULTS = 100;
+
+    private static final String ID = "id";
+    private static final String RESTAURANT_ID = "restaurant_id";
+    private static final int REINDEX_PAGE_SIZE = 500;
+
+    /*하이라이트를 위해 오프셋까지 색인하고 원문을 저장*/
+    private static final FieldType TEXT_TYPE = new FieldType(TextField.TYPE_STORED);
+    static {
+        TEXT_TYPE.setIndexOptions(IndexOptions.DOCS_AND_FREQS_AND_POSITIONS_AND_OFFSETS);
+        TEXT_TYPE.freeze();
+    }
+
+    private final ReviewRepository reviewRepository;
+
+    @Value("${review.search.index-dir:data/review-index}")
+    private String indexDir; // 비어 있으면 메모리에만 색인
+
+    @Value("${review.search.refresh-interval-ms:1000}")
+    private long refreshIntervalMs;
+
+    @Value("${review.search.commit-interval-seconds:60}")
+    private long commitIntervalSeconds;
+
+    private Analyzer analyzer;
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    private void init() throws IOException {
+        Analyzer standard = new StandardAnalyzer();
+        Analyzer korean = new KoreanAnalyzer();
+        Map<String, Analyzer> perField = new LinkedHashMap<>();
+        perField.put(titleField(LangCode.KO), korean);
+        perField.put(bodyField(LangCode.KO), korean);
+        analyzer = new PerFieldAnalyzerWrapper(standard, perField);
+
+        directory = indexDir.isBlank() ? new ByteBuffersDirectory() : new MMapDirectory(Path.of(indexDir));
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        searcherManager = new SearcherManager(writer, null);
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "review-search-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::refresh, refreshIntervalMs, refreshIntervalMs, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::commit, commitIntervalSeconds, commitIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    private void cleanup() throws IOException {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+        commit();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    /*색인이 비어 있으면(최초 기동) DB 로부터 전체 색인*/
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        if (writer.getDocStats().numDocs == 0) {
+            scheduler.execute(this::reindexAll);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        try {
+            if (event.getType() == ReviewChangedEvent.Type.REMOVED) {
+                writer.deleteDocuments(new Term(ID, event.getReviewId().toString()));
+            } else if (event.getType() == ReviewChangedEvent.Type.SAVED) {
+                writer.updateDocument(new Term(ID, event.getReviewId().toString()), toDocument(event));
+            }
+        } catch (IOException e) {
+            log.error("Failed to index review {}", event.getReviewId(), e);
+        }
+    }
+
+    /**
+     * 리뷰 제목/본문(번역본 포함) 검색
+     * @param restaurantId 식당 필터. null 이면 전체
+     * @param langCode 검색할 언어. 해당 언어로 작성되었거나 번역된 리뷰만 검색하며 null 이면 전체 언어
+     * @return 점수 순으로 정렬된 검색 결과와 필드별 하이라이트
+     */
+    public List<Hit> search(String text, Long restaurantId, LangCode langCode, int size) {
+        List<String> fields = new ArrayList<>();
+        for (LangCode lang : langCode == null ? LangCode.values() : new LangCode[]{langCode}) {
+            fields.add(titleField(lang));
+            fields.add(bodyField(lang));
+        }
+
+        QueryBuilder queryBuilder = new QueryBuilder(analyzer);
+        BooleanQuery.Builder textQuery = new BooleanQuery.Builder();
+        boolean hasClause = false;
+        for (String field : fields) {
+            Query query = queryBuilder.createBooleanQuery(field, text);
+            if (query != null) {
+                textQuery.add(query, BooleanClause.Occur.SHOULD);
+                hasClause = true;
+            }
+        }
+        if (!hasClause) {
+            return List.of();
+        }
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder().add(textQuery.build(), BooleanClause.Occur.MUST);
+        if (restaurantId != null) {
+            builder.add(new TermQuery(new Term(RESTAURANT_ID, restaurantId.toString())), BooleanClause.Occur.FILTER);
+        }
+        Query query = builder.build();
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query, Math.min(size, MAX_RESULTS));
+                UnifiedHighlighter highlighter = UnifiedHighlighter.builder(searcher, analyzer)
+                        .withFormatter(new DefaultPassageFormatter("<em>", "</em>", "... ", true))
+                        .build();
+                String[] fieldArray = fields.toArray(new String[0]);
+                Map<String, String[]> highlights = highlighter.highlightFields(fieldArray, query, topDocs);
+
+                StoredFields storedFields = searcher.storedFields();
+                List<Hit> hits = new ArrayList<>(topDocs.scoreDocs.length);
+                for (int i = 0; i < topDocs.scoreDocs.length; i++) {
+                    ScoreDoc scoreDoc = topDocs.scoreDocs[i];
+                    Map<String, String> fragments = new LinkedHashMap<>();
+                    for (String field : fieldArray) {
+                        String[] fieldHighlights = highlights.get(field);
+                        String fragment = fieldHighlights == null ? null : fieldHighlights[i];
+                        if (fragment != null) {
+                            fragments.put(field, fragment);
+                        }
+                    }
+                    Long reviewId = Long.valueOf(storedFields.document(scoreDoc.doc).get(ID));
+                    hits.add(new Hit(reviewId, scoreDoc.score, fragments));
+                }
+                return hits;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /*DB 의 전체 리뷰를 ID 순으로 나누어 다시 색인*/
+    private void reindexAll() {
+        try {
+            long count = 0;
+            Long lastId = 0L;
+            List<Long> ids;
+            while (!(ids = reviewRepository.findIdsAfter(lastId, REINDEX_PAGE_SIZE)).isEmpty()) {
+                for (Review review : reviewRepository.findAllByIdInWithTranslated(ids)) {
+                    ReviewChangedEvent event = ReviewChangedEvent.saved(review);
+                    writer.updateDocument(new Term(ID, review.getId().toString()), toDocument(event));
+                    count++;
+                }
+                lastId = ids.get(ids.size() - 1);
+            }
+            writer.commit();
+            searcherManager.maybeRefresh();
+            log.info("review search index rebuilt : {} reviews", count);
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to rebuild review search index", e);
+        }
+    }
+
+    private void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to refresh review searcher", e);
+        }
+    }
+
+    private synchronized void commit() {
+        try {
+            if (writer.isOpen() && writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to commit review search index", e);
+        }
+    }
+
+    private static Document toDocument(ReviewChangedEvent event) {
+        Document document = new Document();
+        document.add(new StringField(ID, event.getReviewId().toString(), Field.Store.YES));
+        if (event.getRestaurantId() != null) {
+            document.add(new StringField(RESTAURANT_ID, event.getRestaurantId().toString(), Field.Store.NO));
+        }
+
+        Map<LangCode, String> bodies = new EnumMap<>(event.getTranslations());
+        if (event.getLangCode() != null) {
+            if (event.getTitle() != null) {
+                document.add(new Field(titleField(event.getLangCode()), event.getTitle(), TEXT_TYPE));
+            }
+            if (event.getBody() != null) {
+                bodies.put(event.getLangCode(), event.getBody()); // 원문이 같은 언어의 번역본보다 우선
+            }
+        }
+        bodies.forEach((lang, body) -> document.add(new Field(bodyField(lang), body, TEXT_TYPE)));
+        return document;
+    }
+
+    private static String titleField(LangCode langCode) {
+        return "title_" + langCode.name().toLowerCase();
+    }
+
+    private static String bodyField(LangCode langCode) {
+        return "body_" + langCode.name().toLowerCase();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Hit {
+        private final Long reviewId;
+        private final float score;
+        private final Map<String, String> highlights; // 필드명(title_ko, body_en ...) -> 하이라이트 조각
+    }
+}
@@ -0,0 +1,124 @@
+package com.chaeshin.boo.service.review.translation;
+
+import com.chaeshin.boo.domain.LangCode;
+import com.chaeshin.boo.utils.translator.DeeplResponseDto;
+import java.text.BreakIterator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 문장 단위 번역 메모리. 본문을 문장으로 나눠 문장마다 TranslationCache 로 번역한 뒤 원래 공백/줄바꿈으로 다시 잇는다.
+ * <br></br>
+ * 문장 번역은 (문장 해시, 표적 언어)로 저장되므로, 리뷰를 수정하면 바뀐 문장만 DeepL 로 보내고 나머지는 저장된 번역을 쓴다.
+ * 보낸 글자 수와 재사용한 글자 수는 translation.cache.sent.characters / saved.characters 로 확인할 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SentenceTranslationMemory {
+
+    private final TranslationCache translationCache;
+
+    /**
+     * 문장 단위 번역
+     * @return 다시 이어 붙인 번역문. 원문 언어는 가장 긴 문장에서 감지된 언어
+     */
+    public CompletableFuture<DeeplResponseDto> translate(String text, LangCode targetLangCode) {
+        return translateAll(List.of(text), targetLangCode).get(0);
+    }
+
+    /**
+     * 여러 본문을 문장 단위로 번역. 모든 본문의 문장을 모아 TranslationCache 에 한 번에 넘긴다.
+     * @return texts 순서의 번역 결과. 반환 시점에는 모두 완료되어 있고, 문장 하나라도 실패한 본문은 예외로 완료된다.
+     */
+    public List<CompletableFuture<DeeplResponseDto>> translateAll(List<String> texts, LangCode targetLangCode) {
+        List<Split> splits = texts.stream().map(SentenceTranslationMemory::split).toList();
+        List<String> sentences = new ArrayList<>();
+        for (int i = 0; i < texts.size(); i++) {
+            Split split = splits.get(i);
+            if (split.segments.isEmpty()) {
+                sentences.add(texts.get(i)); // 문장이 없으면 원문 그대로 한 덩어리로
+            } else {
+                split.segments.forEach(o -> sentences.add(o.sentence));
+            }
+        }
+
+        List<CompletableFuture<DeeplResponseDto>> results = translationCache.translateAll(sentences, targetLangCode);
+        List<CompletableFuture<DeeplResponseDto>> joined = new ArrayList<>(texts.size());
+        int offset = 0;
+        for (Split split : splits) {
+            int count = Math.max(1, split.segments.size());
+            List<CompletableFuture<DeeplResponseDto>> parts = results.subList(offset, offset + count);
+            offset += count;
+            joined.add(split.segments.isEmpty() ? parts.get(0) : join(split, parts));
+        }
+        return joined;
+    }
+
+    private static CompletableFuture<DeeplResponseDto> join(Split split, List<CompletableFuture<DeeplResponseDto>> parts) {
+        return CompletableFuture.allOf(parts.toArray(new CompletableFuture[0])).thenApply(v -> {
+            StringBuilder translated = new StringBuilder(split.prefix);
+            LangCode sourceLangCode = null;
+            int longest = -1;
+            for (int i = 0; i < parts.size(); i++) {
+                Segment segment = split.segments.get(i);
+                DeeplResponseDto result = parts.get(i).join();
+                translated.append(result.getTranslatedText()).append(segment.separator);
+                if (segment.sentence.length() > longest) {
+                    longest = segment.sentence.length();
+                    sourceLangCode = result.getSourceLangCode();
+                }
+            }
+            return new DeeplResponseDto(sourceLangCode, translated.toString());
+        });
+    }
+
+    /*문장 경계로 나누되 문장 앞뒤 공백은 구분자로 따로 보관해 번역 후 그대로 복원*/
+    private static Split split(String text) {
+        Split split = new Split();
+        if (text == null) {
+            return split;
+        }
+        BreakIterator iterator = BreakIterator.getSentenceInstance(Locale.ROOT);
+        iterator.setText(text);
+        int start = iterator.first();
+        for (int end = iterator.next(); end != BreakIterator.DONE; start = end, end = iterator.next()) {
+            String part = text.substring(start, end);
+            String sentence = part.strip();
+            if (sentence.isEmpty()) {
+                split.appendSeparator(part);
+                continue;
+            }
+            int leading = part.indexOf(sentence);
+            split.appendSeparator(part.substring(0, leading));
+            split.segments.add(new Segment(sentence, part.substring(leading + sentence.length())));
+        }
+        return split;
+    }
+
+    private static class Split {
+        private String prefix = ""; // 첫 문장 앞 공백
+        private final List<Segment> segments = new ArrayList<>();
+
+        private void appendSeparator(String whitespace) {
+            if (segments.isEmpty()) {
+                prefix += whitespace;
+            } else {
+                segments.get(segments.size() - 1).separator += whitespace;
+            }
+        }
+    }
+
+    private static class Segment {
+        private final String sentence;
+        private String separator; // 다음 문장 전까지의 공백/줄바꿈
+
+        Segment(String sentence, String separator) {
+            this.sentence = sentence;
+            this.separator = separator;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.chaeshin.boo.service.review.translation;
+
+import com.chaeshin.boo.domain.LangCode;
+import com.chaeshin.boo.domain.review.Review;
+import com.chaeshin.boo.domain.review.ReviewChangedEvent;
+import com.chaeshin.boo.domain.review.TranslatedReview;
+import com.chaeshin.boo.repository.review.ReviewRepository;
+import com.chaeshin.boo.repository.review.translatedReview.TranslatedReviewRepository;
+import com.chaeshin.boo.utils.translator.DeeplResponseDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 원문 수정으로 stale 이 된 번역본을 백그라운드에서 조금씩 갱신하는 낮은 우선순위 작업.
+ * <br></br>
+ * 최근 readWindowHours 안에 번역 조회(/review/trans/{reviewId}/)가 있었던 언어의 번역본만 intervalSeconds 마다 batchSize 개씩
+ * 갱신한다. 읽히지 않는 언어는 다음 조회 시 ReviewService.translateReview 가 그때 갱신한다.
+ * 갱신은 문장 단위 번역 메모리를 거치므로 수정되지 않은 문장은 DeepL 로 보내지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StaleTranslationRefresher {
+
+    private final TranslatedReviewRepository translatedReviewRepository;
+    private final ReviewRepository reviewRepository;
+    private final SentenceTranslationMemory translator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${review.translation.refresh.interval-seconds:60}")
+    private long intervalSeconds;
+
+    @Value("${review.translation.refresh.batch-size:20}")
+    private int batchSize;
+
+    @Value("${review.translation.refresh.read-window-hours:24}")
+    private long readWindowHours;
+
+    private final Map<LangCode, Long> lastReadAt = new ConcurrentHashMap<>(); // 언어별 마지막 번역 조회 시각(ms)
+    private TransactionTemplate readOnlyTransaction;
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    private void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "stale-translation-refresher");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::refreshSafely, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    private void cleanup() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    /**
+     * 번역 조회 기록. 최근 조회된 언어만 백그라운드 갱신 대상이 된다.
+     */
+    public void recordRead(LangCode langCode) {
+        lastReadAt.put(langCode, System.currentTimeMillis());
+    }
+
+    /**
+     * 최근 조회된 언어의 stale 번역본을 최대 batchSize 개 갱신
+     * @return 갱신한 번역본 수
+     */
+    public int refresh() {
+        long since = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(readWindowHours);
+        List<LangCode> langCodes = lastReadAt.entrySet().stream()
+                .filter(o -> o.getValue() >= since)
+                .map(Map.Entry::getKey).toList();
+        if (langCodes.isEmpty()) {
+            return 0;
+        }
+
+        List<Stale> stale = readOnlyTransaction.execute(status ->
+                translatedReviewRepository.findStaleByLangCodeIn(langCodes, batchSize).stream()
+                        .map(Stale::new).toList());
+        if (stale.isEmpty()) {
+            return 0;
+        }
+
+        // 원격 호출은 트랜잭션 밖에서 한꺼번에 보내고 모두 끝난 뒤 반영
+        Map<LangCode, List<Integer>> byLangCode = new HashMap<>();
+        for (int i = 0; i < stale.size(); i++) {
+            byLangCode.computeIfAbsent(stale.get(i).langCode, o -> new ArrayList<>()).add(i);
+        }
+        List<CompletableFuture<DeeplResponseDto>> results = new ArrayList<>(Collections.nCopies(stale.size(), null));
+        byLangCode.forEach((langCode, indexes) -> {
+            List<CompletableFuture<DeeplResponseDto>> translated = translator.translateAll(
+                    indexes.stream().map(o -> stale.get(o).sourceBody).toList(), langCode);
+            for (int i = 0; i < indexes.size(); i++) {
+                results.set(indexes.get(i), translated.get(i));
+            }
+        });
+
+        Set<Long> refreshedReviewIds = new TreeSet<>();
+        List<Long> failed = new ArrayList<>();
+        for (int i = 0; i < stale.size(); i++) {
+            Stale target = stale.get(i);
+            CompletableFuture<DeeplResponseDto> result = results.get(i);
+            if (result.isCompletedExceptionally()) {
+                failed.add(target.id);
+                continue;
+            }
+            if (translatedReviewRepository.refreshTranslatedReview(
+                    target.id, result.join().getTranslatedText(), target.sourceVersion)) {
+                refreshedReviewIds.add(target.reviewId);
+            }
+        }
+        if (!failed.isEmpty()) {
+            log.warn("Failed to refresh stale translations {}", failed);
+        }
+
+        if (!refreshedReviewIds.isEmpty()) {
+            readOnlyTransaction.executeWithoutResult(status ->
+                    reviewRepository.findAllByIdInWithTranslated(new ArrayList<>(refreshedReviewIds))
+                            .forEach(o -> eventPublisher.publishEvent(ReviewChangedEvent.saved(o))));
+        }
+        return refreshedReviewIds.size();
+    }
+
+    private void refreshSafely() {
+        try {
+            int refreshed = refresh();
+            if (refreshed > 0) {
+                log.info("stale translations refreshed : {} reviews", refreshed);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to refresh stale translations", e);
+        }
+    }
+
+    /*트랜잭션 밖에서 번역하기 위해 필요한 값만 복사*/
+    private static class Stale {
+        private final Long id;
+        private final Long reviewId;
+        private final LangCode langCode;
+        private final String sourceBody;
+        private final int sourceVersion;
+
+        Stale(TranslatedReview translatedReview) {
+            Review review = translatedReview.getReview();
+            this.id = translatedReview.getId();
+            this.reviewId = review.getId();
+            this.langCode = translatedReview.getLangCode();
+            this.sourceBody = review.getBody();
+            this.sourceVersion = review.getBodyVersion();
+        }
+    }
+}
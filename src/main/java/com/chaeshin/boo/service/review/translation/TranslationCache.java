@@ -0,0 +1,226 @@
+package com.chaeshin.boo.service.review.translation;
+
+import com.chaeshin.boo.domain.LangCode;
+import com.chaeshin.boo.domain.review.CachedTranslation;
+import com.chaeshin.boo.repository.review.cachedTranslation.CachedTranslationRepository;
+import com.chaeshin.boo.utils.translator.BatchingTranslator;
+import com.chaeshin.boo.utils.translator.DeeplResponseDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * (정규화한 원문 해시, 표적 언어)를 키로 하는 2단계 번역 캐시. DeepL 호출 전에 항상 이 캐시를 거친다.
+ * <br></br>
+ * 1단계는 프로세스 내 Caffeine 캐시(maxEntries), 2단계는 CachedTranslation 테이블이다. 둘 다 없으면 BatchingTranslator 로
+ * 번역한 뒤 호출 스레드에서 두 곳에 저장한다. "맛있어요!" 처럼 짧고 흔한 리뷰는 리뷰가 달라도 같은 번역을 재사용한다.
+ * 적중률과 DeepL 로 보낸/보내지 않은 글자 수는 translation.cache 이름으로 Micrometer 에 노출한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TranslationCache {
+
+    private static final String METRIC_NAME = "translation.cache";
+
+    private final CachedTranslationRepository cachedTranslationRepository;
+    private final BatchingTranslator translator;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${review.translation.cache.max-entries:100000}")
+    private long maxEntries;
+
+    private Cache<String, DeeplResponseDto> cache;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private Counter memoryHits;
+    private Counter tableHits;
+    private Counter misses;
+    private Counter savedCharacters;
+    private Counter sentCharacters;
+
+    @PostConstruct
+    private void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, METRIC_NAME + ".memory");
+        memoryHits = Counter.builder(METRIC_NAME + ".requests").tag("result", "memory").register(meterRegistry);
+        tableHits = Counter.builder(METRIC_NAME + ".requests").tag("result", "table").register(meterRegistry);
+        misses = Counter.builder(METRIC_NAME + ".requests").tag("result", "miss").register(meterRegistry);
+        savedCharacters = Counter.builder(METRIC_NAME + ".saved.characters")
+                .description("characters served from translation cache instead of DeepL")
+                .register(meterRegistry);
+        sentCharacters = Counter.builder(METRIC_NAME + ".sent.characters")
+                .description("characters sent to DeepL on translation cache miss")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".hit.ratio", this,
+                        o -> o.requests.get() == 0 ? 0 : (double) o.hits.get() / o.requests.get())
+                .description("translation cache hit ratio (memory + table)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 번역. 캐시에 없을 때만 DeepL 을 호출한다.
+     * @return 번역 결과. 반환 시점에는 이미 완료되어 있다
+     */
+    public CompletableFuture<DeeplResponseDto> translate(String text, LangCode targetLangCode) {
+        return translateAll(List.of(text), targetLangCode).get(0);
+    }
+
+    /**
+     * 여러 원문 번역. Caffeine 에 없는 원문은 in 쿼리 한 번으로 테이블에서 찾고, 그래도 없는 원문만 DeepL 로 보낸다.
+     * <br></br>
+     * DeepL 결과는 호출한 스레드에서 모두 기다린 뒤 한 번에 저장하므로 호출자의 트랜잭션에 함께 묶이고,
+     * BatchingTranslator 전송 스레드는 저장을 기다리지 않는다. Caffeine 에는 커밋된 뒤에 넣는다.
+     * @return texts 순서의 번역 결과. 반환 시점에는 모두 완료되어 있고, DeepL 요청이 실패한 원문은 예외로 완료된다.
+     */
+    public List<CompletableFuture<DeeplResponseDto>> translateAll(List<String> texts, LangCode targetLangCode) {
+        requests.addAndGet(texts.size());
+        List<String> keys = texts.stream().map(o -> key(o, targetLangCode)).toList();
+        Map<String, CompletableFuture<DeeplResponseDto>> results = new HashMap<>();
+        Map<String, String> lookups = new LinkedHashMap<>(); // Caffeine 에 없어 테이블에서 찾을 키 -> 원문
+
+        for (int i = 0; i < texts.size(); i++) {
+            String key = keys.get(i);
+            if (results.containsKey(key) || lookups.containsKey(key)) {
+                continue;
+            }
+            DeeplResponseDto cached = cache.getIfPresent(key);
+            if (cached != null) {
+                results.put(key, CompletableFuture.completedFuture(cached));
+            } else {
+                lookups.put(key, texts.get(i));
+            }
+        }
+
+        Map<String, DeeplResponseDto> tableHitResponses = new HashMap<>();
+        if (!lookups.isEmpty()) {
+            List<String> textHashes = lookups.keySet().stream().map(TranslationCache::textHash).toList();
+            for (CachedTranslation stored : cachedTranslationRepository.findAllByKeys(textHashes, targetLangCode)) {
+                String key = stored.getTextHash() + ":" + targetLangCode;
+                DeeplResponseDto response = new DeeplResponseDto(stored.getSourceLangCode(), stored.getTranslatedText());
+                results.put(key, CompletableFuture.completedFuture(response));
+                tableHitResponses.put(key, response);
+            }
+            putAfterCommit(tableHitResponses);
+        }
+
+        Map<String, CompletableFuture<DeeplResponseDto>> sent = new LinkedHashMap<>();
+        lookups.forEach((key, text) -> {
+            if (!tableHitResponses.containsKey(key)) {
+                sentCharacters.increment(text == null ? 0 : text.length());
+                sent.put(key, translator.translate(text, targetLangCode));
+            }
+        });
+        results.putAll(sent);
+
+        // 같은 묶음 안에서 중복된 원문은 한 번만 보내므로 두 번째부터는 메모리 적중으로 센다
+        Set<String> counted = new HashSet<>();
+        for (int i = 0; i < texts.size(); i++) {
+            String key = keys.get(i);
+            if (!counted.add(key)) {
+                hit(memoryHits, texts.get(i));
+            } else if (sent.containsKey(key)) {
+                misses.increment();
+            } else {
+                hit(tableHitResponses.containsKey(key) ? tableHits : memoryHits, texts.get(i));
+            }
+        }
+
+        if (!sent.isEmpty()) {
+            CompletableFuture.allOf(sent.values().toArray(new CompletableFuture[0])).exceptionally(e -> null).join();
+            store(sent, targetLangCode);
+        }
+        return keys.stream().map(results::get).toList();
+    }
+
+    private void hit(Counter counter, String text) {
+        hits.incrementAndGet();
+        counter.increment();
+        savedCharacters.increment(text == null ? 0 : text.length());
+    }
+
+    /*성공한 번역만 일괄 저장*/
+    private void store(Map<String, CompletableFuture<DeeplResponseDto>> sent, LangCode targetLangCode) {
+        Map<String, DeeplResponseDto> translated = new LinkedHashMap<>();
+        sent.forEach((key, result) -> {
+            if (!result.isCompletedExceptionally()) {
+                translated.put(key, result.join());
+            }
+        });
+        if (translated.isEmpty()) {
+            return;
+        }
+
+        try {
+            cachedTranslationRepository.insertCachedTranslations(translated.entrySet().stream()
+                    .map(o -> CachedTranslation.builder()
+                            .textHash(textHash(o.getKey())).targetLangCode(targetLangCode)
+                            .sourceLangCode(o.getValue().getSourceLangCode())
+                            .translatedText(o.getValue().getTranslatedText()).build())
+                    .toList());
+        } catch (RuntimeException e) {
+            log.warn("Failed to store {} cached translations", translated.size(), e);
+            return;
+        }
+        putAfterCommit(translated);
+    }
+
+    /*같은 트랜잭션에서 방금 저장한 행일 수 있으므로 커밋된 뒤에만 Caffeine 에 올린다*/
+    private void putAfterCommit(Map<String, DeeplResponseDto> responses) {
+        if (responses.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.putAll(responses);
+                }
+            });
+        } else {
+            cache.putAll(responses);
+        }
+    }
+
+    private static String textHash(String key) {
+        return key.substring(0, key.indexOf(':'));
+    }
+
+    /*공백/유니코드 정규화 후 해시. 앞뒤 공백이나 연속 공백만 다른 원문은 같은 키가 된다*/
+    static String key(String text, LangCode targetLangCode) {
+        String normalized = Normalizer.normalize(text == null ? "" : text, Normalizer.Form.NFC)
+                .strip().replaceAll("\\s+", " ");
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(normalized.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest) + ":" + targetLangCode;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.chaeshin.boo.service.review.translation;
+
+import com.chaeshin.boo.domain.LangCode;
+import com.chaeshin.boo.utils.ResponseDto;
+import com.chaeshin.boo.utils.translator.ServiceTranslatorDto;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * (리뷰, 표적 언어)별 번역 요청 합치기(single-flight).
+ * <br></br>
+ * 같은 리뷰를 같은 언어로 동시에 번역 요청하면 처음 요청만 번역/저장하고, 나머지는 그 결과를 기다려 그대로 돌려준다.
+ * 자리는 처음 요청의 트랜잭션이 끝난 뒤에 비우지만, 그 전에 리뷰를 읽고 그 뒤에 도착한 요청은 새 처음 요청이 될 수 있다.
+ * 그래서 translation 안에서 저장된 번역본을 다시 확인해야 한다(ReviewServiceImpl.translateAndSave).
+ * <br></br>
+ * ReviewService.translateReview 만 이 클래스를 거친다. 번역 피드/일괄 번역은 insert ignore 로 저장하고,
+ * TranslationWorker 는 중복 저장에 실패하면 재시도에서 기존 번역본을 갱신하므로 unique 제약(translated_review_lang)에 맡긴다.
+ */
+@Component
+public class TranslationSingleFlight {
+
+    private final Map<Key, CompletableFuture<ResponseDto<ServiceTranslatorDto>>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 같은 키로 진행 중인 번역이 있으면 그 결과를 기다리고, 없으면 translation 을 실행한다.
+     */
+    public ResponseDto<ServiceTranslatorDto> execute(Long reviewId, LangCode targetLangCode,
+                                                     Supplier<ResponseDto<ServiceTranslatorDto>> translation) {
+        Key key = new Key(reviewId, targetLangCode);
+        CompletableFuture<ResponseDto<ServiceTranslatorDto>> leader = new CompletableFuture<>();
+        CompletableFuture<ResponseDto<ServiceTranslatorDto>> running = inFlight.putIfAbsent(key, leader);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            ResponseDto<ServiceTranslatorDto> result = translation.get();
+            leader.complete(result);
+            releaseAfterCompletion(key, leader);
+            return result;
+        } catch (RuntimeException e) {
+            inFlight.remove(key, leader);
+            leader.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /*저장이 커밋되기 전에 온 요청이 다시 번역하지 않도록 트랜잭션 종료 후 제거*/
+    private void releaseAfterCompletion(Key key, CompletableFuture<ResponseDto<ServiceTranslatorDto>> leader) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    inFlight.remove(key, leader);
+                }
+            });
+        } else {
+            inFlight.remove(key, leader);
+        }
+    }
+
+    private record Key(Long reviewId, LangCode targetLangCode) {}
+}
@@ -0,0 +1,223 @@
+package com.chaeshin.boo.service.review.translation;
+
+import com.chaeshin.boo.domain.LangCode;
+import com.chaeshin.boo.domain.review.Review;
+import com.chaeshin.boo.domain.review.ReviewChangedEvent;
+import com.chaeshin.boo.domain.review.TranslatedReview;
+import com.chaeshin.boo.domain.review.TranslationTask;
+import com.chaeshin.boo.repository.review.ReviewRepository;
+import com.chaeshin.boo.repository.review.translatedReview.TranslatedReviewRepository;
+import com.chaeshin.boo.repository.review.translationTask.TranslationTaskRepository;
+import com.chaeshin.boo.utils.translator.DeeplResponseDto;
+import com.chaeshin.boo.utils.translator.LanguageDetector;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 리뷰 언어 감지/번역을 요청 경로 밖에서 처리하는 워커.
+ * <br></br>
+ * 리뷰 작성 트랜잭션은 TranslationTask(outbox)만 저장하고 바로 커밋한다. 커밋 직후와 pollIntervalMs 마다 처리 가능한 작업을
+ * 점유해 워커 풀에서 번역하며(SentenceTranslationMemory 에 없는 문장만 DeepL 호출), 호출 동안에는 DB 커넥션을 잡지 않는다.
+ * 원문 언어는 LanguageDetector 로 먼저 감지해, 원문이 이미 표적 언어면 DeepL 을 호출하지 않고 완료한다.
+ * 결과는 새 트랜잭션에서 TranslatedReview 로 저장하고 리뷰의 원문 언어/번역 상태를 갱신한다.
+ * 실패하면 지수 백오프로 재시도하고, maxAttempts 를 넘으면 FAILED 로 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TranslationWorker {
+
+    private final TranslationTaskRepository translationTaskRepository;
+    private final ReviewRepository reviewRepository;
+    private final TranslatedReviewRepository translatedReviewRepository;
+    private final SentenceTranslationMemory translator;
+    private final LanguageDetector languageDetector;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${review.translation.workers:4}")
+    private int workers;
+
+    @Value("${review.translation.poll-interval-ms:1000}")
+    private long pollIntervalMs;
+
+    @Value("${review.translation.lease-seconds:60}")
+    private long leaseSeconds;
+
+    @Value("${review.translation.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${review.translation.retry-backoff-ms:1000}")
+    private long retryBackoffMs;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private TransactionTemplate transactionTemplate;
+    private ScheduledExecutorService poller;
+    private ExecutorService workerPool;
+
+    @PostConstruct
+    private void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        AtomicInteger threadNumber = new AtomicInteger();
+        workerPool = Executors.newFixedThreadPool(workers, r -> {
+            Thread thread = new Thread(r, "review-translation-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        poller = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "review-translation-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        poller.scheduleWithFixedDelay(this::poll, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    private void cleanup() {
+        if (poller != null) {
+            poller.shutdown();
+        }
+        if (workerPool != null) {
+            workerPool.shutdown();
+        }
+    }
+
+    /**
+     * 번역 작업 등록. 호출한 트랜잭션과 함께 커밋되며, 커밋 직후 처리를 시작한다.
+     */
+    public void enqueue(Long reviewId, LangCode targetLangCode) {
+        translationTaskRepository.save(TranslationTask.builder()
+                .reviewId(reviewId).targetLangCode(targetLangCode).build());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeUp();
+                }
+            });
+        } else {
+            wakeUp();
+        }
+    }
+
+    private void wakeUp() {
+        if (!poller.isShutdown()) {
+            poller.execute(this::poll);
+        }
+    }
+
+    /*워커 풀의 남은 자리만큼만 점유하므로, 밀린 작업은 DB 에 남아 다른 인스턴스도 가져갈 수 있다*/
+    private void poll() {
+        try {
+            int capacity = workers - inFlight.get();
+            if (capacity <= 0) {
+                return;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = translationTaskRepository.findDueIds(now, capacity);
+            for (Long id : ids) {
+                if (translationTaskRepository.claim(id, now, now.plusSeconds(leaseSeconds))) {
+                    inFlight.incrementAndGet();
+                    workerPool.execute(() -> {
+                        try {
+                            process(id);
+                        } finally {
+                            inFlight.decrementAndGet();
+                            wakeUp();
+                        }
+                    });
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to poll translation tasks", e);
+        }
+    }
+
+    private void process(Long taskId) {
+        TranslationTask task = translationTaskRepository.findById(taskId).orElse(null);
+        if (task == null) {
+            return;
+        }
+        try {
+            String body = transactionTemplate.execute(status -> reviewRepository.findById(task.getReviewId())
+                    .map(Review::getBody).orElse(null));
+            if (body == null) {
+                translationTaskRepository.deleteById(taskId); // 번역 전에 삭제된 리뷰
+                return;
+            }
+
+            LangCode detected = languageDetector.detect(body);
+            if (task.getTargetLangCode().equals(detected)) {
+                transactionTemplate.executeWithoutResult(status -> complete(task, body, detected, null));
+                return;
+            }
+
+            DeeplResponseDto response = translator.translate(body, task.getTargetLangCode()).join();
+            LangCode source = response.getSourceLangCode() != null ? response.getSourceLangCode() : detected;
+            transactionTemplate.executeWithoutResult(status ->
+                    complete(task, body, source, response.getTranslatedText()));
+        } catch (RuntimeException e) {
+            log.warn("Translation task {} failed (attempt {})", taskId, task.getAttempts(), e);
+            transactionTemplate.executeWithoutResult(status -> retryOrFail(taskId, e));
+        }
+    }
+
+    /*translatedText 가 null 이면 원문이 표적 언어라 번역본 없이 원문 언어만 확정*/
+    private void complete(TranslationTask task, String body, LangCode source, String translatedText) {
+        Review review = reviewRepository.findById(task.getReviewId()).orElse(null);
+        if (review == null) {
+            translationTaskRepository.deleteById(task.getId());
+            return;
+        }
+        if (!body.equals(review.getBody())) {
+            // 번역 중 본문이 수정됨. 수정된 본문으로 바로 다시 처리
+            translationTaskRepository.findById(task.getId())
+                    .ifPresent(o -> o.retryAt(LocalDateTime.now(), "body changed during translation"));
+            return;
+        }
+
+        review.completeTranslation(source);
+        LangCode target = task.getTargetLangCode();
+        if (translatedText != null && !target.equals(review.getLangCode())) {
+            review.getTranslatedReviews().stream()
+                    .filter(o -> target.equals(o.getLangCode())).findFirst()
+                    .ifPresentOrElse(o -> o.updateBody(translatedText, review.getBodyVersion()),
+                            () -> translatedReviewRepository.save(TranslatedReview.builder()
+                                    .review(review).body(translatedText).langCode(target).build()));
+        }
+        translationTaskRepository.deleteById(task.getId());
+        eventPublisher.publishEvent(ReviewChangedEvent.saved(review));
+    }
+
+    private void retryOrFail(Long taskId, RuntimeException cause) {
+        TranslationTask task = translationTaskRepository.findById(taskId).orElse(null);
+        if (task == null) {
+            return;
+        }
+        String error = String.valueOf(cause.getMessage());
+        error = error.length() > 255 ? error.substring(0, 255) : error;
+        if (task.getAttempts() >= maxAttempts) {
+            task.fail(error);
+            reviewRepository.findById(task.getReviewId()).ifPresent(Review::failTranslation);
+            return;
+        }
+        long backoffMs = retryBackoffMs << Math.min(task.getAttempts() - 1, 10);
+        task.retryAt(LocalDateTime.now().plusNanos(backoffMs * 1_000_000), error);
+    }
+}
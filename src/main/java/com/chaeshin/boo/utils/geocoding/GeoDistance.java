@@ -0,0 +1,43 @@
+package com.chaeshin.boo.utils.geocoding;
+
+/**
+ * 위/경도 좌표 간 거리 계산 유틸리티.
+ */
+public class GeoDistance {
+
+    public static final double EARTH_RADIUS_METERS = 6_371_000.0;
+    public static final double MAX_DISTANCE_METERS = Math.PI * EARTH_RADIUS_METERS; // 지구 둘레의 절반
+
+    private GeoDistance() {
+    }
+
+    /**
+     * Haversine 공식으로 두 좌표 사이의 대권 거리(m) 계산
+     */
+    public static double haversine(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.pow(Math.sin(dLat / 2), 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.pow(Math.sin(dLng / 2), 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * 반경(m)에 해당하는 위도 차이(도)
+     */
+    public static double latitudeDelta(double meters) {
+        return Math.toDegrees(meters / EARTH_RADIUS_METERS);
+    }
+
+    /**
+     * 주어진 위도에서 반경(m) 원이 걸치는 경도 차이(도). 원이 극점을 포함하면 경도 전체(180)를 덮는다.
+     */
+    public static double longitudeDelta(double meters, double latitude) {
+        double angular = meters / EARTH_RADIUS_METERS;
+        if (Math.abs(latitude) + Math.toDegrees(angular) >= 90.0) {
+            return 180.0;
+        }
+        double sin = Math.sin(angular) / Math.cos(Math.toRadians(latitude));
+        return sin >= 1.0 ? 180.0 : Math.toDegrees(Math.asin(sin));
+    }
+}
@@ -0,0 +1,166 @@
+package com.chaeshin.boo.utils.translator;
+
+import com.chaeshin.boo.domain.LangCode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 동시에 들어온 번역 요청을 표적 언어별로 모아 DeepL 요청 한 번으로 보내는 Translator 앞단.
+ * <br></br>
+ * 언어별 첫 요청이 들어오면 windowMs 동안 같은 언어의 요청을 모으고, 문장 수(MAX_BATCH_TEXTS)나 본문 크기(maxBytes)가
+ * 한도에 닿으면 바로 보낸다. 응답의 translations 는 요청한 text 순서이므로 순서대로 각 호출자의 future 를 완료한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BatchingTranslator {
+
+    public static final int MAX_BATCH_TEXTS = 50; // DeepL 요청당 text 최대 개수
+
+    private final Translator translator;
+
+    @Value("${deepl.batch.window-ms:20}")
+    private long windowMs;
+
+    @Value("${deepl.batch.max-bytes:65536}")
+    private int maxBytes; // DeepL 요청 본문 최대 크기(128KiB)보다 여유 있게
+
+    @Value("${deepl.batch.senders:4}")
+    private int senders; // 동시에 보내는 DeepL 요청 수
+
+    private final Map<LangCode, Batch> open = new ConcurrentHashMap<>();
+    private ScheduledExecutorService timer;
+    private ExecutorService sender;
+
+    @PostConstruct
+    private void init() {
+        timer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "deepl-batch-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger threadNumber = new AtomicInteger();
+        sender = Executors.newFixedThreadPool(senders, r -> {
+            Thread thread = new Thread(r, "deepl-batch-sender-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    private void cleanup() {
+        if (timer != null) {
+            timer.shutdown();
+        }
+        open.keySet().forEach(o -> {
+            Batch batch = open.remove(o);
+            if (batch != null) {
+                send(o, batch);
+            }
+        });
+        if (sender != null) {
+            sender.shutdown();
+        }
+    }
+
+    /**
+     * 번역 요청. 같은 표적 언어의 다른 요청과 묶여 전송된다.
+     * @return 번역 결과. DeepL 요청이 실패하면 같은 묶음의 모든 future 가 예외로 완료된다.
+     */
+    public CompletableFuture<DeeplResponseDto> translate(String text, LangCode targetLangCode) {
+        Request request = new Request(text, new CompletableFuture<>());
+        List<Batch> ready = new ArrayList<>(1);
+        open.compute(targetLangCode, (lang, batch) -> {
+            if (batch != null && !batch.fits(request, maxBytes)) {
+                ready.add(batch); // 크기 한도 초과. 지금까지 모은 묶음을 먼저 보냄
+                batch = null;
+            }
+            if (batch == null) {
+                batch = new Batch();
+                Batch scheduled = batch;
+                timer.schedule(() -> expire(lang, scheduled), windowMs, TimeUnit.MILLISECONDS);
+            }
+            batch.add(request);
+            if (batch.size() >= MAX_BATCH_TEXTS) {
+                ready.add(batch);
+                return null;
+            }
+            return batch;
+        });
+        ready.forEach(o -> send(targetLangCode, o));
+        return request.future;
+    }
+
+    /*대기 시간이 지난 묶음 전송. 이미 한도로 전송된 묶음이면 아무것도 하지 않음*/
+    private void expire(LangCode targetLangCode, Batch batch) {
+        if (open.remove(targetLangCode, batch)) {
+            send(targetLangCode, batch);
+        }
+    }
+
+    private void send(LangCode targetLangCode, Batch batch) {
+        sender.execute(() -> {
+            List<Request> requests = batch.requests;
+            try {
+                List<DeeplResponseDto> results = translator.requestTranslate(
+                        requests.stream().map(o -> o.text).toList(), targetLangCode);
+                if (results.size() != requests.size()) {
+                    throw new IllegalStateException("DeepL returned " + results.size()
+                            + " translations for " + requests.size() + " texts");
+                }
+                for (int i = 0; i < requests.size(); i++) {
+                    requests.get(i).future.complete(results.get(i));
+                }
+            } catch (RuntimeException e) {
+                log.warn("DeepL batch of {} texts to {} failed", requests.size(), targetLangCode, e);
+                requests.forEach(o -> o.future.completeExceptionally(e));
+            }
+        });
+    }
+
+    private static class Request {
+        private final String text;
+        private final int bytes;
+        private final CompletableFuture<DeeplResponseDto> future;
+
+        Request(String text, CompletableFuture<DeeplResponseDto> future) {
+            this.text = text;
+            this.bytes = text == null ? 0 : text.getBytes(StandardCharsets.UTF_8).length;
+            this.future = future;
+        }
+    }
+
+    /*open 의 compute 안에서만 수정되므로 별도 동기화가 필요 없다*/
+    private static class Batch {
+        private final List<Request> requests = new ArrayList<>();
+        private int bytes;
+
+        boolean fits(Request request, int maxBytes) {
+            return bytes + request.bytes <= maxBytes;
+        }
+
+        void add(Request request) {
+            requests.add(request);
+            bytes += request.bytes;
+        }
+
+        int size() {
+            return requests.size();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.chaeshin.boo.utils.translator;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.List;
+
+@Getter
+public class DeeplBatchResponseDto {
+
+    private List<DeeplResponseDto> translations; // 요청한 text 순서
+
+    public DeeplBatchResponseDto(@JsonProperty("translations") List<HashMap<String, String>> translations) {
+        this.translations = translations.stream()
+                .map(o -> new DeeplResponseDto(DeeplResponseDto.toLangCode(o.get("detected_source_language")), o.get("text")))
+                .toList();
+    }
+}
@@ -19,4 +19,9 @@ public class DeeplRequestDto {
         this.text.add(text);
         this.targetLang = langCode;
     }
+
+    public DeeplRequestDto(List<String> texts, LangCode langCode) {
+        this.text = new ArrayList<>(texts);
+        this.targetLang = langCode;
+    }
 }
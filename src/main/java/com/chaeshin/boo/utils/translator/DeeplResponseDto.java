@@ -16,8 +16,28 @@ public class DeeplResponseDto {
     public DeeplResponseDto() {
     }
 
+    public DeeplResponseDto(LangCode sourceLangCode, String translatedText) {
+        this.sourceLangCode = sourceLangCode;
+        this.translatedText = translatedText;
+    }
+
     public DeeplResponseDto(@JsonProperty("translations") List<HashMap<String, String>> translations) {
-        this.sourceLangCode = LangCode.valueOf(translations.get(0).get("detected_source_language"));
+        this.sourceLangCode = toLangCode(translations.get(0).get("detected_source_language"));
         this.translatedText = translations.get(0).get("text");
     }
+
+    /**
+     * DeepL 이 감지한 원문 언어. 지원하지 않는 언어(AR 등)이거나 없으면 null
+     */
+    static LangCode toLangCode(String detectedSourceLanguage) {
+        if (detectedSourceLanguage == null) {
+            return null;
+        }
+        for (LangCode langCode : LangCode.values()) {
+            if (langCode.name().equalsIgnoreCase(detectedSourceLanguage)) {
+                return langCode;
+            }
+        }
+        return null;
+    }
 }
@@ -0,0 +1,190 @@
+package com.chaeshin.boo.utils.translator;
+
+import com.chaeshin.boo.domain.LangCode;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import org.springframework.stereotype.Component;
+
+/**
+ * DeepL 호출 없이 리뷰 원문 언어를 감지하는 프로세스 내 언어 식별기. LangCode 29개 언어를 다룬다.
+ * <br></br>
+ * 먼저 문자 체계(한글/가나/한자/그리스/키릴/라틴)로 나누고, 한글은 KO, 가나가 섞인 한자는 JA, 한자만 있으면 ZH, 그리스 문자는
+ * EL 로 바로 정한다. 키릴/라틴 문자는 언어별 기능어(the, und, и ...), 그 언어에서만 쓰이는 문자(ß, ñ, ї ...),
+ * 단어 끝 n-gram(-ing, -ção, -ssä ...) 점수로 고른다.
+ * 프로필은 langdetect/profiles.properties 에 있다. 점수가 없거나 1위와 2위의 차이가 MIN_MARGIN 보다 작으면 null 을 돌려주고,
+ * 호출자는 DeepL 감지 결과를 쓴다. 잘못 감지하면 번역을 건너뛰어 원문이 그대로 노출되므로, 애매하면 감지하지 않는 쪽을 택한다.
+ */
+@Component
+public class LanguageDetector {
+
+    private static final String PROFILES = "/langdetect/profiles.properties";
+    private static final int MAX_CHARS = 2000; // 앞부분만 봐도 충분하다
+    private static final double CHAR_WEIGHT = 0.5; // 기능어 1개 대비 고유 문자 1개의 점수
+    private static final double SUFFIX_WEIGHT = 0.5; // 기능어 1개 대비 어미 1개의 점수
+    private static final int MAX_SUFFIX = 4;
+    private static final double MIN_MARGIN = 1.0; // 1위와 2위 점수 차이가 기능어 1개 이상이어야 감지한 것으로 본다
+
+    private static final LangCode[] LANGS = LangCode.values();
+
+    private final Map<String, List<LangCode>> words = new HashMap<>();
+    private final Map<Character, List<LangCode>> chars = new HashMap<>();
+    private final Map<String, List<LangCode>> suffixes = new HashMap<>();
+
+    public LanguageDetector() {
+        Properties profiles = new Properties();
+        try (InputStream in = LanguageDetector.class.getResourceAsStream(PROFILES)) {
+            if (in == null) {
+                throw new IllegalStateException("language profiles not found : " + PROFILES);
+            }
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                profiles.load(reader);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load language profiles", e);
+        }
+
+        for (String key : profiles.stringPropertyNames()) {
+            int dot = key.indexOf('.');
+            LangCode langCode = LangCode.valueOf(key.substring(0, dot));
+            String value = profiles.getProperty(key).strip();
+            if (key.endsWith(".words")) {
+                for (String word : value.split("\\s+")) {
+                    words.computeIfAbsent(word, o -> new ArrayList<>()).add(langCode);
+                }
+            } else if (key.endsWith(".chars")) {
+                for (char c : value.toCharArray()) {
+                    chars.computeIfAbsent(c, o -> new ArrayList<>()).add(langCode);
+                }
+            } else if (key.endsWith(".suffixes")) {
+                for (String suffix : value.split("\\s+")) {
+                    suffixes.computeIfAbsent(suffix, o -> new ArrayList<>()).add(langCode);
+                }
+            }
+        }
+    }
+
+    /**
+     * 원문 언어 감지
+     * @return 감지한 언어. 판단할 근거가 부족하면 null
+     */
+    public LangCode detect(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        String sample = (text.length() > MAX_CHARS ? text.substring(0, MAX_CHARS) : text).toLowerCase(Locale.ROOT);
+
+        int hangul = 0, kana = 0, han = 0, greek = 0, cyrillic = 0, latin = 0;
+        for (int i = 0; i < sample.length(); i++) {
+            char c = sample.charAt(i);
+            if (!Character.isLetter(c)) {
+                continue;
+            }
+            switch (Character.UnicodeScript.of(c)) {
+                case HANGUL -> hangul++;
+                case HIRAGANA, KATAKANA -> kana++;
+                case HAN -> han++;
+                case GREEK -> greek++;
+                case CYRILLIC -> cyrillic++;
+                case LATIN -> latin++;
+                default -> { }
+            }
+        }
+
+        int cjk = kana + han;
+        int max = Math.max(Math.max(hangul, cjk), Math.max(greek, Math.max(cyrillic, latin)));
+        if (max == 0) {
+            return null;
+        }
+        if (max == hangul) {
+            return LangCode.KO;
+        }
+        if (max == cjk) {
+            return kana > 0 ? LangCode.JA : LangCode.ZH;
+        }
+        if (max == greek) {
+            return LangCode.EL;
+        }
+        return score(sample, max == cyrillic ? Character.UnicodeScript.CYRILLIC : Character.UnicodeScript.LATIN);
+    }
+
+    /*같은 문자 체계의 언어 중 기능어/고유 문자/어미 점수가 가장 높은 언어. 2위와의 차이가 MIN_MARGIN 보다 작으면 null*/
+    private LangCode score(String sample, Character.UnicodeScript script) {
+        double[] scores = new double[LANGS.length];
+        int start = -1;
+        for (int i = 0; i <= sample.length(); i++) {
+            char c = i < sample.length() ? sample.charAt(i) : ' ';
+            if (Character.isLetter(c)) {
+                if (start < 0) {
+                    start = i;
+                }
+                List<LangCode> langCodes = chars.get(c);
+                if (langCodes != null) {
+                    add(scores, langCodes, CHAR_WEIGHT);
+                }
+                continue;
+            }
+            if (start >= 0) {
+                String word = sample.substring(start, i);
+                List<LangCode> langCodes = words.get(word);
+                if (langCodes != null) {
+                    add(scores, langCodes, 1);
+                } else {
+                    scoreSuffix(scores, word);
+                }
+                start = -1;
+            }
+        }
+
+        LangCode best = null;
+        double bestScore = 0;
+        double secondScore = 0;
+        for (LangCode langCode : LANGS) {
+            if (!isScript(langCode, script)) {
+                continue;
+            }
+            double s = scores[langCode.ordinal()];
+            if (s > bestScore) {
+                best = langCode;
+                secondScore = bestScore;
+                bestScore = s;
+            } else if (s > secondScore) {
+                secondScore = s;
+            }
+        }
+        return bestScore - secondScore >= MIN_MARGIN ? best : null;
+    }
+
+    /*기능어가 아닌 단어는 어간보다 짧은 가장 긴 어미 하나만 센다*/
+    private void scoreSuffix(double[] scores, String word) {
+        for (int length = Math.min(MAX_SUFFIX, word.length() - 2); length >= 2; length--) {
+            List<LangCode> langCodes = suffixes.get(word.substring(word.length() - length));
+            if (langCodes != null) {
+                add(scores, langCodes, SUFFIX_WEIGHT);
+                return;
+            }
+        }
+    }
+
+    private static void add(double[] scores, List<LangCode> langCodes, double weight) {
+        for (LangCode langCode : langCodes) {
+            scores[langCode.ordinal()] += weight;
+        }
+    }
+
+    private static boolean isScript(LangCode langCode, Character.UnicodeScript script) {
+        return switch (langCode) {
+            case RU, UK, BG -> script == Character.UnicodeScript.CYRILLIC;
+            case KO, JA, ZH, EL -> false;
+            default -> script == Character.UnicodeScript.LATIN;
+        };
+    }
+}
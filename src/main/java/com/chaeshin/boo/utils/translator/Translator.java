@@ -7,19 +7,24 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.util.List;
+
 @Component
 public class Translator {
 
     static private String appKey;
     static private WebClient webClient;
+    static private String url;
 
-    public Translator(@Value("${deepl.apiKey}") String appKey) {
+    public Translator(@Value("${deepl.apiKey}") String appKey,
+                      @Value("${deepl.url:https://api-free.deepl.com/v2/translate}") String url) {
         this.appKey = appKey;
+        this.url = url;
     }
 
     @PostConstruct
     public void init() {
-        webClient = WebClient.create("https://api-free.deepl.com/v2/translate");
+        webClient = WebClient.create(url);
     }
 
 
@@ -29,4 +34,15 @@ public class Translator {
                 .header("Authorization", "DeepL-Auth-Key " + appKey)
                 .retrieve().bodyToMono(DeeplResponseDto.class).block();
     }
+
+    /**
+     * 여러 문장을 한 번의 요청으로 번역. 결과는 texts 순서와 같다.
+     */
+    public List<DeeplResponseDto> requestTranslate(List<String> texts, LangCode targetLangCode) {
+        return webClient.post()
+                .body(BodyInserters.fromValue(new DeeplRequestDto(texts, targetLangCode)))
+                .header("Authorization", "DeepL-Auth-Key " + appKey)
+                .retrieve().bodyToMono(DeeplBatchResponseDto.class).block()
+                .getTranslations();
+    }
 }
@@ -0,0 +1,89 @@
+package com.chaeshin.boo.benchmark;
+
+import com.chaeshin.boo.domain.restaurant.RatingDelta;
+import com.chaeshin.boo.domain.restaurant.Restaurant;
+import com.chaeshin.boo.repository.restaurant.RestaurantRepository;
+import com.chaeshin.boo.service.restaurant.rating.RatingAccumulator;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 한 식당에 리뷰가 몰릴 때 집계 방식별 처리량 비교. (./gradlew benchmark)
+ * <br></br>
+ * - read-modify-write : 엔티티 값을 읽어 더한 뒤 다시 쓰는 기존 방식(더티 체킹과 동일). 변화량 유실 여부도 함께 출력
+ * - atomic update : 리뷰마다 원자적 UPDATE 1회. 같은 행 잠금을 두고 작성자들이 직렬화된다
+ * - accumulator : RatingAccumulator 에 기록 후 주기적으로 한 번에 반영
+ */
+@Tag("benchmark")
+@SpringBootTest
+public class RatingAggregationBenchmark {
+
+    private static final int THREADS = 16;
+    private static final int WRITES_PER_THREAD = 500;
+
+    @Autowired RestaurantRepository restaurantRepository;
+    @Autowired RatingAccumulator ratingAccumulator;
+    @Autowired TransactionTemplate transactionTemplate;
+    @Autowired EntityManager em;
+
+    @Test
+    void 집계_방식별_처리량() throws InterruptedException {
+        run("read-modify-write", id -> transactionTemplate.executeWithoutResult(status -> {
+            Object[] row = (Object[]) em.createQuery(
+                            "select r.reviewCnt, r.scoreAccum from Restaurant r where r.id = :id")
+                    .setParameter("id", id).getSingleResult();
+            em.createQuery("update Restaurant r set r.reviewCnt = :cnt, r.scoreAccum = :score where r.id = :id")
+                    .setParameter("cnt", (int) row[0] + 1)
+                    .setParameter("score", (int) row[1] + 4)
+                    .setParameter("id", id).executeUpdate();
+        }));
+        run("atomic update", id -> restaurantRepository.applyReviewDeltas(List.of(new RatingDelta(id, 1, 4, new int[]{0, 0, 0, 1, 0}))));
+        run("accumulator", id -> ratingAccumulator.recordCreated(id, 4));
+    }
+
+    private void run(String name, LongConsumer write) throws InterruptedException {
+        Long restaurantId = restaurantRepository.save(Restaurant.builder().name(name).build()).getId();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicLong failures = new AtomicLong();
+        for (int t = 0; t < THREADS; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < WRITES_PER_THREAD; i++) {
+                    try {
+                        write.accept(restaurantId);
+                    } catch (RuntimeException e) {
+                        failures.incrementAndGet(); // 잠금 대기 시간 초과 등
+                    }
+                }
+                return null;
+            });
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(5, TimeUnit.MINUTES));
+        ratingAccumulator.flush();
+        long elapsedNanos = System.nanoTime() - begin;
+
+        int total = THREADS * WRITES_PER_THREAD;
+        Restaurant restaurant = restaurantRepository.findById(restaurantId).get();
+        System.out.printf("[rating] %-17s writes=%d elapsed=%d ms throughput=%.0f writes/s | stored reviewCnt=%d lost=%d failed=%d%n",
+                name, total, elapsedNanos / 1_000_000, total / (elapsedNanos / 1e9),
+                restaurant.getReviewCnt(), total - failures.get() - restaurant.getReviewCnt(), failures.get());
+        restaurantRepository.deleteById(restaurantId);
+    }
+}
@@ -0,0 +1,71 @@
+package com.chaeshin.boo.benchmark;
+
+import com.chaeshin.boo.domain.restaurant.Category;
+import com.chaeshin.boo.domain.restaurant.Restaurant;
+import com.chaeshin.boo.service.restaurant.dto.MapInfoDto;
+import com.chaeshin.boo.service.restaurant.geo.GeoGridIndex;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 전체 식당 조회(findAll 후 MapInfoDto 변환) 와 격자 인덱스의 영역 조회 비교.
+ * <br></br>
+ * DB 왕복 비용은 제외한, JVM 내부 처리 비용만 측정한다. (./gradlew benchmark)
+ */
+@Tag("benchmark")
+public class RestaurantGeoIndexBenchmark {
+
+    private static final double CENTER_LAT = 37.59727904279873;
+    private static final double CENTER_LNG = 127.05787102153596;
+    private static final double SPREAD = 0.2; // 약 20km 사방
+    private static final double VIEWPORT = 0.01; // 약 1km 사방
+    private static final int ITERATIONS = 200;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1_000, 10_000, 100_000})
+    void 전체조회_영역조회_비교(int size) {
+        // given
+        Random random = new Random(42);
+        List<Restaurant> restaurants = new ArrayList<>(size);
+        GeoGridIndex<MapInfoDto> index = new GeoGridIndex<>(0.005);
+        for (long i = 1; i <= size; i++) {
+            double lat = CENTER_LAT + (random.nextDouble() - 0.5) * SPREAD;
+            double lng = CENTER_LNG + (random.nextDouble() - 0.5) * SPREAD;
+            Restaurant restaurant = Restaurant.builder().name("식당" + i)
+                    .latitude(lat).longitude(lng)
+                    .scoreAvg(BigDecimal.ZERO).category(Category.KOREAN).build();
+            ReflectionTestUtils.setField(restaurant, "id", i);
+            restaurants.add(restaurant);
+            index.put(i, lat, lng, new MapInfoDto(restaurant));
+        }
+
+        // when
+        long scanStart = System.nanoTime();
+        int scanned = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            scanned += restaurants.stream().map(MapInfoDto::new).toList().size();
+        }
+        long scanNanos = (System.nanoTime() - scanStart) / ITERATIONS;
+
+        long bboxStart = System.nanoTime();
+        int found = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            double lat = CENTER_LAT + (random.nextDouble() - 0.5) * (SPREAD - VIEWPORT);
+            double lng = CENTER_LNG + (random.nextDouble() - 0.5) * (SPREAD - VIEWPORT);
+            found += index.findWithin(lat, lng, lat + VIEWPORT, lng + VIEWPORT).size();
+        }
+        long bboxNanos = (System.nanoTime() - bboxStart) / ITERATIONS;
+
+        // then
+        System.out.printf("[geo-index] n=%d findAll=%d us/op (%d rows) bbox=%d us/op (avg %d rows)%n",
+                size, scanNanos / 1_000, scanned / ITERATIONS, bboxNanos / 1_000, found / ITERATIONS);
+        Assertions.assertEquals(size, index.size());
+    }
+}
@@ -0,0 +1,134 @@
+package com.chaeshin.boo.benchmark;
+
+import com.chaeshin.boo.domain.LangCode;
+import com.chaeshin.boo.utils.translator.BatchingTranslator;
+import com.chaeshin.boo.utils.translator.Translator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * 동시 번역 요청을 DeepL 요청 하나씩 보낼 때와 BatchingTranslator 로 묶어 보낼 때의 요청 수/지연 비교. (./gradlew benchmark)
+ * <br></br>
+ * 실제 DeepL 대신 요청마다 STUB_LATENCY_MS 만큼 지연 후 text 개수만큼 번역 결과를 돌려주는 로컬 HTTP 서버를 사용한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+public class TranslatorBatchingBenchmark {
+
+    private static final int THREADS = 64;
+    private static final int REQUESTS_PER_THREAD = 20;
+    private static final long STUB_LATENCY_MS = 50;
+    private static final LangCode[] TARGETS = {LangCode.EN, LangCode.JA, LangCode.ZH};
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final AtomicLong stubRequests = new AtomicLong();
+    private static final HttpServer stub = startStub();
+
+    @Autowired Translator translator;
+    @Autowired BatchingTranslator batchingTranslator;
+
+    @DynamicPropertySource
+    static void deeplUrl(DynamicPropertyRegistry registry) {
+        registry.add("deepl.url", () -> "http://localhost:" + stub.getAddress().getPort() + "/v2/translate");
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.stop(0);
+    }
+
+    @Test
+    void 묶음_번역_요청_수와_지연() throws InterruptedException {
+        run("single request", (text, target) -> translator.requestTranslate(text, target));
+        run("batched", (text, target) -> batchingTranslator.translate(text, target).join());
+    }
+
+    private void run(String name, BiConsumer<String, LangCode> translate) throws InterruptedException {
+        stubRequests.set(0);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        long[] latencies = new long[THREADS * REQUESTS_PER_THREAD];
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                    long begin = System.nanoTime();
+                    translate.accept("리뷰 본문 " + thread + "-" + i, TARGETS[(thread + i) % TARGETS.length]);
+                    latencies[thread * REQUESTS_PER_THREAD + i] = System.nanoTime() - begin;
+                }
+                return null;
+            });
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(5, TimeUnit.MINUTES));
+        long elapsedNanos = System.nanoTime() - begin;
+
+        Arrays.sort(latencies);
+        System.out.printf("[deepl] %-14s translations=%d deepl requests=%d elapsed=%d ms p50=%.1f ms p99=%.1f ms%n",
+                name, latencies.length, stubRequests.get(), elapsedNanos / 1_000_000,
+                latencies[latencies.length / 2] / 1e6, latencies[latencies.length * 99 / 100] / 1e6);
+    }
+
+    /*요청의 text 마다 "[대상 언어] 원문" 을 돌려주는 DeepL 스텁*/
+    private static HttpServer startStub() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.setExecutor(Executors.newFixedThreadPool(THREADS));
+            server.createContext("/v2/translate", exchange -> {
+                stubRequests.incrementAndGet();
+                JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+                List<Map<String, String>> translations = new ArrayList<>();
+                for (JsonNode text : request.get("text")) {
+                    translations.add(Map.of("detected_source_language", "KO",
+                            "text", "[" + request.get("target_lang").asText() + "] " + text.asText()));
+                }
+                sleep(STUB_LATENCY_MS);
+
+                byte[] body = objectMapper.writeValueAsBytes(Map.of("translations", translations));
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.chaeshin.boo.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import com.chaeshin.boo.domain.restaurant.RestaurantChangedEvent;
+import com.chaeshin.boo.service.restaurant.catalog.RestaurantChangeLog;
+import com.chaeshin.boo.utils.jwt.JwtProvider;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+/**
+ * /restaurant/location/ 의 인코딩별 ETag 와 If-None-Match 처리 검증.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class RestaurantLocationEtagTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired RestaurantChangeLog restaurantChangeLog;
+    @MockBean JwtProvider jwtProvider;
+
+    @Test
+    void 인코딩별로_다른_ETag_와_같은_본문() throws Exception {
+        // when
+        MockHttpServletResponse identity = location(null, null);
+        MockHttpServletResponse gzip = location("gzip, deflate, br", null);
+
+        // then
+        String version = restaurantChangeLog.token(restaurantChangeLog.current());
+        Assertions.assertEquals(200, identity.getStatus());
+        Assertions.assertEquals("\"map-v" + version + "\"", identity.getHeader(HttpHeaders.ETAG));
+        Assertions.assertNull(identity.getHeader(HttpHeaders.CONTENT_ENCODING));
+        Assertions.assertEquals(version, identity.getHeader("X-Catalog-Version"));
+
+        Assertions.assertEquals(200, gzip.getStatus());
+        Assertions.assertEquals("\"map-v" + version + "-gzip\"", gzip.getHeader(HttpHeaders.ETAG));
+        Assertions.assertEquals("gzip", gzip.getHeader(HttpHeaders.CONTENT_ENCODING));
+        Assertions.assertArrayEquals(identity.getContentAsByteArray(), gunzip(gzip.getContentAsByteArray()));
+        Assertions.assertTrue(gzip.getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    @Test
+    void 현재_버전_ETag_를_보내면_본문_없이_304() throws Exception {
+        // given
+        String identityTag = location(null, null).getHeader(HttpHeaders.ETAG);
+        String gzipTag = location("gzip", null).getHeader(HttpHeaders.ETAG);
+
+        // when
+        MockHttpServletResponse sameEncoding = location("gzip", gzipTag);
+        MockHttpServletResponse otherEncoding = location(null, gzipTag);
+        MockHttpServletResponse tagList = location("gzip", "\"map-v1\", " + identityTag);
+
+        // then
+        Assertions.assertEquals(304, sameEncoding.getStatus());
+        Assertions.assertEquals(0, sameEncoding.getContentAsByteArray().length);
+        Assertions.assertEquals(gzipTag, sameEncoding.getHeader(HttpHeaders.ETAG));
+        Assertions.assertEquals(304, otherEncoding.getStatus());
+        Assertions.assertEquals(identityTag, otherEncoding.getHeader(HttpHeaders.ETAG));
+        Assertions.assertEquals(304, tagList.getStatus());
+    }
+
+    @Test
+    void 카탈로그가_바뀌면_이전_ETag_로는_전체_응답() throws Exception {
+        // given
+        String before = location(null, null).getHeader(HttpHeaders.ETAG);
+
+        // when
+        restaurantChangeLog.onRestaurantChanged(RestaurantChangedEvent.removed(Long.MAX_VALUE));
+        MockHttpServletResponse after = location(null, before);
+
+        // then
+        Assertions.assertEquals(200, after.getStatus());
+        Assertions.assertNotEquals(before, after.getHeader(HttpHeaders.ETAG));
+        Assertions.assertEquals("\"map-v" + restaurantChangeLog.token(restaurantChangeLog.current()) + "\"", after.getHeader(HttpHeaders.ETAG));
+    }
+
+    private MockHttpServletResponse location(String acceptEncoding, String ifNoneMatch) throws Exception {
+        MockHttpServletRequestBuilder request = get("/restaurant/location/");
+        if (acceptEncoding != null) {
+            request.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return mockMvc.perform(request).andReturn().getResponse();
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readAllBytes();
+        }
+    }
+}
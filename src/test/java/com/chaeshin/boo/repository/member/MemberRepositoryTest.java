@@ -118,6 +118,8 @@ public class MemberRepositoryTest {
         // when
         reviewRepository.save(rev1);
         reviewRepository.save(rev2);
+        em.flush();
+        em.clear(); // 리뷰 작성 시 Member.reviews 를 채우지 않으므로 DB 에서 다시 읽는다.
         Member found = memberRepository.findById(savedMember.getId()).get();
 
         // then
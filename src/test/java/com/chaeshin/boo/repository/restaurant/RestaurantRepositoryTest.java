@@ -12,6 +12,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @SpringBootTest
 @Transactional
 public class RestaurantRepositoryTest {
@@ -69,4 +71,79 @@ public class RestaurantRepositoryTest {
         // then
         Assertions.assertEquals(savedRes, foundRes);
     }
+
+    @Test
+    void 반경_내_식당_조회(){
+
+        // given : 기준점(한국외대 본관)으로부터 약 110m, 약 1.1km 떨어진 식당
+        double lat = 37.59727904279873;
+        double lng = 127.05787102153596;
+        Restaurant near = restaurantRepository.save(Restaurant.builder().name("가까운 식당")
+                .latitude(lat + 0.001).longitude(lng).build());
+        Restaurant far = restaurantRepository.save(Restaurant.builder().name("먼 식당")
+                .latitude(lat + 0.01).longitude(lng).build());
+
+        // when
+        List<Restaurant> within500m = restaurantRepository.findAllWithinRadius(lat, lng, 500);
+        List<Restaurant> within2km = restaurantRepository.findAllWithinRadius(lat, lng, 2000);
+
+        // then
+        Assertions.assertTrue(within500m.contains(near));
+        Assertions.assertFalse(within500m.contains(far));
+        Assertions.assertEquals(List.of(near, far), within2km.stream()
+                .filter(o -> o.equals(near) || o.equals(far)).toList());
+    }
+
+    @Test
+    void 최근접_식당_조회(){
+
+        // given : 기준점에서 멀어지는 순서대로 5개의 식당
+        double lat = -33.8688;
+        double lng = 151.2093;
+        for (int i = 1; i <= 5; i++) {
+            restaurantRepository.save(Restaurant.builder().name("식당" + i)
+                    .latitude(lat + 0.003 * i).longitude(lng).build());
+        }
+
+        // when
+        List<Restaurant> nearest = restaurantRepository.findNearest(lat, lng, 3);
+
+        // then
+        Assertions.assertEquals(List.of("식당1", "식당2", "식당3"),
+                nearest.stream().map(Restaurant::getName).toList());
+    }
+
+    @Test
+    void 날짜변경선_너머_식당_조회(){
+
+        // given : 피지 부근 날짜변경선(경도 ±180) 양쪽으로 약 850m, 약 430m 떨어진 식당
+        double lat = -17.0;
+        double lng = 179.998;
+        Restaurant east = restaurantRepository.save(Restaurant.builder().name("동쪽 식당")
+                .latitude(lat).longitude(179.990).build());
+        Restaurant west = restaurantRepository.save(Restaurant.builder().name("서쪽 식당")
+                .latitude(lat).longitude(-179.998).build());
+
+        // when
+        List<Restaurant> within2km = restaurantRepository.findAllWithinRadius(lat, lng, 2000);
+        List<Restaurant> nearest = restaurantRepository.findNearest(lat, lng, 2);
+
+        // then
+        Assertions.assertEquals(List.of(west, east), within2km);
+        Assertions.assertEquals(List.of(west, east), nearest);
+    }
+
+    @Test
+    void 극점을_포함하는_반경_조회(){
+
+        // given : 북극점 건너편(경도 반대쪽) 약 2.2km 떨어진 식당
+        Restaurant across = restaurantRepository.save(Restaurant.builder().name("건너편 식당")
+                .latitude(89.99).longitude(-53.0).build());
+
+        // when
+        List<Restaurant> within5km = restaurantRepository.findAllWithinRadius(89.99, 127.0, 5000);
+
+        // then
+        Assertions.assertEquals(List.of(across), within5km);
+    }
 }
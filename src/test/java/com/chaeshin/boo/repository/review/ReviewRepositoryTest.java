@@ -115,6 +115,28 @@ public class ReviewRepositoryTest {
         Assertions.assertEquals(1, foundReview.get(0).getReviewImages().size());
     }
 
+    @Test
+    void 식당_ID_리뷰_커서_페이지_조회(){
+        // given
+        Member savedMember = memberRepository.save(new Member());
+        Restaurant savedRes = restaurantRepository.save(new Restaurant());
+        for (int i = 0; i < 5; i++) {
+            reviewRepository.save(Review.builder().member(savedMember).restaurant(savedRes).build());
+        }
+
+        // when
+        List<Review> first = reviewRepository.findPageByRestaurantIdWithImage(savedRes.getId(), null, null, 3);
+        Review last = first.get(first.size() - 1);
+        List<Review> second = reviewRepository.findPageByRestaurantIdWithImage(
+                savedRes.getId(), last.getCreatedAt(), last.getId(), 3);
+
+        // then
+        Assertions.assertEquals(3, first.size());
+        Assertions.assertEquals(2, second.size());
+        Assertions.assertTrue(first.get(0).getId() > first.get(1).getId()); // 같은 시각이면 ID 내림차순
+        Assertions.assertTrue(second.stream().noneMatch(first::contains));
+    }
+
     @Test
     void 리뷰_삭제(){
         // given
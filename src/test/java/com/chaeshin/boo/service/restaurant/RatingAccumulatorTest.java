@@ -0,0 +1,110 @@
+package com.chaeshin.boo.service.restaurant;
+
+import com.chaeshin.boo.domain.restaurant.Restaurant;
+import com.chaeshin.boo.domain.restaurant.ScoreHistogram;
+import com.chaeshin.boo.repository.restaurant.RestaurantRepository;
+import com.chaeshin.boo.service.restaurant.rating.RatingAccumulator;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 여러 스레드가 같은 식당에 동시에 리뷰 변화량을 기록하는 동안 반영(flush)이 계속 일어나도 최종 합계와 점수 분포가 정확한지,
+ * 매 반영 직후에도 점수 분포 합계가 리뷰 수와 같은지 검증.
+ */
+@SpringBootTest
+public class RatingAccumulatorTest {
+
+    private static final int THREADS = 16;
+    private static final int RECORDS_PER_THREAD = 2_000;
+
+    @Autowired RatingAccumulator ratingAccumulator;
+    @Autowired RestaurantRepository restaurantRepository;
+
+    @Test
+    void 동시_기록_합계_정확성() throws InterruptedException {
+        // given
+        Long restaurantId = restaurantRepository.save(Restaurant.builder().name("hot").build()).getId();
+        AtomicLong expectedCnt = new AtomicLong();
+        AtomicLong expectedScore = new AtomicLong();
+        AtomicLongArray expectedHistogram = new AtomicLongArray(ScoreHistogram.BUCKETS);
+
+        // when : 작성(+1), 수정(0), 삭제(-1)를 섞어 기록하면서 별도 스레드가 계속 반영
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger inconsistentFlushes = new AtomicInteger();
+        executor.submit(() -> {
+            start.await();
+            while (running.get()) {
+                ratingAccumulator.flush();
+                Restaurant flushed = restaurantRepository.findById(restaurantId).get();
+                if (Arrays.stream(flushed.getScoreHistogram().toArray()).sum() != flushed.getReviewCnt()) {
+                    inconsistentFlushes.incrementAndGet();
+                }
+            }
+            return null;
+        });
+        for (int t = 0; t < THREADS; t++) {
+            long seed = t;
+            executor.submit(() -> {
+                Random random = new Random(seed);
+                start.await();
+                for (int i = 0; i < RECORDS_PER_THREAD; i++) {
+                    int score = 1 + random.nextInt(5);
+                    if (i % 10 == 9) {
+                        ratingAccumulator.recordDeleted(restaurantId, score);
+                        expectedCnt.decrementAndGet();
+                        expectedScore.addAndGet(-score);
+                        expectedHistogram.decrementAndGet(score - 1);
+                    } else if (i % 10 == 8) {
+                        ratingAccumulator.recordUpdated(restaurantId, 3, score);
+                        expectedScore.addAndGet(score - 3);
+                        expectedHistogram.decrementAndGet(2);
+                        expectedHistogram.incrementAndGet(score - 1);
+                    } else {
+                        ratingAccumulator.recordCreated(restaurantId, score);
+                        expectedCnt.incrementAndGet();
+                        expectedScore.addAndGet(score);
+                        expectedHistogram.incrementAndGet(score - 1);
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        Thread.sleep(100);
+        running.set(false);
+        Assertions.assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        ratingAccumulator.flush();
+
+        // then
+        Assertions.assertEquals(0, inconsistentFlushes.get());
+        Restaurant restaurant = restaurantRepository.findById(restaurantId).get();
+        Assertions.assertEquals(expectedCnt.get(), restaurant.getReviewCnt());
+        Assertions.assertEquals(expectedScore.get(), restaurant.getScoreAccum());
+        Assertions.assertEquals(0, BigDecimal.valueOf(expectedScore.get())
+                .divide(BigDecimal.valueOf(expectedCnt.get()), 1, RoundingMode.HALF_UP)
+                .compareTo(restaurant.getScoreAvg()));
+        int[] histogram = restaurant.getScoreHistogram().toArray();
+        for (int i = 0; i < ScoreHistogram.BUCKETS; i++) {
+            Assertions.assertEquals(expectedHistogram.get(i), histogram[i]);
+        }
+
+        restaurantRepository.deleteById(restaurantId);
+    }
+}
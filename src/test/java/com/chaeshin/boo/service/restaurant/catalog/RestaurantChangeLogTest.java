@@ -0,0 +1,104 @@
+package com.chaeshin.boo.service.restaurant.catalog;
+
+import com.chaeshin.boo.domain.restaurant.Restaurant;
+import com.chaeshin.boo.domain.restaurant.RestaurantChangedEvent;
+import com.chaeshin.boo.service.restaurant.dto.MapChangeDto;
+import com.chaeshin.boo.service.restaurant.dto.MapDeltaDto;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class RestaurantChangeLogTest {
+
+    @Test
+    void 식당별_마지막_변경만_버전_순으로_반환() {
+        // given
+        RestaurantChangeLog changeLog = new RestaurantChangeLog(100);
+        long start = changeLog.current();
+        changeLog.onRestaurantChanged(saved(1L, "김밥천국"));
+        changeLog.onRestaurantChanged(saved(2L, "피자헛"));
+        changeLog.onRestaurantChanged(saved(1L, "김밥나라"));
+        changeLog.onRestaurantChanged(RestaurantChangedEvent.removed(2L));
+
+        // when
+        MapDeltaDto delta = changeLog.changesSince(changeLog.token(start));
+
+        // then
+        Assertions.assertFalse(delta.isFullResync());
+        Assertions.assertEquals(changeLog.token(start + 4), delta.getVersion());
+        List<MapChangeDto> changes = delta.getChanges();
+        Assertions.assertEquals(List.of(1L, 2L), changes.stream().map(MapChangeDto::getId).toList());
+        Assertions.assertEquals(changeLog.token(start + 3), changes.get(0).getVersion());
+        Assertions.assertEquals("김밥나라", changes.get(0).getRestaurant().getName());
+        Assertions.assertEquals(RestaurantChangedEvent.Type.REMOVED, changes.get(1).getType());
+        Assertions.assertNull(changes.get(1).getRestaurant());
+    }
+
+    @Test
+    void since_이후의_변경만_반환() {
+        // given
+        RestaurantChangeLog changeLog = new RestaurantChangeLog(100);
+        long start = changeLog.current();
+        changeLog.onRestaurantChanged(saved(1L, "김밥천국"));
+        changeLog.onRestaurantChanged(saved(2L, "피자헛"));
+
+        // then
+        Assertions.assertEquals(List.of(2L), changeLog.changesSince(changeLog.token(start + 1)).getChanges().stream()
+                .map(MapChangeDto::getId).toList());
+        MapDeltaDto upToDate = changeLog.changesSince(changeLog.token(start + 2));
+        Assertions.assertFalse(upToDate.isFullResync());
+        Assertions.assertTrue(upToDate.getChanges().isEmpty());
+    }
+
+    @Test
+    void 정리된_이력이나_알_수_없는_버전은_전체_재동기화() {
+        // given : 최근 3개만 보관
+        RestaurantChangeLog changeLog = new RestaurantChangeLog(3);
+        long start = changeLog.current();
+        for (long id = 1; id <= 4; id++) {
+            changeLog.onRestaurantChanged(saved(id, "식당" + id));
+        }
+
+        // when
+        MapDeltaDto trimmed = changeLog.changesSince(changeLog.token(start));
+        MapDeltaDto kept = changeLog.changesSince(changeLog.token(start + 1));
+        MapDeltaDto future = changeLog.changesSince(changeLog.token(start + 5));
+
+        // then
+        Assertions.assertTrue(trimmed.isFullResync());
+        Assertions.assertEquals(changeLog.token(start + 4), trimmed.getVersion());
+        Assertions.assertTrue(trimmed.getChanges().isEmpty());
+        Assertions.assertFalse(kept.isFullResync());
+        Assertions.assertEquals(List.of(2L, 3L, 4L), kept.getChanges().stream().map(MapChangeDto::getId).toList());
+        Assertions.assertTrue(future.isFullResync());
+        for (String malformed : new String[]{null, "", "3", "abc", changeLog.token(start) + "x"}) {
+            Assertions.assertTrue(changeLog.changesSince(malformed).isFullResync(), String.valueOf(malformed));
+        }
+    }
+
+    @Test
+    void 다른_인스턴스의_버전은_이력_범위_안이어도_전체_재동기화() {
+        // given : 두 인스턴스가 같은 수의 변경을 기록해 순번이 겹친다
+        RestaurantChangeLog instanceA = new RestaurantChangeLog(100);
+        RestaurantChangeLog instanceB = new RestaurantChangeLog(100);
+        for (long id = 1; id <= 3; id++) {
+            instanceA.onRestaurantChanged(saved(id, "A" + id));
+            instanceB.onRestaurantChanged(saved(id + 10, "B" + id));
+        }
+
+        // when : A 에서 받은 버전으로 B 에 동기화 요청
+        MapDeltaDto delta = instanceB.changesSince(instanceA.token(1));
+
+        // then
+        Assertions.assertNotEquals(instanceA.token(1), instanceB.token(1));
+        Assertions.assertTrue(delta.isFullResync());
+        Assertions.assertEquals(instanceB.token(instanceB.current()), delta.getVersion());
+    }
+
+    private static RestaurantChangedEvent saved(Long id, String name) {
+        Restaurant restaurant = Restaurant.builder().name(name).latitude(37.5).longitude(127.0).build();
+        ReflectionTestUtils.setField(restaurant, "id", id);
+        return RestaurantChangedEvent.saved(restaurant);
+    }
+}
@@ -0,0 +1,87 @@
+package com.chaeshin.boo.service.restaurant.catalog;
+
+import com.chaeshin.boo.domain.LangCode;
+import com.chaeshin.boo.domain.Member;
+import com.chaeshin.boo.domain.restaurant.Restaurant;
+import com.chaeshin.boo.repository.member.MemberRepository;
+import com.chaeshin.boo.repository.restaurant.RestaurantRepository;
+import com.chaeshin.boo.service.restaurant.RestaurantService;
+import com.chaeshin.boo.service.restaurant.dto.RestaurantInfoDto;
+import com.chaeshin.boo.service.review.ReviewService;
+import com.chaeshin.boo.service.review.dto.ReviewDto;
+import com.chaeshin.boo.service.review.dto.ReviewRequestDto;
+import com.chaeshin.boo.utils.translator.DeeplResponseDto;
+import com.chaeshin.boo.utils.translator.Translator;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+/**
+ * 리뷰 작성/삭제가 커밋되면 해당 식당의 상세정보 캐시만 무효화되는지 검증.
+ * <br></br>
+ * 무효화는 커밋 이후에 실행되므로 테스트 트랜잭션(롤백)을 쓰지 않는다.
+ */
+@SpringBootTest
+public class RestaurantDetailCacheTest {
+
+    @Autowired RestaurantService restaurantService;
+    @Autowired ReviewService reviewService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired RestaurantRepository restaurantRepository;
+
+    @MockBean Translator translator;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(translator.requestTranslate(ArgumentMatchers.<List<String>>any(), ArgumentMatchers.any()))
+                .thenAnswer(o -> o.<List<String>>getArgument(0).stream()
+                        .map(text -> new DeeplResponseDto(LangCode.KO, "translated")).toList());
+    }
+
+    @Test
+    void 리뷰_작성과_삭제_후에는_새로_조립한_상세정보() {
+        // given
+        Member member = memberRepository.save(Member.builder()
+                .googleId("detail-cache@gmail.com").nickname("nickname").langCode(LangCode.EN).build());
+        Restaurant restaurant = restaurantRepository.save(Restaurant.builder()
+                .name("detail").scoreAvg(new BigDecimal("0.0")).build());
+        Restaurant other = restaurantRepository.save(Restaurant.builder()
+                .name("other").scoreAvg(new BigDecimal("0.0")).build());
+        RestaurantInfoDto empty = detail(restaurant.getId());
+        RestaurantInfoDto otherDetail = detail(other.getId());
+        Assertions.assertSame(empty, detail(restaurant.getId())); // 변경 전에는 캐시에서 반환
+
+        // when : 리뷰 작성
+        ReviewDto created = reviewService.createReview(member.getId(), restaurant.getId(),
+                new ReviewRequestDto("title", "cached body", 5)).getData();
+        RestaurantInfoDto afterCreate = detail(restaurant.getId());
+
+        // then
+        Assertions.assertTrue(empty.getReviews().isEmpty());
+        Assertions.assertEquals(List.of(created.getId()), reviewIds(afterCreate));
+        Assertions.assertSame(otherDetail, detail(other.getId())); // 다른 식당은 그대로
+
+        // when : 리뷰 삭제
+        reviewService.deleteReview(member.getId(), created.getId());
+        RestaurantInfoDto afterDelete = detail(restaurant.getId());
+
+        // then
+        Assertions.assertNotSame(afterCreate, afterDelete);
+        Assertions.assertEquals(List.of(), reviewIds(afterDelete));
+    }
+
+    private RestaurantInfoDto detail(Long restaurantId) {
+        return restaurantService.getRestaurantDetail(restaurantId).getData();
+    }
+
+    private static List<Long> reviewIds(RestaurantInfoDto detail) {
+        return detail.getReviews().stream().map(ReviewDto::getId).toList();
+    }
+}
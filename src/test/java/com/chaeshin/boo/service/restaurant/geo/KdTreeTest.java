@@ -0,0 +1,116 @@
+package com.chaeshin.boo.service.restaurant.geo;
+
+import com.chaeshin.boo.utils.geocoding.GeoDistance;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * KdTree.nearest 결과를 모든 점의 haversine 거리를 정렬한 결과와 비교. 경도 ±180 경계와 극 주변 점을 섞는다.
+ */
+public class KdTreeTest {
+
+    private static final int POINTS = 3_000;
+    private static final int CATEGORIES = 5;
+    private static final int K = 15;
+    private static final double TOLERANCE_METERS = 1e-3;
+
+    private final Random random = new Random(42);
+    private final double[] latitudes = new double[POINTS];
+    private final double[] longitudes = new double[POINTS];
+    private final int[] categories = new int[POINTS];
+    private final double[] scores = new double[POINTS];
+
+    KdTreeTest() {
+        for (int i = 0; i < POINTS; i++) {
+            switch (i % 4) {
+                case 0 -> { // 경도 ±180 경계
+                    latitudes[i] = -60 + random.nextDouble() * 120;
+                    longitudes[i] = (random.nextBoolean() ? 180 : -180) + (random.nextBoolean() ? -1 : 1) * random.nextDouble() * 0.5;
+                    longitudes[i] = Math.max(-180, Math.min(180, longitudes[i]));
+                }
+                case 1 -> { // 북극/남극 주변
+                    latitudes[i] = (random.nextBoolean() ? 1 : -1) * (89 + random.nextDouble());
+                    longitudes[i] = -180 + random.nextDouble() * 360;
+                }
+                default -> {
+                    latitudes[i] = -90 + random.nextDouble() * 180;
+                    longitudes[i] = -180 + random.nextDouble() * 360;
+                }
+            }
+            categories[i] = random.nextInt(CATEGORIES);
+            scores[i] = random.nextInt(51) / 10.0;
+        }
+    }
+
+    @Test
+    void 필터_없이_가까운_순서가_전수_조사와_같음() {
+        KdTree tree = KdTree.build(latitudes, longitudes);
+        for (double[] query : queries()) {
+            assertSameAsBruteForce(tree, query, null);
+        }
+    }
+
+    @Test
+    void 카테고리_최소평점_필터를_적용해도_전수_조사와_같음() {
+        KdTree tree = KdTree.build(latitudes, longitudes);
+        List<KdTree.Filter> filters = List.of(
+                i -> categories[i] == 2,
+                i -> scores[i] >= 4.0,
+                i -> categories[i] == 0 && scores[i] >= 3.5);
+        for (KdTree.Filter filter : filters) {
+            for (double[] query : queries()) {
+                assertSameAsBruteForce(tree, query, filter);
+            }
+        }
+    }
+
+    @Test
+    void 경계_건너편의_점을_찾음() {
+        // given : 경도 179.99 와 -179.99 는 약 2km 떨어져 있다
+        KdTree tree = KdTree.build(new double[]{37.0, 37.0, 37.0}, new double[]{-179.99, 170.0, 0.0});
+
+        // when
+        KdTree.Result result = tree.nearest(37.0, 179.99, 1, null);
+
+        // then
+        Assertions.assertEquals(0, result.index(0));
+        Assertions.assertEquals(GeoDistance.haversine(37.0, 179.99, 37.0, -179.99), result.distance(0), TOLERANCE_METERS);
+    }
+
+    /*임의의 기준점과 경계/극 위의 기준점*/
+    private List<double[]> queries() {
+        List<double[]> queries = new ArrayList<>(List.of(
+                new double[]{0.0, 180.0}, new double[]{0.0, -180.0}, new double[]{45.0, 179.999},
+                new double[]{-30.0, -179.999}, new double[]{90.0, 0.0}, new double[]{-90.0, 123.0},
+                new double[]{89.9, -45.0}, new double[]{-89.9, 170.0}));
+        for (int i = 0; i < 40; i++) {
+            queries.add(new double[]{-90 + random.nextDouble() * 180, -180 + random.nextDouble() * 360});
+        }
+        return queries;
+    }
+
+    private void assertSameAsBruteForce(KdTree tree, double[] query, KdTree.Filter filter) {
+        double[] expected = IntStream.range(0, POINTS)
+                .filter(i -> filter == null || filter.accept(i))
+                .mapToObj(i -> GeoDistance.haversine(query[0], query[1], latitudes[i], longitudes[i]))
+                .sorted(Comparator.naturalOrder())
+                .limit(K).mapToDouble(Double::doubleValue).toArray();
+
+        KdTree.Result result = tree.nearest(query[0], query[1], K, filter);
+
+        Assertions.assertEquals(expected.length, result.size());
+        for (int i = 0; i < result.size(); i++) {
+            int index = result.index(i);
+            Assertions.assertTrue(filter == null || filter.accept(index));
+            Assertions.assertEquals(expected[i], result.distance(i), TOLERANCE_METERS,
+                    "query " + query[0] + "," + query[1] + " rank " + i);
+            Assertions.assertEquals(GeoDistance.haversine(query[0], query[1], latitudes[index], longitudes[index]),
+                    result.distance(i), TOLERANCE_METERS);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.chaeshin.boo.service.restaurant.geo;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * radiusPixels = 256 이면 줌 레벨 z 의 칸 크기는 360 / 2^z 도이다. (z = 2 : 90도, z = 3 : 45도)
+ */
+public class MarkerClusterIndexTest {
+
+    private static final int MAX_ZOOM = 12;
+
+    @Test
+    void 줌_경계에서_나뉘거나_합쳐지는_클러스터() {
+        // given
+        MarkerClusterIndex index = new MarkerClusterIndex(MAX_ZOOM, 256);
+        index.put(1L, 10.0, 44.9, 4.0);
+        index.put(2L, 10.0, 45.0, null); // 칸 경계 위의 점은 오른쪽(큰 쪽) 칸에 속한다
+        index.put(3L, 10.0, 45.1, 2.0);
+
+        // when
+        List<MarkerClusterIndex.Cluster> zoom2 = world(index, 2);
+        List<MarkerClusterIndex.Cluster> zoom3 = world(index, 3);
+
+        // then
+        Assertions.assertEquals(1, zoom2.size());
+        Assertions.assertEquals(3, zoom2.get(0).getCount());
+        Assertions.assertEquals(3.0, zoom2.get(0).getScoreAvg());
+        Assertions.assertNull(zoom2.get(0).getSingleId());
+
+        Assertions.assertEquals(List.of(1, 2), zoom3.stream().map(MarkerClusterIndex.Cluster::getCount).toList());
+        Assertions.assertEquals(1L, zoom3.get(0).getSingleId());
+        Assertions.assertEquals(45.05, zoom3.get(1).getLongitude(), 1e-9);
+        Assertions.assertEquals(2.0, zoom3.get(1).getScoreAvg());
+    }
+
+    @Test
+    void 원점을_사이에_둔_점은_모든_줌에서_다른_칸() {
+        MarkerClusterIndex index = new MarkerClusterIndex(MAX_ZOOM, 256);
+        index.put(1L, 0.1, -0.1, null);
+        index.put(2L, 0.1, 0.1, null);
+
+        for (int z = 0; z <= MAX_ZOOM; z++) {
+            Assertions.assertEquals(2, world(index, z).size(), "zoom " + z);
+        }
+    }
+
+    @Test
+    void 최대_줌보다_크거나_음수인_줌은_경계로_맞춤() {
+        MarkerClusterIndex index = new MarkerClusterIndex(3, 256);
+        index.put(1L, 10.0, 44.9, null);
+        index.put(2L, 10.0, 45.1, null);
+
+        Assertions.assertEquals(2, world(index, 20).size());
+        Assertions.assertEquals(1, world(index, -1).size());
+    }
+
+    @Test
+    void 이동과_삭제는_이전_칸에서_빠짐() {
+        // given
+        MarkerClusterIndex index = new MarkerClusterIndex(MAX_ZOOM, 256);
+        index.put(1L, 10.0, 10.0, 5.0);
+        index.put(2L, 10.0, 10.0, 1.0);
+
+        // when
+        index.put(2L, 10.0, 100.0, 1.0);
+
+        // then
+        List<MarkerClusterIndex.Cluster> clusters = world(index, 3);
+        Assertions.assertEquals(2, clusters.size());
+        Assertions.assertEquals(1L, clusters.get(0).getSingleId());
+        Assertions.assertEquals(5.0, clusters.get(0).getScoreAvg());
+        Assertions.assertEquals(2L, clusters.get(1).getSingleId());
+
+        index.remove(1L);
+        Assertions.assertEquals(List.of(2L), world(index, 3).stream().map(MarkerClusterIndex.Cluster::getSingleId).toList());
+    }
+
+    @Test
+    void 임의의_점과_영역에서_칸별_개수가_전수_조사와_같음() {
+        // given
+        Random random = new Random(11);
+        MarkerClusterIndex index = new MarkerClusterIndex(MAX_ZOOM, 256);
+        int n = 2_000;
+        double[] latitudes = new double[n];
+        double[] longitudes = new double[n];
+        for (int i = 0; i < n; i++) {
+            latitudes[i] = 37 + random.nextDouble() * 2; // 한 지역에 몰린 점들
+            longitudes[i] = 126 + random.nextDouble() * 2;
+            index.put(i, latitudes[i], longitudes[i], null);
+        }
+
+        for (int z = 0; z <= MAX_ZOOM; z++) {
+            double cellSize = 360.0 / Math.pow(2, z);
+            for (int q = 0; q < 20; q++) {
+                double minLatitude = 36.5 + random.nextDouble() * 3;
+                double minLongitude = 125.5 + random.nextDouble() * 3;
+                double maxLatitude = minLatitude + random.nextDouble() * 0.5;
+                double maxLongitude = minLongitude + random.nextDouble() * 0.5;
+
+                // 기대값 : 영역과 겹치는 칸에 속한 점의 칸별 개수
+                long minRow = (long) Math.floor(minLatitude / cellSize);
+                long maxRow = (long) Math.floor(maxLatitude / cellSize);
+                long minCol = (long) Math.floor(minLongitude / cellSize);
+                long maxCol = (long) Math.floor(maxLongitude / cellSize);
+                Map<String, Integer> expected = new HashMap<>();
+                for (int i = 0; i < n; i++) {
+                    long row = (long) Math.floor(latitudes[i] / cellSize);
+                    long col = (long) Math.floor(longitudes[i] / cellSize);
+                    if (row >= minRow && row <= maxRow && col >= minCol && col <= maxCol) {
+                        expected.merge(row + ":" + col, 1, Integer::sum);
+                    }
+                }
+
+                Map<String, Integer> actual = new HashMap<>();
+                for (MarkerClusterIndex.Cluster cluster : index.findWithin(z, minLatitude, minLongitude, maxLatitude, maxLongitude)) {
+                    // 중심은 구성 점들의 평균이므로 항상 그 칸 안에 있다
+                    long row = (long) Math.floor(cluster.getLatitude() / cellSize);
+                    long col = (long) Math.floor(cluster.getLongitude() / cellSize);
+                    actual.put(row + ":" + col, cluster.getCount());
+                }
+                Assertions.assertEquals(expected, actual, "zoom " + z);
+            }
+        }
+    }
+
+    /*전 세계 영역의 클러스터를 경도 순으로*/
+    private static List<MarkerClusterIndex.Cluster> world(MarkerClusterIndex index, int zoom) {
+        return index.findWithin(zoom, -90, -180, 90, 180).stream()
+                .sorted(Comparator.comparingDouble(MarkerClusterIndex.Cluster::getLongitude))
+                .toList();
+    }
+}
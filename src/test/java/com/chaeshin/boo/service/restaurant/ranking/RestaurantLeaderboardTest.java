@@ -0,0 +1,126 @@
+package com.chaeshin.boo.service.restaurant.ranking;
+
+import com.chaeshin.boo.domain.restaurant.Category;
+import com.chaeshin.boo.domain.restaurant.Restaurant;
+import com.chaeshin.boo.domain.restaurant.RestaurantChangedEvent;
+import com.chaeshin.boo.service.restaurant.catalog.RestaurantChangeLog;
+import com.chaeshin.boo.service.restaurant.dto.RankedRestaurantDto;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 베이지안 평균(사전 평균 3.0, 가중치 5) 순위. 예) 평균 4.5 리뷰 20개 -> (15 + 90) / 25 = 4.2
+ */
+public class RestaurantLeaderboardTest {
+
+    private RestaurantLeaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        leaderboard = new RestaurantLeaderboard(null, new RestaurantChangeLog(100));
+        ReflectionTestUtils.setField(leaderboard, "ranking", LeaderboardRanking.BAYESIAN);
+        ReflectionTestUtils.setField(leaderboard, "priorMean", 3.0);
+        ReflectionTestUtils.setField(leaderboard, "priorWeight", 5.0);
+    }
+
+    @Test
+    void 리뷰가_적은_만점_식당보다_리뷰가_많은_식당이_상위() {
+        // given
+        save(1L, Category.KOREAN, "5.0", 1);   // 3.33
+        save(2L, Category.KOREAN, "4.5", 20);  // 4.2
+        save(3L, Category.CAFE, "4.0", 10);    // 3.67
+
+        // when
+        List<RankedRestaurantDto> ranking = leaderboard.getRanking(null, 0, 10);
+
+        // then
+        Assertions.assertEquals(List.of(2L, 3L, 1L), ids(ranking));
+        Assertions.assertEquals(List.of(1, 2, 3), ranking.stream().map(RankedRestaurantDto::getRank).toList());
+        Assertions.assertEquals(4.2, ranking.get(0).getRating(), 1e-9);
+        Assertions.assertEquals(List.of(2L, 1L), ids(leaderboard.getRanking(Category.KOREAN, 0, 10)));
+    }
+
+    @Test
+    void 점수가_같으면_리뷰_수_다음_식당_ID_순() {
+        // given : 평균 3.0 은 리뷰 수와 무관하게 3.0
+        save(10L, Category.KOREAN, "3.0", 2);
+        save(11L, Category.KOREAN, "3.0", 8);
+        save(13L, Category.KOREAN, "4.0", 10);
+        save(12L, Category.KOREAN, "4.0", 10);
+
+        // then
+        Assertions.assertEquals(List.of(12L, 13L, 11L, 10L), ids(leaderboard.getRanking(null, 0, 10)));
+    }
+
+    @Test
+    void 평점이_바뀌면_한번만_새_순위로_이동() {
+        // given
+        save(1L, Category.KOREAN, "4.0", 10);
+        save(2L, Category.KOREAN, "3.5", 10);
+        save(3L, Category.CAFE, "3.0", 10);
+
+        // when : 3번 식당에 좋은 리뷰가 달려 평점이 오르고 카테고리도 바뀜
+        save(3L, Category.KOREAN, "4.8", 12);
+
+        // then
+        Assertions.assertEquals(List.of(3L, 1L, 2L), ids(leaderboard.getRanking(null, 0, 10)));
+        Assertions.assertEquals(List.of(3L, 1L, 2L), ids(leaderboard.getRanking(Category.KOREAN, 0, 10)));
+        Assertions.assertEquals(List.of(), ids(leaderboard.getRanking(Category.CAFE, 0, 10)));
+    }
+
+    @Test
+    void 평점이_같아지면_기존_순위와_동점_규칙으로_정렬() {
+        // given
+        save(5L, Category.KOREAN, "4.0", 10);
+        save(4L, Category.KOREAN, "3.0", 10);
+
+        // when : 4번 식당의 평점이 5번과 같아짐
+        save(4L, Category.KOREAN, "4.0", 10);
+
+        // then
+        Assertions.assertEquals(List.of(4L, 5L), ids(leaderboard.getRanking(null, 0, 10)));
+    }
+
+    @Test
+    void 리뷰가_모두_지워지거나_삭제된_식당은_제외() {
+        // given
+        save(1L, Category.KOREAN, "4.0", 10);
+        save(2L, Category.KOREAN, "3.5", 10);
+        save(3L, Category.KOREAN, "3.0", 10);
+
+        // when
+        save(1L, Category.KOREAN, "0.0", 0);
+        leaderboard.onRestaurantChanged(RestaurantChangedEvent.removed(2L));
+
+        // then
+        Assertions.assertEquals(List.of(3L), ids(leaderboard.getRanking(null, 0, 10)));
+    }
+
+    @Test
+    void 순위_구간_조회() {
+        for (long id = 1; id <= 5; id++) {
+            save(id, Category.KOREAN, "4.0", (int) (10 * id));
+        }
+
+        List<RankedRestaurantDto> page = leaderboard.getRanking(null, 1, 2);
+
+        Assertions.assertEquals(List.of(4L, 3L), ids(page));
+        Assertions.assertEquals(List.of(2, 3), page.stream().map(RankedRestaurantDto::getRank).toList());
+        Assertions.assertEquals(List.of(), leaderboard.getRanking(null, 5, 2));
+    }
+
+    private void save(Long id, Category category, String scoreAvg, int reviewCnt) {
+        Restaurant restaurant = Restaurant.builder().name("restaurant" + id).category(category)
+                .scoreAvg(new BigDecimal(scoreAvg)).reviewCnt(reviewCnt).build();
+        ReflectionTestUtils.setField(restaurant, "id", id);
+        leaderboard.onRestaurantChanged(RestaurantChangedEvent.saved(restaurant));
+    }
+
+    private static List<Long> ids(List<RankedRestaurantDto> ranking) {
+        return ranking.stream().map(o -> o.getRestaurant().getId()).toList();
+    }
+}
@@ -0,0 +1,80 @@
+package com.chaeshin.boo.service.restaurant.search;
+
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class NGramIndexTest {
+
+    private NGramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NGramIndex();
+        index.put(1L, "김밥천국", 10, 4.0);
+        index.put(2L, "고봉민김밥", 30, 3.5);
+        index.put(3L, "교촌치킨", 20, 4.5);
+        index.put(4L, "BHC 치킨", 20, 4.8);
+        index.put(5L, "피자헛", 5, 3.0);
+    }
+
+    @Test
+    void 초성_질의는_초성_색인에서_찾음() {
+        // 김밥천국(ㄱㅂㅊㄱ), 고봉민김밥(ㄱㅂㅁㄱㅂ)
+        Assertions.assertEquals(List.of(2L, 1L), index.search("ㄱㅂ", 10));
+        Assertions.assertEquals(List.of(4L, 3L), index.search("ㅊㅋ", 10));
+        Assertions.assertEquals(List.of(), index.search("ㅍㅋ", 10));
+    }
+
+    @Test
+    void 한_글자_질의는_1gram_으로_찾음() {
+        Assertions.assertEquals(List.of(2L, 1L), index.search("밥", 10));
+        Assertions.assertEquals(List.of(5L), index.search("헛", 10));
+        Assertions.assertEquals(List.of(2L, 3L, 1L), index.search("ㄱ", 10));
+    }
+
+    @Test
+    void 한글_영문이_섞인_이름은_대소문자와_공백을_무시() {
+        Assertions.assertEquals(List.of(4L), index.search("bhc", 10));
+        Assertions.assertEquals(List.of(4L), index.search("HC치", 10));
+        Assertions.assertEquals(List.of(4L), index.search("c 치킨", 10));
+        // 리뷰 수가 같으면 평균 평점 순
+        Assertions.assertEquals(List.of(4L, 3L), index.search("치킨", 10));
+    }
+
+    @Test
+    void 모든_2gram_을_포함해도_연속하지_않으면_제외() {
+        // "천김밥천" 은 "밥천", "천김" 을 모두 포함하지만 "밥천김" 은 포함하지 않는다
+        index.put(6L, "천김밥천", 1, 1.0);
+        Assertions.assertEquals(List.of(), index.search("밥천김", 10));
+        Assertions.assertEquals(List.of(1L, 6L), index.search("김밥천", 10));
+    }
+
+    @Test
+    void 삭제한_식당은_검색되지_않음() {
+        index.remove(2L);
+
+        Assertions.assertEquals(List.of(1L), index.search("김밥", 10));
+        Assertions.assertEquals(List.of(1L), index.search("ㄱㅂ", 10));
+        Assertions.assertEquals(4, index.size());
+    }
+
+    @Test
+    void 이름이_바뀌면_새_이름으로만_한번_검색됨() {
+        index.put(1L, "김밥나라", 10, 4.0);
+
+        Assertions.assertEquals(List.of(), index.search("천국", 10));
+        Assertions.assertEquals(List.of(1L), index.search("나라", 10));
+        Assertions.assertEquals(List.of(2L, 1L), index.search("김밥", 10));
+        Assertions.assertEquals(5, index.size());
+    }
+
+    @Test
+    void 이름이_같으면_순위_정보만_갱신() {
+        index.put(1L, "김밥천국", 50, 4.0);
+
+        Assertions.assertEquals(List.of(1L, 2L), index.search("김밥", 10));
+        Assertions.assertEquals(List.of(1L), index.search("김밥", 1));
+    }
+}
@@ -0,0 +1,104 @@
+package com.chaeshin.boo.service.restaurant.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+
+    private static final Comparator<Place> POPULARITY = Comparator.comparingInt(Place::reviewCnt).reversed()
+            .thenComparing(Place::name);
+
+    @Test
+    void 초성_변환() {
+        Assertions.assertEquals("ㄱㅂㅊㄱ", Hangul.toChosung("김밥천국"));
+        Assertions.assertEquals("bhcㅊㅋ", Hangul.toChosung("bhc치킨"));
+        Assertions.assertTrue(Hangul.isChosungOnly("ㄱㅂ"));
+        Assertions.assertFalse(Hangul.isChosungOnly("ㄱ밥"));
+        Assertions.assertFalse(Hangul.isChosungOnly(""));
+    }
+
+    @Test
+    void 접두사_추천은_인기순이고_limit_와_k_를_넘지_않음() {
+        // given
+        PrefixTrie<Place> trie = new PrefixTrie.Builder<>(3, POPULARITY)
+                .add(new Place("김밥천국", 10), "김밥천국", "ㄱㅂㅊㄱ")
+                .add(new Place("김밥나라", 40), "김밥나라", "ㄱㅂㄴㄹ")
+                .add(new Place("김가네", 25), "김가네", "ㄱㄱㄴ")
+                .add(new Place("고봉민김밥", 30), "고봉민김밥", "ㄱㅂㅁㄱㅂ", "김밥")
+                .add(new Place("피자헛", 50), "피자헛", "ㅍㅈㅎ")
+                .build();
+
+        // then
+        Assertions.assertEquals(List.of("김밥나라", "고봉민김밥", "김가네"), names(trie.suggest("김", 10)));
+        Assertions.assertEquals(List.of("김밥나라", "고봉민김밥"), names(trie.suggest("김밥", 2)));
+        Assertions.assertEquals(List.of("김밥나라", "고봉민김밥", "김밥천국"), names(trie.suggest("ㄱㅂ", 10)));
+        Assertions.assertEquals(List.of("피자헛", "김밥나라", "고봉민김밥"), names(trie.suggest("", 10)));
+        Assertions.assertEquals(List.of(), trie.suggest("김치", 10));
+    }
+
+    @Test
+    void 여러_단어가_같은_접두사로_시작해도_한번만_추천() {
+        PrefixTrie<Place> trie = new PrefixTrie.Builder<>(5, POPULARITY)
+                .add(new Place("서울식당", 10), "서울식당", "서울", "식당", "서울시")
+                .add(new Place("서산집", 5), "서산집")
+                .build();
+
+        Assertions.assertEquals(List.of("서울식당", "서산집"), names(trie.suggest("서", 10)));
+        Assertions.assertEquals(List.of("서울식당"), names(trie.suggest("서울", 10)));
+    }
+
+    @Test
+    void 임의의_단어에_대한_추천이_전수_조사와_같음() {
+        // given : 짧은 알파벳으로 접두사를 공유하는 단어를 많이 만든다
+        Random random = new Random(7);
+        int k = 4;
+        List<Place> places = new ArrayList<>();
+        List<String[]> terms = new ArrayList<>();
+        PrefixTrie.Builder<Place> builder = new PrefixTrie.Builder<>(k, POPULARITY);
+        for (int i = 0; i < 300; i++) {
+            Place place = new Place("p" + i, random.nextInt(50));
+            String[] placeTerms = {randomWord(random), randomWord(random)};
+            places.add(place);
+            terms.add(placeTerms);
+            builder.add(place, placeTerms);
+        }
+        PrefixTrie<Place> trie = builder.build();
+
+        // then
+        for (int i = 0; i < 500; i++) {
+            String prefix = randomWord(random).substring(0, random.nextInt(4));
+            int limit = 1 + random.nextInt(k + 2);
+            List<String> expected = new ArrayList<>();
+            for (int j = 0; j < places.size(); j++) {
+                for (String term : terms.get(j)) {
+                    if (term.startsWith(prefix)) {
+                        expected.add(places.get(j).name());
+                        break;
+                    }
+                }
+            }
+            List<String> top = places.stream().filter(o -> expected.contains(o.name())).sorted(POPULARITY)
+                    .limit(Math.min(limit, k)).map(Place::name).toList();
+            Assertions.assertEquals(top, names(trie.suggest(prefix, limit)), "prefix " + prefix);
+        }
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder sb = new StringBuilder();
+        int length = 3 + random.nextInt(4);
+        for (int i = 0; i < length; i++) {
+            sb.append("가나다a".charAt(random.nextInt(4)));
+        }
+        return sb.toString();
+    }
+
+    private static List<String> names(List<Place> places) {
+        return places.stream().map(Place::name).toList();
+    }
+
+    private record Place(String name, int reviewCnt) {}
+}
@@ -0,0 +1,188 @@
+package com.chaeshin.boo.service.review;
+
+import com.chaeshin.boo.domain.LangCode;
+import com.chaeshin.boo.domain.Member;
+import com.chaeshin.boo.domain.restaurant.Restaurant;
+import com.chaeshin.boo.domain.review.Review;
+import com.chaeshin.boo.domain.review.TranslatedReview;
+import com.chaeshin.boo.domain.review.TranslationStatus;
+import com.chaeshin.boo.repository.member.MemberRepository;
+import com.chaeshin.boo.repository.restaurant.RestaurantRepository;
+import com.chaeshin.boo.repository.review.ReviewRepository;
+import com.chaeshin.boo.repository.review.translatedReview.TranslatedReviewRepository;
+import com.chaeshin.boo.repository.review.translationTask.TranslationTaskRepository;
+import com.chaeshin.boo.service.restaurant.rating.RatingAccumulator;
+import com.chaeshin.boo.service.review.dto.ReviewDto;
+import com.chaeshin.boo.service.review.dto.ReviewRequestDto;
+import com.chaeshin.boo.utils.translator.DeeplResponseDto;
+import com.chaeshin.boo.utils.translator.Translator;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.List;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 리뷰 작성/삭제 시 실행되는 SQL 과 영속성 컨텍스트에 적재되는 엔티티 수가 기존 리뷰 수와 무관한지 검증.
+ * <br></br>
+ * 식당 집계는 커밋 후 RatingAccumulator 가 반영하므로(테스트 트랜잭션은 롤백), 여기서는 기록된 변화량만 확인한다.
+ */
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = SqlStatementCounter.PROPERTY)
+public class ReviewWritePathTest {
+
+    @Autowired ReviewService reviewService;
+    @Autowired ReviewRepository reviewRepository;
+    @Autowired MemberRepository memberRepository;
+    @Autowired RestaurantRepository restaurantRepository;
+    @Autowired TranslationTaskRepository translationTaskRepository;
+    @Autowired TranslatedReviewRepository translatedReviewRepository;
+    @Autowired EntityManager em;
+
+    @MockBean Translator translator;
+    @SpyBean RatingAccumulator ratingAccumulator;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(translator.requestTranslate(ArgumentMatchers.<List<String>>any(), ArgumentMatchers.any()))
+                .thenAnswer(o -> o.<List<String>>getArgument(0).stream()
+                        .map(text -> new DeeplResponseDto(LangCode.EN, "translated")).toList());
+    }
+
+    @Test
+    void 리뷰_작성_비용은_기존_리뷰_수와_무관(){
+        // given
+        Fixture small = fixture(1);
+        Fixture large = fixture(50);
+
+        // when
+        Cost smallCost = measure(small, () -> reviewService.createReview(small.memberId, small.restaurantId,
+                new ReviewRequestDto("title", "body", 4)));
+        Cost largeCost = measure(large, () -> reviewService.createReview(large.memberId, large.restaurantId,
+                new ReviewRequestDto("title", "body", 4)));
+
+        // then
+        Assertions.assertEquals(smallCost.statements, largeCost.statements);
+        Assertions.assertEquals(smallCost.entities, largeCost.entities);
+        Assertions.assertFalse(largeCost.reviewCollectionsLoaded);
+        Mockito.verify(ratingAccumulator).recordCreated(large.restaurantId, 4);
+    }
+
+    @Test
+    void 리뷰_작성은_번역을_기다리지_않음(){
+        // given
+        Fixture fixture = fixture(1);
+
+        // when
+        ReviewDto created = reviewService.createReview(fixture.memberId, fixture.restaurantId,
+                new ReviewRequestDto("title", "body", 4)).getData();
+
+        // then : 번역 작업만 등록되고 DeepL 은 호출하지 않음
+        Mockito.verifyNoInteractions(translator);
+        Assertions.assertEquals(TranslationStatus.PENDING, created.getTranslationStatus());
+        Assertions.assertTrue(translationTaskRepository.findAll().stream()
+                .anyMatch(o -> o.getReviewId().equals(created.getId()) && o.getTargetLangCode() == LangCode.EN));
+    }
+
+    @Test
+    void 리뷰_삭제_비용은_기존_리뷰_수와_무관(){
+        // given
+        Fixture small = fixture(1);
+        Fixture large = fixture(50);
+
+        // when
+        Cost smallCost = measure(small, () -> reviewService.deleteReview(small.memberId, small.lastReviewId));
+        Cost largeCost = measure(large, () -> reviewService.deleteReview(large.memberId, large.lastReviewId));
+
+        // then
+        Assertions.assertEquals(smallCost.statements, largeCost.statements);
+        Assertions.assertEquals(smallCost.entities, largeCost.entities);
+        Assertions.assertFalse(largeCost.reviewCollectionsLoaded);
+        Mockito.verify(ratingAccumulator).recordDeleted(large.restaurantId, 3);
+    }
+
+    @Test
+    void 리뷰_수정_점수_변화량_반영(){
+        // given
+        Fixture fixture = fixture(2);
+        ReviewDto created = reviewService.createReview(fixture.memberId, fixture.restaurantId,
+                new ReviewRequestDto("title", "body", 5)).getData();
+
+        // when
+        reviewService.updateReview(fixture.memberId, created.getId(), new ReviewRequestDto("title", "body", 2));
+
+        // then
+        Mockito.verify(ratingAccumulator).recordUpdated(fixture.restaurantId, 5, 2);
+    }
+
+    @Test
+    void 리뷰_본문_수정은_번역본을_stale_로만_표시(){
+        // given
+        Fixture fixture = fixture(1);
+        Review review = reviewRepository.findById(fixture.lastReviewId).get();
+        translatedReviewRepository.save(TranslatedReview.builder()
+                .review(review).body("translated").langCode(LangCode.EN).build());
+        em.flush();
+        em.clear();
+
+        // when
+        reviewService.updateReview(fixture.memberId, fixture.lastReviewId, new ReviewRequestDto("title", "new body", 3));
+        em.flush();
+        em.clear();
+
+        // then : DeepL 호출 없이 원문 버전만 올라감
+        Mockito.verifyNoInteractions(translator);
+        TranslatedReview translated = translatedReviewRepository.findAllByReviewId(fixture.lastReviewId).get(0);
+        Assertions.assertTrue(translated.isStale());
+        Assertions.assertEquals("translated", translated.getBody());
+    }
+
+    /*리뷰 집계값이 일치하는 상태로 식당/회원/리뷰 생성*/
+    private Fixture fixture(int reviewCnt) {
+        Member member = memberRepository.save(new Member());
+        Restaurant restaurant = restaurantRepository.save(Restaurant.builder()
+                .name("restaurant").reviewCnt(reviewCnt).scoreAccum(reviewCnt * 3)
+                .scoreAvg(new BigDecimal("3.0")).build());
+        Review last = null;
+        for (int i = 0; i < reviewCnt; i++) {
+            last = reviewRepository.save(Review.builder().member(member).restaurant(restaurant).score(3).build());
+        }
+        em.flush();
+        em.clear();
+        return new Fixture(member.getId(), restaurant.getId(), last.getId());
+    }
+
+    private Cost measure(Fixture fixture, Runnable action) {
+        int statements;
+        SqlStatementCounter.start();
+        try {
+            action.run();
+            em.flush();
+            statements = SqlStatementCounter.statements().size();
+        } finally {
+            SqlStatementCounter.stop();
+        }
+        int entities = em.unwrap(Session.class).getStatistics().getEntityCount();
+        boolean reviewCollectionsLoaded =
+                Hibernate.isInitialized(em.find(Restaurant.class, fixture.restaurantId).getReviews())
+                || Hibernate.isInitialized(em.find(Member.class, fixture.memberId).getReviews());
+        em.clear();
+        return new Cost(statements, entities, reviewCollectionsLoaded);
+    }
+
+    private record Fixture(Long memberId, Long restaurantId, Long lastReviewId) {}
+
+    private record Cost(int statements, int entities, boolean reviewCollectionsLoaded) {}
+}
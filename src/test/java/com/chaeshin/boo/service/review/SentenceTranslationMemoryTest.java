@@ -0,0 +1,48 @@
+package com.chaeshin.boo.service.review;
+
+import com.chaeshin.boo.domain.LangCode;
+import com.chaeshin.boo.service.review.translation.SentenceTranslationMemory;
+import com.chaeshin.boo.utils.translator.BatchingTranslator;
+import com.chaeshin.boo.utils.translator.DeeplResponseDto;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+public class SentenceTranslationMemoryTest {
+
+    @Autowired SentenceTranslationMemory sentenceTranslationMemory;
+
+    @MockBean BatchingTranslator batchingTranslator;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(batchingTranslator.translate(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenAnswer(o -> CompletableFuture.completedFuture(
+                        new DeeplResponseDto(LangCode.KO, "<" + o.getArgument(0) + ">")));
+    }
+
+    @Test
+    void 수정된_문장만_번역(){
+        // given
+        sentenceTranslationMemory.translate("국물이 진해요. 또 올게요!", LangCode.EN).join();
+
+        // when
+        DeeplResponseDto edited = sentenceTranslationMemory
+                .translate("국물이 진해요.\n다음엔 만두도 먹을게요!", LangCode.EN).join();
+
+        // then : 줄바꿈 등 문장 사이 공백은 원문 그대로 유지
+        Assertions.assertEquals("<국물이 진해요.>\n<다음엔 만두도 먹을게요!>", edited.getTranslatedText());
+        Assertions.assertEquals(LangCode.KO, edited.getSourceLangCode());
+        Mockito.verify(batchingTranslator, Mockito.times(1)).translate("국물이 진해요.", LangCode.EN);
+        Mockito.verify(batchingTranslator, Mockito.times(1)).translate("다음엔 만두도 먹을게요!", LangCode.EN);
+    }
+}
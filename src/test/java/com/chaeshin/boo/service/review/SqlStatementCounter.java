@@ -0,0 +1,41 @@
+package com.chaeshin.boo.service.review;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * start() 와 stop() 사이에 현재 스레드에서 실행된 SQL 을 기록하는 StatementInspector.
+ * <br></br>
+ * SQL 수를 검증하는 테스트만 @TestPropertySource 로 hibernate.session_factory.statement_inspector 에 등록한다.
+ * 백그라운드 인덱스 재구성이나 번역 워커처럼 측정하지 않는 스레드의 쿼리는 기록하지 않는다.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    public static final String PROPERTY =
+            "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.chaeshin.boo.service.review.SqlStatementCounter";
+
+    private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = STATEMENTS.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    public static void start() {
+        STATEMENTS.set(new ArrayList<>());
+    }
+
+    public static void stop() {
+        STATEMENTS.remove();
+    }
+
+    public static List<String> statements() {
+        List<String> statements = STATEMENTS.get();
+        return statements == null ? List.of() : List.copyOf(statements);
+    }
+}
@@ -0,0 +1,170 @@
+package com.chaeshin.boo.service.review;
+
+import com.chaeshin.boo.domain.LangCode;
+import com.chaeshin.boo.domain.Member;
+import com.chaeshin.boo.domain.restaurant.Restaurant;
+import com.chaeshin.boo.domain.review.Review;
+import com.chaeshin.boo.domain.review.TranslatedReview;
+import com.chaeshin.boo.repository.member.MemberRepository;
+import com.chaeshin.boo.repository.restaurant.RestaurantRepository;
+import com.chaeshin.boo.repository.review.ReviewRepository;
+import com.chaeshin.boo.repository.review.translatedReview.TranslatedReviewRepository;
+import com.chaeshin.boo.service.review.dto.TranslatedBodyDto;
+import com.chaeshin.boo.service.review.dto.TranslatedReviewDto;
+import com.chaeshin.boo.utils.translator.DeeplResponseDto;
+import com.chaeshin.boo.utils.translator.Translator;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+@SpringBootTest
+@Transactional
+public class TranslatedReviewFeedTest {
+
+    @Autowired ReviewService reviewService;
+    @Autowired ReviewRepository reviewRepository;
+    @Autowired MemberRepository memberRepository;
+    @Autowired RestaurantRepository restaurantRepository;
+    @Autowired TranslatedReviewRepository translatedReviewRepository;
+    @Autowired EntityManager em;
+
+    @MockBean Translator translator;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(translator.requestTranslate(ArgumentMatchers.<List<String>>any(), ArgumentMatchers.any()))
+                .thenAnswer(o -> o.<List<String>>getArgument(0).stream()
+                        .map(text -> new DeeplResponseDto(LangCode.KO, "[EN] " + text)).toList());
+    }
+
+    @Test
+    void 번역_피드는_없는_번역본만_한_번에_번역(){
+        // given : 번역본 있음 / 번역본 없음 2개 / 원문이 회원 언어
+        Member member = memberRepository.save(Member.builder()
+                .googleId("feed@gmail.com").nickname("nickname").langCode(LangCode.EN).build());
+        Restaurant restaurant = restaurantRepository.save(Restaurant.builder()
+                .name("restaurant").scoreAvg(new BigDecimal("0.0")).build());
+        Review translated = review(member, restaurant, "이미 번역된 리뷰입니다", LangCode.KO);
+        translatedReviewRepository.save(TranslatedReview.builder()
+                .review(translated).body("already translated").langCode(LangCode.EN).build());
+        Review first = review(member, restaurant, "아직 번역되지 않은 첫 리뷰입니다", LangCode.KO);
+        Review second = review(member, restaurant, "아직 번역되지 않은 두 번째 리뷰입니다", null);
+        Review english = review(member, restaurant, "This review is already in English", LangCode.EN);
+        em.flush();
+        em.clear();
+
+        // when
+        Map<Long, String> bodies = reviewService
+                .getTranslatedReviewPageByRestaurantId(member.getId(), restaurant.getId(), null, 20)
+                .getData().getReviews().stream()
+                .collect(Collectors.toMap(TranslatedReviewDto::getId, TranslatedReviewDto::getTranslatedBody));
+        em.flush();
+        em.clear();
+
+        // then : 없는 번역본 2개만 DeepL 요청 하나로 번역하고 저장
+        Assertions.assertEquals("already translated", bodies.get(translated.getId()));
+        Assertions.assertEquals("[EN] 아직 번역되지 않은 첫 리뷰입니다", bodies.get(first.getId()));
+        Assertions.assertEquals("[EN] 아직 번역되지 않은 두 번째 리뷰입니다", bodies.get(second.getId()));
+        Assertions.assertEquals("This review is already in English", bodies.get(english.getId()));
+        Mockito.verify(translator, Mockito.times(1))
+                .requestTranslate(ArgumentMatchers.<List<String>>any(), ArgumentMatchers.eq(LangCode.EN));
+        Assertions.assertEquals(1, translatedReviewRepository.findAllByReviewId(first.getId()).size());
+        Assertions.assertEquals(1, translatedReviewRepository.findAllByReviewId(second.getId()).size());
+    }
+
+    @Test
+    void 일괄_번역은_없는_번역본만_한_번에_번역해_저장(){
+        // given
+        Member member = memberRepository.save(Member.builder()
+                .googleId("batch@gmail.com").nickname("nickname").langCode(LangCode.EN).build());
+        Restaurant restaurant = restaurantRepository.save(Restaurant.builder()
+                .name("restaurant").scoreAvg(new BigDecimal("0.0")).build());
+        Review translated = review(member, restaurant, "일괄 번역 전에 번역된 리뷰입니다", LangCode.KO);
+        translatedReviewRepository.save(TranslatedReview.builder()
+                .review(translated).body("already translated").langCode(LangCode.EN).build());
+        Review first = review(member, restaurant, "일괄 번역할 첫 리뷰입니다", LangCode.KO);
+        Review second = review(member, restaurant, "일괄 번역할 두 번째 리뷰입니다", LangCode.KO);
+        em.flush();
+        em.clear();
+
+        // when : 없는 리뷰 ID 는 무시
+        List<TranslatedBodyDto> result = reviewService.translateReviews(member.getId(),
+                List.of(second.getId(), translated.getId(), -1L, first.getId())).getData();
+        em.flush();
+        em.clear();
+
+        // then : 요청 순서대로 반환, 없는 번역본 2개만 DeepL 요청 하나로 번역
+        Assertions.assertEquals(List.of(second.getId(), translated.getId(), first.getId()),
+                result.stream().map(TranslatedBodyDto::getReviewId).toList());
+        Assertions.assertEquals(List.of("[EN] 일괄 번역할 두 번째 리뷰입니다", "already translated", "[EN] 일괄 번역할 첫 리뷰입니다"),
+                result.stream().map(TranslatedBodyDto::getText).toList());
+        Mockito.verify(translator, Mockito.times(1))
+                .requestTranslate(ArgumentMatchers.<List<String>>any(), ArgumentMatchers.eq(LangCode.EN));
+        Assertions.assertEquals("[EN] 일괄 번역할 첫 리뷰입니다",
+                translatedReviewRepository.findAllByReviewId(first.getId()).get(0).getBody());
+        Assertions.assertEquals(1, translatedReviewRepository.findAllByReviewId(second.getId()).size());
+    }
+
+    @Test
+    void 번역_결과_원문이_회원_언어면_번역본_없이_원문_언어만_확정(){
+        // given : 로컬 감지로 언어를 알 수 없는 리뷰
+        Mockito.when(translator.requestTranslate(ArgumentMatchers.<List<String>>any(), ArgumentMatchers.any()))
+                .thenAnswer(o -> o.<List<String>>getArgument(0).stream()
+                        .map(text -> new DeeplResponseDto(LangCode.EN, text)).toList());
+        Member member = memberRepository.save(Member.builder()
+                .googleId("same@gmail.com").nickname("nickname").langCode(LangCode.EN).build());
+        Restaurant restaurant = restaurantRepository.save(Restaurant.builder()
+                .name("restaurant").scoreAvg(new BigDecimal("0.0")).build());
+        Review review = review(member, restaurant, "10/10 !!!", null);
+        em.flush();
+        em.clear();
+
+        // when
+        List<TranslatedBodyDto> result = reviewService.translateReviews(member.getId(), List.of(review.getId())).getData();
+        em.flush();
+        em.clear();
+
+        // then
+        Assertions.assertEquals("10/10 !!!", result.get(0).getText());
+        Assertions.assertEquals(LangCode.EN, result.get(0).getSourceLang());
+        Assertions.assertEquals(LangCode.EN, reviewRepository.findById(review.getId()).get().getLangCode());
+        Assertions.assertTrue(translatedReviewRepository.findAllByReviewId(review.getId()).isEmpty());
+    }
+
+    @Test
+    void 일괄_번역_리뷰_ID_가_없거나_너무_많으면_400(){
+        // given
+        Member member = memberRepository.save(Member.builder()
+                .googleId("invalid@gmail.com").nickname("nickname").langCode(LangCode.EN).build());
+        List<Long> tooMany = LongStream.rangeClosed(1, 101).boxed().toList();
+
+        // when & then
+        for (List<Long> reviewIds : Arrays.asList(null, List.<Long>of(), Collections.<Long>singletonList(null), tooMany)) {
+            ResponseStatusException e = Assertions.assertThrows(ResponseStatusException.class,
+                    () -> reviewService.translateReviews(member.getId(), reviewIds));
+            Assertions.assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+        }
+        Mockito.verifyNoInteractions(translator);
+    }
+
+    private Review review(Member member, Restaurant restaurant, String body, LangCode langCode) {
+        return reviewRepository.save(Review.builder().member(member).restaurant(restaurant)
+                .title("title").body(body).langCode(langCode).score(4).build());
+    }
+}
@@ -0,0 +1,82 @@
+package com.chaeshin.boo.service.review;
+
+import com.chaeshin.boo.domain.LangCode;
+import com.chaeshin.boo.repository.review.cachedTranslation.CachedTranslationRepository;
+import com.chaeshin.boo.service.review.translation.TranslationCache;
+import com.chaeshin.boo.utils.translator.BatchingTranslator;
+import com.chaeshin.boo.utils.translator.DeeplResponseDto;
+import com.chaeshin.boo.domain.review.CachedTranslation;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+public class TranslationCacheTest {
+
+    @Autowired TranslationCache translationCache;
+    @Autowired CachedTranslationRepository cachedTranslationRepository;
+
+    @MockBean BatchingTranslator batchingTranslator;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(batchingTranslator.translate(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenAnswer(o -> CompletableFuture.completedFuture(
+                        new DeeplResponseDto(LangCode.KO, "translated " + o.getArgument(0))));
+    }
+
+    @Test
+    void 공백만_다른_원문은_한번만_번역(){
+        // when
+        DeeplResponseDto first = translationCache.translate("맛있어요!", LangCode.EN).join();
+        DeeplResponseDto second = translationCache.translate("  맛있어요!  ", LangCode.EN).join();
+
+        // then
+        Mockito.verify(batchingTranslator, Mockito.times(1))
+                .translate(ArgumentMatchers.any(), ArgumentMatchers.eq(LangCode.EN));
+        Assertions.assertEquals(first.getTranslatedText(), second.getTranslatedText());
+        Assertions.assertEquals(LangCode.KO, second.getSourceLangCode());
+        Assertions.assertEquals(1, cachedTranslationRepository.count());
+    }
+
+    @Test
+    void 표적_언어가_다르면_따로_번역(){
+        // when
+        translationCache.translate("또 올게요", LangCode.EN).join();
+        translationCache.translate("또 올게요", LangCode.JA).join();
+
+        // then
+        Mockito.verify(batchingTranslator).translate("또 올게요", LangCode.EN);
+        Mockito.verify(batchingTranslator).translate("또 올게요", LangCode.JA);
+    }
+
+    @Test
+    void 여러_원문은_캐시에_없는_원문만_한번씩_번역(){
+        // given : 테이블에 저장된 번역
+        translationCache.translate("친절해요", LangCode.EN).join();
+        Mockito.clearInvocations(batchingTranslator);
+
+        // when
+        List<DeeplResponseDto> results = translationCache
+                .translateAll(List.of("친절해요", "양이 많아요", "양이 많아요 "), LangCode.EN).stream()
+                .map(CompletableFuture::join).toList();
+
+        // then : 없는 원문만 한 번 번역하고 결과는 요청 순서대로
+        Mockito.verify(batchingTranslator, Mockito.times(1))
+                .translate(ArgumentMatchers.any(), ArgumentMatchers.eq(LangCode.EN));
+        Mockito.verify(batchingTranslator).translate("양이 많아요", LangCode.EN);
+        Assertions.assertEquals(List.of("translated 친절해요", "translated 양이 많아요", "translated 양이 많아요"),
+                results.stream().map(DeeplResponseDto::getTranslatedText).toList());
+        Assertions.assertEquals(2, cachedTranslationRepository.findAll().stream()
+                .map(CachedTranslation::getTextHash).distinct().count());
+    }
+}
@@ -0,0 +1,113 @@
+package com.chaeshin.boo.service.review;
+
+import com.chaeshin.boo.domain.LangCode;
+import com.chaeshin.boo.domain.Member;
+import com.chaeshin.boo.domain.restaurant.Restaurant;
+import com.chaeshin.boo.domain.review.Review;
+import com.chaeshin.boo.repository.member.MemberRepository;
+import com.chaeshin.boo.repository.restaurant.RestaurantRepository;
+import com.chaeshin.boo.repository.review.ReviewRepository;
+import com.chaeshin.boo.utils.ResponseDto;
+import com.chaeshin.boo.utils.translator.DeeplResponseDto;
+import com.chaeshin.boo.utils.translator.ServiceTranslatorDto;
+import com.chaeshin.boo.utils.translator.Translator;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 같은 리뷰를 같은 언어로 동시에 번역 요청할 때 DeepL 호출과 번역본 저장이 한 번만 일어나는지 검증.
+ * <br></br>
+ * 요청마다 별도 트랜잭션으로 실행되어야 하므로 테스트 트랜잭션을 쓰지 않고, 만든 데이터는 직접 지운다.
+ */
+@SpringBootTest
+public class TranslationSingleFlightTest {
+
+    private static final int REQUESTS = 100;
+
+    @Autowired ReviewService reviewService;
+    @Autowired ReviewRepository reviewRepository;
+    @Autowired MemberRepository memberRepository;
+    @Autowired RestaurantRepository restaurantRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @MockBean Translator translator;
+
+    private Long memberId;
+    private Long restaurantId;
+    private Long reviewId;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(translator.requestTranslate(ArgumentMatchers.<List<String>>any(), ArgumentMatchers.any()))
+                .thenAnswer(o -> {
+                    Thread.sleep(200); // 나머지 요청이 도착할 동안 DeepL 응답 지연
+                    List<DeeplResponseDto> results = new ArrayList<>();
+                    for (String text : o.<List<String>>getArgument(0)) {
+                        results.add(new DeeplResponseDto(LangCode.KO, "translated " + text));
+                    }
+                    return results;
+                });
+
+        Member member = memberRepository.save(Member.builder()
+                .googleId("single-flight@gmail.com").nickname("nickname").langCode(LangCode.EN).build());
+        Restaurant restaurant = restaurantRepository.save(Restaurant.builder()
+                .name("restaurant").scoreAvg(new BigDecimal("0.0")).build());
+        Review review = reviewRepository.save(Review.builder().member(member).restaurant(restaurant)
+                .title("title").body("동시에 번역 요청된 인기 리뷰입니다").langCode(LangCode.KO).score(5).build());
+        memberId = member.getId();
+        restaurantId = restaurant.getId();
+        reviewId = review.getId();
+    }
+
+    @AfterEach
+    void cleanup() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            restaurantRepository.deleteById(restaurantId);
+            memberRepository.deleteById(memberId);
+        });
+    }
+
+    @Test
+    void 동시_번역_요청은_한_번만_번역() throws Exception {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ResponseDto<ServiceTranslatorDto>>> results = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return reviewService.translateReview(memberId, reviewId);
+            }));
+        }
+
+        // when
+        start.countDown();
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+
+        // then
+        for (Future<ResponseDto<ServiceTranslatorDto>> result : results) {
+            Assertions.assertEquals("translated 동시에 번역 요청된 인기 리뷰입니다", result.get().getData().getText());
+        }
+        Mockito.verify(translator, Mockito.times(1))
+                .requestTranslate(ArgumentMatchers.<List<String>>any(), ArgumentMatchers.eq(LangCode.EN));
+        Assertions.assertEquals(1, reviewRepository.findByIdWithTranslated(reviewId).getTranslatedReviews().size());
+    }
+}
@@ -0,0 +1,106 @@
+package com.chaeshin.boo.service.review.search;
+
+import com.chaeshin.boo.domain.LangCode;
+import com.chaeshin.boo.domain.Member;
+import com.chaeshin.boo.domain.restaurant.Restaurant;
+import com.chaeshin.boo.domain.review.Review;
+import com.chaeshin.boo.domain.review.ReviewChangedEvent;
+import com.chaeshin.boo.domain.review.TranslatedReview;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 이벤트로 색인한 리뷰가 Nori/Standard 분석기로 검색되고, 수정/삭제 후에는 더 이상 검색되지 않는지 검증.
+ * 다른 테스트의 리뷰와 섞이지 않도록 테스트마다 별도의 식당 ID 로 필터링한다.
+ */
+@SpringBootTest
+public class ReviewSearchIndexTest {
+
+    @Autowired ReviewSearchIndex reviewSearchIndex;
+
+    @Test
+    void 한국어는_조사를_떼고_검색() {
+        // given
+        Long restaurantId = 910_000L;
+        index(review(910_001L, restaurantId, "매운 떡볶이가 정말 맛있었어요", LangCode.KO));
+        index(review(910_002L, restaurantId, "김밥은 평범했어요", LangCode.KO));
+
+        // when
+        List<ReviewSearchIndex.Hit> hits = reviewSearchIndex.search("떡볶이", restaurantId, null, 10);
+
+        // then
+        Assertions.assertEquals(List.of(910_001L), ids(hits));
+        Assertions.assertTrue(hits.get(0).getHighlights().get("body_ko").contains("<em>떡볶이</em>"));
+    }
+
+    @Test
+    void 번역본은_해당_언어_필드로_검색() {
+        // given
+        Long restaurantId = 920_000L;
+        Review review = review(920_001L, restaurantId, "국물이 아주 매웠어요", LangCode.KO);
+        TranslatedReview.builder().review(review).body("The soup was very spicy").langCode(LangCode.EN).build();
+        index(review);
+
+        // then
+        Assertions.assertEquals(List.of(920_001L), ids(reviewSearchIndex.search("spicy", restaurantId, LangCode.EN, 10)));
+        Assertions.assertEquals(List.of(920_001L), ids(reviewSearchIndex.search("spicy", restaurantId, null, 10)));
+        Assertions.assertEquals(List.of(), ids(reviewSearchIndex.search("spicy", restaurantId, LangCode.JA, 10)));
+        Assertions.assertEquals(List.of(920_001L), ids(reviewSearchIndex.search("국물", restaurantId, LangCode.KO, 10)));
+    }
+
+    @Test
+    void 식당_필터는_다른_식당의_리뷰를_제외() {
+        // given
+        index(review(930_001L, 930_000L, "Crispy fried chicken", LangCode.EN));
+        index(review(931_001L, 931_000L, "Soggy fried chicken", LangCode.EN));
+
+        // then
+        Assertions.assertEquals(List.of(930_001L), ids(reviewSearchIndex.search("chicken", 930_000L, null, 10)));
+        Assertions.assertEquals(List.of(931_001L), ids(reviewSearchIndex.search("chicken", 931_000L, null, 10)));
+    }
+
+    @Test
+    void 수정하거나_삭제한_리뷰는_검색되지_않음() {
+        // given
+        Long restaurantId = 940_000L;
+        index(review(940_001L, restaurantId, "Great dumplings", LangCode.EN));
+        index(review(940_002L, restaurantId, "Cold dumplings", LangCode.EN));
+
+        // when : 하나는 본문 수정, 하나는 삭제
+        index(review(940_001L, restaurantId, "Great noodles", LangCode.EN));
+        reviewSearchIndex.onReviewChanged(ReviewChangedEvent.removed(940_002L, restaurantId));
+        refresh();
+
+        // then
+        Assertions.assertEquals(List.of(), ids(reviewSearchIndex.search("dumplings", restaurantId, null, 10)));
+        Assertions.assertEquals(List.of(940_001L), ids(reviewSearchIndex.search("noodles", restaurantId, null, 10)));
+    }
+
+    private void index(Review review) {
+        reviewSearchIndex.onReviewChanged(ReviewChangedEvent.saved(review));
+        refresh();
+    }
+
+    /*주기적 NRT 갱신을 기다리지 않고 바로 검색기를 다시 연다*/
+    private void refresh() {
+        ReflectionTestUtils.invokeMethod(reviewSearchIndex, "refresh");
+    }
+
+    private static Review review(Long reviewId, Long restaurantId, String body, LangCode langCode) {
+        Member member = Member.builder().googleId("search@gmail.com").nickname("nickname").langCode(LangCode.KO).build();
+        Restaurant restaurant = Restaurant.builder().name("restaurant").build();
+        ReflectionTestUtils.setField(restaurant, "id", restaurantId);
+        Review review = Review.builder().member(member).restaurant(restaurant)
+                .title("title").body(body).langCode(langCode).score(5).build();
+        ReflectionTestUtils.setField(review, "id", reviewId);
+        return review;
+    }
+
+    private static List<Long> ids(List<ReviewSearchIndex.Hit> hits) {
+        return hits.stream().map(ReviewSearchIndex.Hit::getReviewId).toList();
+    }
+}
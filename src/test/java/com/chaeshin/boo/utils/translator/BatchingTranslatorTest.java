@@ -0,0 +1,54 @@
+package com.chaeshin.boo.utils.translator;
+
+import com.chaeshin.boo.domain.LangCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+@SpringBootTest(properties = "deepl.batch.window-ms=500") // 세 요청이 한 묶음으로 모이도록
+public class BatchingTranslatorTest {
+
+    @Autowired BatchingTranslator batchingTranslator;
+
+    @MockBean Translator translator;
+
+    @Test
+    void 지원하지_않는_원문_언어가_섞여도_묶음_전체가_성공() throws Exception {
+        // given : 묶음 중 한 문장의 원문 언어를 DeepL 이 AR(LangCode 에 없음)로 감지
+        String body = """
+                {"translations": [
+                  {"detected_source_language": "KO", "text": "Delicious"},
+                  {"detected_source_language": "AR", "text": "Very tasty"},
+                  {"text": "Kind staff"}
+                ]}
+                """;
+        Mockito.when(translator.requestTranslate(ArgumentMatchers.<List<String>>any(), ArgumentMatchers.eq(LangCode.EN)))
+                .thenAnswer(o -> new ObjectMapper().readValue(body, DeeplBatchResponseDto.class).getTranslations());
+
+        // when
+        CompletableFuture<DeeplResponseDto> korean = batchingTranslator.translate("맛있어요", LangCode.EN);
+        CompletableFuture<DeeplResponseDto> arabic = batchingTranslator.translate("لذيذ جدا", LangCode.EN);
+        CompletableFuture<DeeplResponseDto> missing = batchingTranslator.translate("친절해요", LangCode.EN);
+
+        // then : 한 번에 전송되고, 알 수 없거나 빠진 원문 언어는 null
+        DeeplResponseDto koreanResult = korean.get(5, TimeUnit.SECONDS);
+        DeeplResponseDto arabicResult = arabic.get(5, TimeUnit.SECONDS);
+        DeeplResponseDto missingResult = missing.get(5, TimeUnit.SECONDS);
+        Mockito.verify(translator, Mockito.times(1))
+                .requestTranslate(ArgumentMatchers.<List<String>>any(), ArgumentMatchers.eq(LangCode.EN));
+        Assertions.assertEquals(LangCode.KO, koreanResult.getSourceLangCode());
+        Assertions.assertEquals("Delicious", koreanResult.getTranslatedText());
+        Assertions.assertNull(arabicResult.getSourceLangCode());
+        Assertions.assertEquals("Very tasty", arabicResult.getTranslatedText());
+        Assertions.assertNull(missingResult.getSourceLangCode());
+        Assertions.assertEquals("Kind staff", missingResult.getTranslatedText());
+    }
+}
@@ -0,0 +1,71 @@
+package com.chaeshin.boo.utils.translator;
+
+import com.chaeshin.boo.domain.LangCode;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class LanguageDetectorTest {
+
+    private final LanguageDetector languageDetector = new LanguageDetector();
+
+    @Test
+    void 언어_감지_정확도() throws IOException {
+        // given : LangCode 29개 언어별 리뷰 문장. 프로필에 쓰지 않은 문장들
+        List<String[]> samples = samples();
+
+        // when
+        int correct = 0;
+        List<String> wrong = new ArrayList<>();
+        List<String> undecided = new ArrayList<>();
+        for (String[] sample : samples) {
+            LangCode detected = languageDetector.detect(sample[1]);
+            if (detected == null) {
+                undecided.add(sample[0] + " : " + sample[1]);
+            } else if (sample[0].equals(detected.name())) {
+                correct++;
+            } else {
+                wrong.add(sample[0] + " -> " + detected + " : " + sample[1]);
+            }
+        }
+
+        // then : 감지 결과가 같으면 DeepL 호출을 건너뛰므로, 감지한 것 중 틀린 비율이 낮아야 한다.
+        // 감지하지 못한 문장은 DeepL 감지 결과를 쓰므로 정확도보다 정밀도가 중요하다. (측정값 : 정확도 0.71, 정밀도 0.96)
+        double accuracy = (double) correct / samples.size();
+        double precision = (double) correct / (correct + wrong.size());
+        Assertions.assertEquals(LangCode.values().length,
+                samples.stream().map(o -> o[0]).distinct().count());
+        Assertions.assertTrue(precision >= 0.95, "precision " + precision + " " + wrong);
+        Assertions.assertTrue(accuracy >= 0.65, "accuracy " + accuracy + " " + undecided);
+    }
+
+    @Test
+    void 근거가_없으면_감지하지_않음() {
+        Assertions.assertNull(languageDetector.detect(null));
+        Assertions.assertNull(languageDetector.detect("   "));
+        Assertions.assertNull(languageDetector.detect("10/10 !!!"));
+        Assertions.assertNull(languageDetector.detect("ok"));
+        // 노르웨이어/덴마크어 기능어가 거의 같은 수로 잡히는 문장
+        Assertions.assertNull(languageDetector.detect("Litt dyrt, men vi kommer gjerne tilbake."));
+    }
+
+    static List<String[]> samples() throws IOException {
+        List<String[]> samples = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                LanguageDetectorTest.class.getResourceAsStream("/langdetect/samples.tsv"), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                samples.add(line.split("\t", 2));
+            }
+        }
+        return samples;
+    }
+}